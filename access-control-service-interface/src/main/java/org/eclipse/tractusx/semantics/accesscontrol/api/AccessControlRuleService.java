@@ -41,4 +41,14 @@ public interface AccessControlRuleService {
 
    Map<String,Set<String>> findAllByBpnWithinValidityPeriod( String bpn, Instant now );
 
+   /**
+    * Returns the specificAssetIds grouped by name which can be used to pre-filter the shells in the database: a shell can only be
+    * visible for the BPN if it has at least one of the returned specificAssetIds. An empty map means that no shell is visible.
+    *
+    * @param bpn the BPN of the reader
+    * @param now the time used for evaluating the validity periods of the rules
+    * @return the values of the candidate specificAssetIds grouped by specificAssetId name
+    */
+   Map<String, Set<String>> findCandidateSpecificAssetIdsWithinValidityPeriod( String bpn, Instant now );
+
 }
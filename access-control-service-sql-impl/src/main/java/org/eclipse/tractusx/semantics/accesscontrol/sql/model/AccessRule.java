@@ -23,6 +23,7 @@ package org.eclipse.tractusx.semantics.accesscontrol.sql.model;
 import java.time.Instant;
 
 import org.eclipse.tractusx.semantics.accesscontrol.sql.model.converter.AccessRulePolicyConverter;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.service.AccessRuleIndexInvalidationListener;
 import org.eclipse.tractusx.semantics.accesscontrol.sql.validation.OnCreate;
 import org.eclipse.tractusx.semantics.accesscontrol.sql.validation.OnUpdate;
 import org.eclipse.tractusx.semantics.accesscontrol.sql.validation.ValidValidityPeriod;
@@ -30,6 +31,7 @@ import org.eclipse.tractusx.semantics.accesscontrol.sql.validation.ValidValidity
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -45,6 +47,7 @@ import lombok.Data;
 
 @Entity
 @Table( name = "ACCESS_RULE" )
+@EntityListeners( AccessRuleIndexInvalidationListener.class )
 @Data
 @ValidValidityPeriod( groups = { OnCreate.class, OnUpdate.class } )
 public class AccessRule {
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.accesscontrol.sql.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.tractusx.semantics.accesscontrol.api.model.SpecificAssetId;
+
+import lombok.NonNull;
+
+/**
+ * Immutable, pre-processed representation of an {@link AccessRule}. All derived sets are calculated once when the rule is compiled,
+ * therefore the evaluation of a rule does not need to walk the raw policy values again.
+ *
+ * @param id                                            the Id of the rule
+ * @param targetTenant                                  the tenant (BPN or wildcard) the rule is assigned to
+ * @param bpn                                           the BPN defined in the policy of the rule
+ * @param validFrom                                     the optional start of the validity period
+ * @param validTo                                       the optional end of the validity period
+ * @param mandatorySpecificAssetIds                     the specificAssetIds a shell must have for the rule to match
+ * @param visibleSpecificAssetIdNamesRegardlessOfValues the visible specificAssetId names which are not restricted by a mandatory value
+ * @param visibleSpecificAssetIdWhenMatchingValues      the visible specificAssetId names which are only visible with the mandatory values
+ * @param visibleSemanticIds                            the semanticIds of the visible submodels
+ */
+public record CompiledAccessRule(
+      Long id, @NonNull String targetTenant, String bpn, Instant validFrom, Instant validTo,
+      @NonNull Set<SpecificAssetId> mandatorySpecificAssetIds, @NonNull Set<String> visibleSpecificAssetIdNamesRegardlessOfValues,
+      @NonNull Map<String, Set<String>> visibleSpecificAssetIdWhenMatchingValues, @NonNull Set<String> visibleSemanticIds) {
+
+   /**
+    * Compiles the provided rule. In case the rule targets the wildcard tenant, only the visible specificAssetId names
+    * allowed for the wildcard are kept.
+    *
+    * @param accessRule           the rule to compile
+    * @param bpnWildcard          the wildcard tenant making the rule applicable for everyone
+    * @param wildcardAllowedTypes the specificAssetId names which can be made visible using the wildcard tenant
+    * @return the compiled rule
+    */
+   public static CompiledAccessRule compile( AccessRule accessRule, String bpnWildcard, List<String> wildcardAllowedTypes ) {
+      final AccessRulePolicy policy = accessRule.getPolicy();
+      final Set<SpecificAssetId> mandatory = Set.copyOf( policy.getMandatorySpecificAssetIds() );
+      final Set<String> mandatoryNames = mandatory.stream().map( SpecificAssetId::name ).collect( Collectors.toSet() );
+      final Set<String> visibleNames = policy.getVisibleSpecificAssetIdNames().stream()
+            .filter( Objects::nonNull )
+            .filter( name -> !bpnWildcard.equals( accessRule.getTargetTenant() ) || wildcardAllowedTypes.contains( name ) )
+            .collect( Collectors.toSet() );
+
+      final Set<String> visibleRegardlessOfValues = visibleNames.stream()
+            .filter( name -> !mandatoryNames.contains( name ) )
+            .collect( Collectors.toUnmodifiableSet() );
+      final Map<String, Set<String>> visibleWhenMatchingValues = mandatory.stream()
+            .filter( id -> visibleNames.contains( id.name() ) )
+            .collect( Collectors.groupingBy( SpecificAssetId::name, Collectors.mapping( SpecificAssetId::value, Collectors.toUnmodifiableSet() ) ) );
+
+      return new CompiledAccessRule( accessRule.getId(), accessRule.getTargetTenant(), policy.getBpn(), accessRule.getValidFrom(),
+            accessRule.getValidTo(), mandatory, visibleRegardlessOfValues, Map.copyOf( visibleWhenMatchingValues ),
+            policy.getVisibleSemanticIds().stream().filter( Objects::nonNull ).collect( Collectors.toUnmodifiableSet() ) );
+   }
+
+   public boolean isActiveAt( Instant instant ) {
+      return (validFrom == null || !validFrom.isAfter( instant )) && (validTo == null || !validTo.isBefore( instant ));
+   }
+
+   public boolean isMatching( Set<SpecificAssetId> specificAssetIds ) {
+      return specificAssetIds.containsAll( mandatorySpecificAssetIds );
+   }
+}
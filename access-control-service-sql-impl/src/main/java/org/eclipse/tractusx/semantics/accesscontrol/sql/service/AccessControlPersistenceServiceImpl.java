@@ -30,6 +30,7 @@ import org.eclipse.tractusx.semantics.accesscontrol.sql.model.AccessRule;
 import org.eclipse.tractusx.semantics.accesscontrol.sql.repository.AccessControlRuleRepository;
 import org.eclipse.tractusx.semantics.accesscontrol.sql.validation.OnCreate;
 import org.eclipse.tractusx.semantics.accesscontrol.sql.validation.OnUpdate;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -45,12 +46,14 @@ public class AccessControlPersistenceServiceImpl implements AccessControlPersist
    private final AccessControlRuleRepository accessControlRuleRepository;
    private final Validator validator;
    private final String ownerTenant;
+   private final ObjectProvider<AccessRuleChangeNotifier> accessRuleChangeNotifier;
 
    public AccessControlPersistenceServiceImpl(
          AccessControlRuleRepository accessControlRuleRepository, Validator validator,
-         @Value( "${registry.idm.owning-tenant-id:}" ) String ownerTenant ) {
+         @Value( "${registry.idm.owning-tenant-id:}" ) String ownerTenant, ObjectProvider<AccessRuleChangeNotifier> accessRuleChangeNotifier ) {
       this.accessControlRuleRepository = accessControlRuleRepository;
       this.validator = validator;
+      this.accessRuleChangeNotifier = accessRuleChangeNotifier;
       this.ownerTenant = Objects.requireNonNull( StringUtils.stripToNull( ownerTenant ), "OwnerTenantId is not set!" );
    }
 
@@ -74,7 +77,9 @@ public class AccessControlPersistenceServiceImpl implements AccessControlPersist
       if ( !violations.isEmpty() ) {
          throw new ConstraintViolationException( violations );
       }
-      return accessControlRuleRepository.saveAndFlush( rule );
+      final AccessRule saved = accessControlRuleRepository.saveAndFlush( rule );
+      notifyAccessRuleChanged( saved.getId() );
+      return saved;
    }
 
    @Override
@@ -95,13 +100,20 @@ public class AccessControlPersistenceServiceImpl implements AccessControlPersist
       entity.setDescription( rule.getDescription() );
       entity.setValidFrom( rule.getValidFrom() );
       entity.setValidTo( rule.getValidTo() );
-      return accessControlRuleRepository.saveAndFlush( entity );
+      final AccessRule updated = accessControlRuleRepository.saveAndFlush( entity );
+      notifyAccessRuleChanged( ruleId );
+      return updated;
    }
 
    @Override
    @Transactional( propagation = Propagation.REQUIRED )
    public void deleteRule( Long ruleId ) {
       accessControlRuleRepository.deleteById( ruleId );
+      notifyAccessRuleChanged( ruleId );
+   }
+
+   private void notifyAccessRuleChanged( Long ruleId ) {
+      accessRuleChangeNotifier.ifAvailable( notifier -> notifier.notifyAccessRuleChanged( ruleId ) );
    }
 
    private void verifyRuleId( Long ruleId, AccessRule rule ) {
@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.accesscontrol.sql.service;
+
+/**
+ * Informs other instances of the application about changed access rules, allowing them to invalidate their {@link AccessRuleIndex}.
+ * The local index is invalidated by the {@link AccessRuleIndexInvalidationListener} regardless of this notification.
+ */
+public interface AccessRuleChangeNotifier {
+
+   /**
+    * Called within the transaction changing the rule.
+    *
+    * @param ruleId the Id of the created, updated or deleted rule
+    */
+   void notifyAccessRuleChanged( Long ruleId );
+}
@@ -0,0 +1,316 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.accesscontrol.sql.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.tractusx.semantics.accesscontrol.api.model.SpecificAssetId;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.model.CompiledAccessRule;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.repository.AccessControlRuleRepository;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory index of the compiled access rules grouped by target tenant.
+ * <p>
+ * The rules are loaded from the database once and kept until the index is invalidated (see {@link AccessRuleIndexInvalidationListener})
+ * or the configured maximum age is reached. A maximum age of zero disables the caching, every lookup then only loads the rules of the
+ * BPN which are active at the time of the lookup.
+ * The rules which are active for a BPN are calculated lazily and cached together with the time window in which the same rules remain
+ * active, therefore validity periods opening or closing are taken into account without reloading the rules from the database.
+ */
+@Slf4j
+public class AccessRuleIndex {
+
+   private final AccessControlRuleRepository repository;
+   private final String bpnWildcard;
+   private final List<String> wildcardAllowedTypes;
+   private final Duration maxAge;
+   private final Clock clock;
+   private final AtomicLong generation = new AtomicLong();
+   private final List<Runnable> invalidationListeners = new CopyOnWriteArrayList<>();
+   private volatile Snapshot snapshot;
+
+   public AccessRuleIndex( @NonNull AccessControlRuleRepository repository, @NonNull String bpnWildcard, @NonNull List<String> wildcardAllowedTypes,
+         @NonNull Duration maxAge ) {
+      this( repository, bpnWildcard, wildcardAllowedTypes, maxAge, Clock.systemUTC() );
+   }
+
+   AccessRuleIndex( @NonNull AccessControlRuleRepository repository, @NonNull String bpnWildcard, @NonNull List<String> wildcardAllowedTypes,
+         @NonNull Duration maxAge, @NonNull Clock clock ) {
+      this.repository = repository;
+      this.bpnWildcard = bpnWildcard;
+      this.wildcardAllowedTypes = wildcardAllowedTypes;
+      this.maxAge = maxAge;
+      this.clock = clock;
+   }
+
+   /**
+    * Returns the compiled rules of the BPN (including the rules of the wildcard tenant) which are active at the given instant.
+    *
+    * @param bpn     the BPN of the reader
+    * @param instant the time used for evaluating the validity periods
+    * @return the active rules
+    */
+   public BpnAccessRules findActiveRules( String bpn, Instant instant ) {
+      if ( !isCachingEnabled() ) {
+         return loadActiveRules( bpn, instant );
+      }
+      final Snapshot current = currentSnapshot();
+      // unknown BPNs share the view of the wildcard tenant to keep the number of cached views bounded by the number of tenants with rules
+      final String key = current.rulesByTargetTenant().containsKey( bpn ) ? bpn : bpnWildcard;
+      final BpnAccessRules cached = current.activeRulesByBpn().get( key );
+      if ( cached != null && cached.covers( instant ) ) {
+         return cached;
+      }
+      final BpnAccessRules calculated = calculateActiveRules( current, key, instant );
+      current.activeRulesByBpn().put( key, calculated );
+      return calculated;
+   }
+
+   /**
+    * Drops the loaded rules. The next lookup will reload all rules from the database.
+    */
+   public void invalidate() {
+      generation.incrementAndGet();
+      snapshot = null;
+      invalidationListeners.forEach( Runnable::run );
+   }
+
+   /**
+    * Registers a listener called whenever the index is invalidated, i.e. whenever an access rule was changed by this or by another
+    * instance. Caches of decisions derived from the rules use it to drop their decisions together with the rules.
+    *
+    * @param listener called after the loaded rules were dropped
+    */
+   public void addInvalidationListener( Runnable listener ) {
+      invalidationListeners.add( listener );
+   }
+
+   private boolean isCachingEnabled() {
+      return !maxAge.isZero() && !maxAge.isNegative();
+   }
+
+   /**
+    * Loads only the rules of the BPN and of the wildcard tenant which are active at the given instant, used when the caching is disabled.
+    */
+   private BpnAccessRules loadActiveRules( String bpn, Instant instant ) {
+      final List<CompiledAccessRule> active = repository.findAllByBpnWithinValidityPeriod( bpn, bpnWildcard, instant ).stream()
+            .map( accessRule -> CompiledAccessRule.compile( accessRule, bpnWildcard, wildcardAllowedTypes ) )
+            .filter( rule -> rule.isActiveAt( instant ) )
+            .toList();
+      return new BpnAccessRules( active, instant, instant.plusNanos( 1 ) );
+   }
+
+   private Snapshot currentSnapshot() {
+      final Snapshot current = snapshot;
+      if ( current != null && !current.isExpired( clock.instant(), maxAge ) ) {
+         return current;
+      }
+      synchronized ( this ) {
+         final Snapshot recheck = snapshot;
+         if ( recheck != null && !recheck.isExpired( clock.instant(), maxAge ) ) {
+            return recheck;
+         }
+         final long loadedGeneration = generation.get();
+         final Snapshot loaded = load();
+         // an invalidation during loading means that the loaded state may be outdated, use it only for the current request
+         if ( loadedGeneration == generation.get() ) {
+            snapshot = loaded;
+         }
+         return loaded;
+      }
+   }
+
+   private Snapshot load() {
+      final Instant loadedAt = clock.instant();
+      final Map<String, List<CompiledAccessRule>> rulesByTargetTenant = repository.findAll().stream()
+            .map( accessRule -> CompiledAccessRule.compile( accessRule, bpnWildcard, wildcardAllowedTypes ) )
+            .collect( Collectors.groupingBy( CompiledAccessRule::targetTenant, Collectors.toUnmodifiableList() ) );
+      if ( log.isDebugEnabled() ) {
+         log.debug( "Loaded access rules for {} target tenants.", rulesByTargetTenant.size() );
+      }
+      return new Snapshot( loadedAt, Map.copyOf( rulesByTargetTenant ), new ConcurrentHashMap<>() );
+   }
+
+   private BpnAccessRules calculateActiveRules( Snapshot current, String bpn, Instant instant ) {
+      final List<CompiledAccessRule> candidates = Stream.of( bpn, bpnWildcard )
+            .distinct()
+            .map( key -> current.rulesByTargetTenant().getOrDefault( key, List.of() ) )
+            .flatMap( Collection::stream )
+            .toList();
+
+      Instant windowStart = Instant.MIN;
+      Instant windowEnd = Instant.MAX;
+      for ( CompiledAccessRule rule : candidates ) {
+         for ( Instant boundary : validityBoundariesOf( rule ) ) {
+            if ( boundary.isAfter( instant ) ) {
+               windowEnd = boundary.isBefore( windowEnd ) ? boundary : windowEnd;
+            } else {
+               windowStart = boundary.isAfter( windowStart ) ? boundary : windowStart;
+            }
+         }
+      }
+      final List<CompiledAccessRule> active = candidates.stream()
+            .filter( rule -> rule.isActiveAt( instant ) )
+            .toList();
+      return new BpnAccessRules( active, windowStart, windowEnd );
+   }
+
+   /**
+    * The instants when the rule becomes active or inactive. The validTo timestamp is inclusive, therefore the rule only becomes inactive
+    * right after it.
+    */
+   private List<Instant> validityBoundariesOf( CompiledAccessRule rule ) {
+      return Stream.of( rule.validFrom(), Objects.isNull( rule.validTo() ) ? null : rule.validTo().plusNanos( 1 ) )
+            .filter( Objects::nonNull )
+            .toList();
+   }
+
+   private record Snapshot(Instant loadedAt, Map<String, List<CompiledAccessRule>> rulesByTargetTenant,
+                           Map<String, BpnAccessRules> activeRulesByBpn) {
+
+      boolean isExpired( Instant now, Duration maxAge ) {
+         return loadedAt.plus( maxAge ).isBefore( now );
+      }
+   }
+
+   /**
+    * The rules of a BPN which are active within the window between {@code windowStart} (inclusive) and {@code windowEnd} (exclusive).
+    */
+   public static final class BpnAccessRules {
+
+      private final List<CompiledAccessRule> rules;
+      private final List<CompiledAccessRule> rulesWithMandatorySpecificAssetIds;
+      private final Map<SpecificAssetId, List<CompiledAccessRule>> rulesByMandatorySpecificAssetId;
+      private final Map<String, Set<String>> mandatorySpecificAssetIdValuesByName;
+      private final Map<String, Set<String>> candidateSpecificAssetIdValuesByName;
+      private final Instant windowStart;
+      private final Instant windowEnd;
+
+      BpnAccessRules( List<CompiledAccessRule> rules, Instant windowStart, Instant windowEnd ) {
+         this.rules = List.copyOf( rules );
+         this.rulesWithMandatorySpecificAssetIds = rules.stream()
+               .filter( rule -> !rule.mandatorySpecificAssetIds().isEmpty() )
+               .toList();
+         this.rulesByMandatorySpecificAssetId = indexByLeastFrequentMandatorySpecificAssetId( rulesWithMandatorySpecificAssetIds );
+         this.mandatorySpecificAssetIdValuesByName = Map.copyOf( rules.stream()
+               .map( CompiledAccessRule::mandatorySpecificAssetIds )
+               .flatMap( Collection::stream )
+               .collect( Collectors.groupingBy( SpecificAssetId::name, Collectors.mapping( SpecificAssetId::value, Collectors.toUnmodifiableSet() ) ) ) );
+         this.candidateSpecificAssetIdValuesByName = Map.copyOf( rulesByMandatorySpecificAssetId.keySet().stream()
+               .collect( Collectors.groupingBy( SpecificAssetId::name, Collectors.mapping( SpecificAssetId::value, Collectors.toUnmodifiableSet() ) ) ) );
+         this.windowStart = windowStart;
+         this.windowEnd = windowEnd;
+      }
+
+      public boolean isEmpty() {
+         return rules.isEmpty();
+      }
+
+      public List<CompiledAccessRule> rulesWithMandatorySpecificAssetIds() {
+         return rulesWithMandatorySpecificAssetIds;
+      }
+
+      /**
+       * Finds the rules whose mandatory specificAssetIds are all contained in the provided specificAssetIds. Only the rules indexed
+       * by one of the provided specificAssetIds are evaluated, therefore the cost depends on the number of specificAssetIds of the
+       * shell and not on the number of rules of the BPN.
+       *
+       * @param specificAssetIds the specificAssetIds of a shell
+       * @return the matching rules
+       */
+      public List<CompiledAccessRule> findMatchingRules( Set<SpecificAssetId> specificAssetIds ) {
+         return findMatchingRules( specificAssetIds, evaluatedRules -> {
+         } );
+      }
+
+      /**
+       * Finds the rules whose mandatory specificAssetIds are all contained in the provided specificAssetIds, see
+       * {@link #findMatchingRules(Set)}.
+       *
+       * @param specificAssetIds the specificAssetIds of a shell
+       * @param evaluatedRules   receives the number of rules evaluated for the shell
+       * @return the matching rules
+       */
+      public List<CompiledAccessRule> findMatchingRules( Set<SpecificAssetId> specificAssetIds, IntConsumer evaluatedRules ) {
+         final List<CompiledAccessRule> candidates = specificAssetIds.stream()
+               .map( specificAssetId -> rulesByMandatorySpecificAssetId.getOrDefault( specificAssetId, List.of() ) )
+               .flatMap( Collection::stream )
+               .toList();
+         evaluatedRules.accept( candidates.size() );
+         return candidates.stream()
+               .filter( rule -> rule.isMatching( specificAssetIds ) )
+               .toList();
+      }
+
+      /**
+       * @return the values of the specificAssetIds used as index keys grouped by specificAssetId name, a shell must have at least one
+       *       of them to match any of the rules
+       */
+      public Map<String, Set<String>> candidateSpecificAssetIdValuesByName() {
+         return candidateSpecificAssetIdValuesByName;
+      }
+
+      /**
+       * @return the values of the mandatory specificAssetIds of all active rules grouped by specificAssetId name
+       */
+      public Map<String, Set<String>> mandatorySpecificAssetIdValuesByName() {
+         return mandatorySpecificAssetIdValuesByName;
+      }
+
+      /**
+       * Indexes every rule by exactly one of its mandatory specificAssetIds. A rule can only match a shell having all of its mandatory
+       * specificAssetIds, therefore any of them is a suitable key. Choosing the one shared by the fewest rules keeps the candidate lists
+       * short, and indexing each rule once guarantees that a rule is evaluated at most once per shell.
+       */
+      private static Map<SpecificAssetId, List<CompiledAccessRule>> indexByLeastFrequentMandatorySpecificAssetId( List<CompiledAccessRule> rules ) {
+         final Map<SpecificAssetId, Long> frequencies = rules.stream()
+               .map( CompiledAccessRule::mandatorySpecificAssetIds )
+               .flatMap( Collection::stream )
+               .collect( Collectors.groupingBy( Function.identity(), Collectors.counting() ) );
+         final Comparator<SpecificAssetId> byFrequency = Comparator.comparing( frequencies::get );
+         return Map.copyOf( rules.stream()
+               .collect( Collectors.groupingBy( rule -> rule.mandatorySpecificAssetIds().stream().min( byFrequency ).orElseThrow(),
+                     Collectors.toUnmodifiableList() ) ) );
+      }
+
+      boolean covers( Instant instant ) {
+         return !instant.isBefore( windowStart ) && instant.isBefore( windowEnd );
+      }
+   }
+}
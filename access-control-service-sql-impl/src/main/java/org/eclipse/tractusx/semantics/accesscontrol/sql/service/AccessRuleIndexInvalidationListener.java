@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.accesscontrol.sql.service;
+
+import org.eclipse.tractusx.semantics.accesscontrol.sql.model.AccessRule;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA entity listener invalidating the {@link AccessRuleIndex} whenever an {@link AccessRule} is created, updated or deleted.
+ * The invalidation is repeated after the commit of the surrounding transaction to make sure that the index cannot keep
+ * the state which was loaded before the changes became visible.
+ * <p>
+ * The listener is instantiated by the Spring bean container of Hibernate.
+ */
+public class AccessRuleIndexInvalidationListener {
+
+   private final ObjectProvider<AccessRuleIndex> accessRuleIndex;
+
+   public AccessRuleIndexInvalidationListener( ObjectProvider<AccessRuleIndex> accessRuleIndex ) {
+      this.accessRuleIndex = accessRuleIndex;
+   }
+
+   @PostPersist
+   @PostUpdate
+   @PostRemove
+   public void onAccessRuleChanged( AccessRule accessRule ) {
+      accessRuleIndex.ifAvailable( AccessRuleIndex::invalidate );
+      if ( TransactionSynchronizationManager.isSynchronizationActive() ) {
+         TransactionSynchronizationManager.registerSynchronization( new TransactionSynchronization() {
+            @Override
+            public void afterCompletion( int status ) {
+               accessRuleIndex.ifAvailable( AccessRuleIndex::invalidate );
+            }
+         } );
+      }
+   }
+}
@@ -20,26 +20,31 @@
 
 package org.eclipse.tractusx.semantics.accesscontrol.sql.service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.tractusx.semantics.accesscontrol.api.AccessControlRuleService;
 import org.eclipse.tractusx.semantics.accesscontrol.api.exception.DenyAccessException;
 import org.eclipse.tractusx.semantics.accesscontrol.api.model.ShellVisibilityContext;
 import org.eclipse.tractusx.semantics.accesscontrol.api.model.ShellVisibilityCriteria;
 import org.eclipse.tractusx.semantics.accesscontrol.api.model.SpecificAssetId;
-import org.eclipse.tractusx.semantics.accesscontrol.sql.model.AccessRule;
-import org.eclipse.tractusx.semantics.accesscontrol.sql.model.AccessRulePolicy;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.model.CompiledAccessRule;
 import org.eclipse.tractusx.semantics.accesscontrol.sql.repository.AccessControlRuleRepository;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.service.AccessRuleIndex.BpnAccessRules;
 import org.springframework.dao.DataAccessException;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
@@ -47,136 +52,140 @@ import lombok.extern.slf4j.Slf4j;
 public class SqlBackedAccessControlRuleService implements AccessControlRuleService {
 
    private static final String NO_MATCHING_RULES_ARE_FOUND = "No matching rules are found.";
-   private final AccessControlRuleRepository repository;
-   private final String bpnWildcard;
-   private final List<String> wildcardAllowedTypes;
+   private static final String EVALUATED_RULES_METRIC = "registry.access.rules.evaluated";
+   private final AccessRuleIndex accessRuleIndex;
+   private final DistributionSummary evaluatedRulesForVisibility;
+   private final DistributionSummary evaluatedRulesForLookup;
 
    public SqlBackedAccessControlRuleService( @NonNull AccessControlRuleRepository repository, @NonNull String bpnWildcard,
          @NonNull List<String> wildcardAllowedTypes ) {
-      this.repository = repository;
-      this.bpnWildcard = bpnWildcard;
-      this.wildcardAllowedTypes = wildcardAllowedTypes;
+      this( new AccessRuleIndex( repository, bpnWildcard, wildcardAllowedTypes, Duration.ZERO ) );
+   }
+
+   public SqlBackedAccessControlRuleService( @NonNull AccessRuleIndex accessRuleIndex ) {
+      // without a registry the metrics are recorded by a composite registry which has no registries to forward them to
+      this( accessRuleIndex, new CompositeMeterRegistry() );
+   }
+
+   /**
+    * @param accessRuleIndex the index of the active access rules
+    * @param meterRegistry   records the number of access rules evaluated per call
+    */
+   public SqlBackedAccessControlRuleService( @NonNull AccessRuleIndex accessRuleIndex, @NonNull MeterRegistry meterRegistry ) {
+      this.accessRuleIndex = accessRuleIndex;
+      this.evaluatedRulesForVisibility = evaluatedRulesSummary( meterRegistry, "visibility" );
+      this.evaluatedRulesForLookup = evaluatedRulesSummary( meterRegistry, "lookup" );
+   }
+
+   private static DistributionSummary evaluatedRulesSummary( MeterRegistry meterRegistry, String evaluation ) {
+      return DistributionSummary.builder( EVALUATED_RULES_METRIC )
+            .description( "The number of access rules evaluated for the shells of a single call" )
+            .tag( "evaluation", evaluation )
+            .register( meterRegistry );
    }
 
    @Override
    public List<String> filterValidSpecificAssetIdsForLookup(
          Set<SpecificAssetId> userQuery, List<ShellVisibilityContext> shellContext, String bpn ) throws DenyAccessException {
-      Set<AccessRulePolicy> allAccessControlRulesForBpn = findPotentiallyMatchingAccessControlRules( bpn ).collect( Collectors.toSet() );
-      return shellContext.stream()
+      final BpnAccessRules allAccessControlRulesForBpn = findPotentiallyMatchingAccessControlRules( bpn );
+      final LongAdder evaluatedRules = new LongAdder();
+      final List<String> visibleShellIds = shellContext.stream()
             .filter( aShellContext -> {
-               Set<String> visibleSpecificAssetIdNamesRegardlessOfValues = allAccessControlRulesForBpn.stream()
-                     .filter( accessControlRule -> aShellContext.specificAssetIds().containsAll(
-                           accessControlRule.getMandatorySpecificAssetIds() ) )
-                     .flatMap( this::keepVisibleSpecificAssetIdNamesWithoutValueRestrictions )
-                     .collect( Collectors.toSet() );
-
-               Map<String, Set<String>> visibleSpecificAssetIdWhenMatchingValues = allAccessControlRulesForBpn.stream()
-                     .filter( accessControlRule -> aShellContext.specificAssetIds().containsAll(
-                           accessControlRule.getMandatorySpecificAssetIds() ) )
-                     .flatMap( this::keepVisibleSpecificAssetIdNamesWithValueRestrictions )
-                     .collect( Collectors.groupingBy( SpecificAssetId::name, Collectors.mapping( SpecificAssetId::value, Collectors.toSet() ) ) );
-
-               return aShellContext.specificAssetIds().stream()
-                     .filter( id -> isSpecificAssetIdVisible( id, visibleSpecificAssetIdNamesRegardlessOfValues, visibleSpecificAssetIdWhenMatchingValues ) )
-                     .collect( Collectors.toSet() )
-                     .containsAll( userQuery );
+               final List<CompiledAccessRule> matchingRules = allAccessControlRulesForBpn.findMatchingRules( aShellContext.specificAssetIds(),
+                     evaluatedRules::add );
+               return userQuery.stream()
+                     .allMatch( id -> aShellContext.specificAssetIds().contains( id ) && isSpecificAssetIdVisible( id, matchingRules ) );
             } )
             .map( ShellVisibilityContext::aasId )
             .toList();
+      evaluatedRulesForLookup.record( evaluatedRules.sum() );
+      return visibleShellIds;
    }
 
    @Override
    public ShellVisibilityCriteria fetchVisibilityCriteriaForShell( ShellVisibilityContext shellContext, String bpn ) throws DenyAccessException {
-      Set<AccessRulePolicy> matchingAccessControlRules = findMatchingAccessControlRules( shellContext, bpn );
+      final LongAdder evaluatedRules = new LongAdder();
+      try {
+         return fetchVisibilityCriteriaForShell( shellContext, bpn, evaluatedRules::add );
+      } finally {
+         evaluatedRulesForVisibility.record( evaluatedRules.sum() );
+      }
+   }
+
+   private ShellVisibilityCriteria fetchVisibilityCriteriaForShell( ShellVisibilityContext shellContext, String bpn, IntConsumer evaluatedRules )
+         throws DenyAccessException {
+      List<CompiledAccessRule> matchingAccessControlRules = findMatchingAccessControlRules( shellContext, bpn, evaluatedRules );
       Set<String> visibleSpecificAssetIdNamesRegardlessOfValues = matchingAccessControlRules.stream()
-            .flatMap( this::keepVisibleSpecificAssetIdNamesWithoutValueRestrictions )
+            .map( CompiledAccessRule::visibleSpecificAssetIdNamesRegardlessOfValues )
+            .flatMap( Collection::stream )
             .collect( Collectors.toSet() );
 
       Map<String, Set<String>> visibleSpecificAssetIdWhenMatchingValues = matchingAccessControlRules.stream()
-            .flatMap( this::keepVisibleSpecificAssetIdNamesWithValueRestrictions )
-            .collect( Collectors.groupingBy( SpecificAssetId::name, Collectors.mapping( SpecificAssetId::value, Collectors.toSet() ) ) );
+            .map( CompiledAccessRule::visibleSpecificAssetIdWhenMatchingValues )
+            .flatMap( valuesByName -> valuesByName.entrySet().stream() )
+            .collect( Collectors.groupingBy( Map.Entry::getKey,
+                  Collectors.flatMapping( entry -> entry.getValue().stream(), Collectors.toSet() ) ) );
 
       Set<String> visibleSemanticIds = matchingAccessControlRules.stream()
-            .map( AccessRulePolicy::getVisibleSemanticIds )
+            .map( CompiledAccessRule::visibleSemanticIds )
             .flatMap( Collection::stream )
             .collect( Collectors.toSet() );
-      boolean publicOnly = matchingAccessControlRules.stream().noneMatch( rule -> rule.getBpn().equals( bpn ) );
+      boolean publicOnly = matchingAccessControlRules.stream().noneMatch( rule -> bpn.equals( rule.bpn() ) );
       return new ShellVisibilityCriteria( shellContext.aasId(), visibleSpecificAssetIdNamesRegardlessOfValues, visibleSpecificAssetIdWhenMatchingValues,
             visibleSemanticIds, publicOnly );
    }
 
    @Override
    public Map<String, ShellVisibilityCriteria> fetchVisibilityCriteriaForShells( List<ShellVisibilityContext> shellContexts, String bpn ) {
-      return shellContexts.stream()
+      final LongAdder evaluatedRules = new LongAdder();
+      final Map<String, ShellVisibilityCriteria> visibilityCriteria = shellContexts.stream()
             .map( aShellContext -> {
                try {
-                  return fetchVisibilityCriteriaForShell( aShellContext, bpn );
+                  return fetchVisibilityCriteriaForShell( aShellContext, bpn, evaluatedRules::add );
                } catch ( DenyAccessException e ) {
                   return null;
                }
             } )
             .filter( Objects::nonNull )
             .collect( Collectors.toMap( ShellVisibilityCriteria::aasId, Function.identity() ) );
+      evaluatedRulesForVisibility.record( evaluatedRules.sum() );
+      return visibilityCriteria;
    }
 
-   private Stream<AccessRulePolicy> findPotentiallyMatchingAccessControlRules( String bpn ) throws DenyAccessException {
+   private BpnAccessRules findPotentiallyMatchingAccessControlRules( String bpn ) throws DenyAccessException {
       try {
-         List<AccessRule> allByBpn = findAllByBpn( bpn );
-         if ( allByBpn == null || allByBpn.isEmpty() ) {
+         BpnAccessRules allByBpn = accessRuleIndex.findActiveRules( bpn, Instant.now() );
+         if ( allByBpn.isEmpty() ) {
             throw new DenyAccessException( NO_MATCHING_RULES_ARE_FOUND );
          }
-         return allByBpn.stream().map( AccessRule::getPolicy ).filter( policy -> !policy.getMandatorySpecificAssetIds().isEmpty() );
+         return allByBpn;
       } catch ( DataAccessException e ) {
          log.error( "Failed to fetch rules for BPN: " + bpn, e.getMessage() );
          throw new DenyAccessException( NO_MATCHING_RULES_ARE_FOUND );
       }
    }
 
-   private List<AccessRule> findAllByBpn( String bpn ) {
-      List<AccessRule> accessRules = repository.findAllByBpnWithinValidityPeriod( bpn, bpnWildcard, Instant.now() );
-
-      accessRules.stream()
-            .filter( accessRule -> bpnWildcard.equals( accessRule.getTargetTenant() ) )
-            .forEach( accessRule -> {
-               accessRule.getPolicy().getVisibleSpecificAssetIdNames().stream()
-                     .filter( value -> !wildcardAllowedTypes.contains( value ) )
-                     .forEach( value -> accessRule.getPolicy().removeVisibleSpecificAssetIdName( value ) );
-            } );
-
-      return accessRules;
-   }
-
-   private Set<AccessRulePolicy> findMatchingAccessControlRules( ShellVisibilityContext shellContext, String bpn ) throws DenyAccessException {
-      Set<AccessRulePolicy> matching = findPotentiallyMatchingAccessControlRules( bpn )
-            .filter( accessControlRule -> shellContext.specificAssetIds().containsAll( accessControlRule.getMandatorySpecificAssetIds() ) )
-            .collect( Collectors.toSet() );
+   private List<CompiledAccessRule> findMatchingAccessControlRules( ShellVisibilityContext shellContext, String bpn, IntConsumer evaluatedRules )
+         throws DenyAccessException {
+      List<CompiledAccessRule> matching = findPotentiallyMatchingAccessControlRules( bpn ).findMatchingRules( shellContext.specificAssetIds(),
+            evaluatedRules );
       if ( matching.isEmpty() ) {
          throw new DenyAccessException( NO_MATCHING_RULES_ARE_FOUND );
       }
       return matching;
    }
 
-   private boolean isSpecificAssetIdVisible( SpecificAssetId specificAssetId, Set<String> visibleSpecificAssetIdNamesRegardlessOfValues,
-         Map<String, Set<String>> visibleSpecificAssetIdWhenMatchingValues ) {
-      return visibleSpecificAssetIdNamesRegardlessOfValues.contains( specificAssetId.name() )
-            || visibleSpecificAssetIdWhenMatchingValues.getOrDefault( specificAssetId.name(), Set.of() ).contains( specificAssetId.value() );
-   }
-
-   private Stream<String> keepVisibleSpecificAssetIdNamesWithoutValueRestrictions( AccessRulePolicy accessRulePolicy ) {
-      return accessRulePolicy.getVisibleSpecificAssetIdNames().stream()
-            .filter( name -> accessRulePolicy.getMandatorySpecificAssetIds().stream().map( SpecificAssetId::name ).noneMatch( name::equals ) );
-   }
-
-   private Stream<SpecificAssetId> keepVisibleSpecificAssetIdNamesWithValueRestrictions( AccessRulePolicy accessRulePolicy ) {
-      return accessRulePolicy.getMandatorySpecificAssetIds().stream()
-            .filter( mandatory -> accessRulePolicy.getVisibleSpecificAssetIdNames().contains( mandatory.name() ) );
+   private boolean isSpecificAssetIdVisible( SpecificAssetId specificAssetId, List<CompiledAccessRule> matchingRules ) {
+      return matchingRules.stream().anyMatch( rule ->
+            rule.visibleSpecificAssetIdNamesRegardlessOfValues().contains( specificAssetId.name() )
+                  || rule.visibleSpecificAssetIdWhenMatchingValues().getOrDefault( specificAssetId.name(), Set.of() ).contains( specificAssetId.value() ) );
    }
 
    /**
     * Retrieves all mandatory specific asset ID name-value pairs for a given BPN (Business Partner Number)
     * within the validity period.
     *
-    * This method queries the repository to find all access rules associated with the specified BPN
+    * This method uses the compiled access rules associated with the specified BPN
     * and maps their mandatory specific asset IDs into a grouped structure of names and corresponding values.
     *
     * @param bpn The Business Partner Number for which the mandatory specific asset IDs are to be retrieved.
@@ -184,10 +193,11 @@ public class SqlBackedAccessControlRuleService implements AccessControlRuleServi
     * @return A map where the keys are specific asset ID names and the values are sets of corresponding specific asset ID values.
     */
    public Map<String,Set<String>> findAllByBpnWithinValidityPeriod( String bpn, Instant instant ){
-         return repository.findAllByBpnWithinValidityPeriod( bpn, bpnWildcard, instant ).stream()
-         .map(AccessRule::getPolicy )
-         .map(AccessRulePolicy::getMandatorySpecificAssetIds)
-         .flatMap(Collection::stream)
-         .collect( Collectors.groupingBy(SpecificAssetId::name, Collectors.mapping(SpecificAssetId::value, Collectors.toSet())));
+      return accessRuleIndex.findActiveRules( bpn, instant ).mandatorySpecificAssetIdValuesByName();
+   }
+
+   @Override
+   public Map<String, Set<String>> findCandidateSpecificAssetIdsWithinValidityPeriod( String bpn, Instant now ) {
+      return accessRuleIndex.findActiveRules( bpn, now ).candidateSpecificAssetIdValuesByName();
    }
 }
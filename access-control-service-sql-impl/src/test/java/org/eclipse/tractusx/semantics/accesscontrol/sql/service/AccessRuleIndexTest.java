@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.accesscontrol.sql.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.tractusx.semantics.accesscontrol.api.model.SpecificAssetId;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.model.AccessRule;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.model.AccessRulePolicy;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.model.CompiledAccessRule;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.model.policy.AccessRulePolicyValue;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.model.policy.PolicyOperator;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.repository.AccessControlRuleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AccessRuleIndexTest {
+
+   private static final String WILDCARD = "PUBLIC_READABLE";
+   private static final String BPNA = "BPNL00000000000A";
+   private static final String BPNB = "BPNL00000000000B";
+   private static final Instant NOW = Instant.parse( "2025-01-01T12:00:00Z" );
+   private static final Duration MAX_AGE = Duration.ofMinutes( 5 );
+
+   private AccessControlRuleRepository repository;
+
+   @BeforeEach
+   void setUp() {
+      repository = mock();
+   }
+
+   @Test
+   void testFindActiveRulesWhenCalledRepeatedlyExpectRulesLoadedOnce() {
+      when( repository.findAll() ).thenReturn( List.of( rule( 1L, BPNA, "partInstanceId", "00001", null, null ) ) );
+      final AccessRuleIndex underTest = new AccessRuleIndex( repository, WILDCARD, List.of(), MAX_AGE, Clock.fixed( NOW, ZoneOffset.UTC ) );
+
+      final var first = underTest.findActiveRules( BPNA, NOW );
+      final var second = underTest.findActiveRules( BPNA, NOW.plusSeconds( 1 ) );
+
+      assertThat( second ).isSameAs( first );
+      assertThat( first.rulesWithMandatorySpecificAssetIds() ).extracting( CompiledAccessRule::id ).containsExactly( 1L );
+      verify( repository, times( 1 ) ).findAll();
+   }
+
+   @Test
+   void testFindActiveRulesWhenValidityPeriodOpensAndClosesExpectRulesFollowingTheWindow() {
+      when( repository.findAll() ).thenReturn( List.of(
+            rule( 1L, BPNA, "partInstanceId", "00001", null, null ),
+            rule( 2L, BPNA, "partInstanceId", "00002", NOW.plusSeconds( 60 ), NOW.plusSeconds( 120 ) ) ) );
+      final AccessRuleIndex underTest = new AccessRuleIndex( repository, WILDCARD, List.of(), MAX_AGE, Clock.fixed( NOW, ZoneOffset.UTC ) );
+
+      assertThat( underTest.findActiveRules( BPNA, NOW ).rulesWithMandatorySpecificAssetIds() )
+            .extracting( CompiledAccessRule::id ).containsExactly( 1L );
+      assertThat( underTest.findActiveRules( BPNA, NOW.plusSeconds( 60 ) ).rulesWithMandatorySpecificAssetIds() )
+            .extracting( CompiledAccessRule::id ).containsExactlyInAnyOrder( 1L, 2L );
+      assertThat( underTest.findActiveRules( BPNA, NOW.plusSeconds( 120 ) ).rulesWithMandatorySpecificAssetIds() )
+            .extracting( CompiledAccessRule::id ).containsExactlyInAnyOrder( 1L, 2L );
+      assertThat( underTest.findActiveRules( BPNA, NOW.plusSeconds( 121 ) ).rulesWithMandatorySpecificAssetIds() )
+            .extracting( CompiledAccessRule::id ).containsExactly( 1L );
+      verify( repository, times( 1 ) ).findAll();
+   }
+
+   @Test
+   void testFindActiveRulesWhenInvalidatedExpectRulesReloaded() {
+      when( repository.findAll() )
+            .thenReturn( List.of( rule( 1L, BPNA, "partInstanceId", "00001", null, null ) ) )
+            .thenReturn( List.of() );
+      final AccessRuleIndex underTest = new AccessRuleIndex( repository, WILDCARD, List.of(), MAX_AGE, Clock.fixed( NOW, ZoneOffset.UTC ) );
+
+      assertThat( underTest.findActiveRules( BPNA, NOW ).isEmpty() ).isFalse();
+      underTest.invalidate();
+      assertThat( underTest.findActiveRules( BPNA, NOW ).isEmpty() ).isTrue();
+      verify( repository, times( 2 ) ).findAll();
+   }
+
+   @Test
+   void testInvalidateExpectInvalidationListenersCalled() {
+      final AccessRuleIndex underTest = new AccessRuleIndex( repository, WILDCARD, List.of(), MAX_AGE, Clock.fixed( NOW, ZoneOffset.UTC ) );
+      final Runnable listener = mock();
+      underTest.addInvalidationListener( listener );
+
+      underTest.invalidate();
+
+      verify( listener, times( 1 ) ).run();
+   }
+
+   @Test
+   void testFindActiveRulesWhenMaxAgeReachedExpectRulesReloaded() {
+      when( repository.findAll() ).thenReturn( List.of( rule( 1L, BPNA, "partInstanceId", "00001", null, null ) ) );
+      final Clock clock = mock();
+      when( clock.instant() ).thenReturn( NOW, NOW.plusSeconds( 61 ) );
+      final AccessRuleIndex underTest = new AccessRuleIndex( repository, WILDCARD, List.of(), Duration.ofMinutes( 1 ), clock );
+
+      underTest.findActiveRules( BPNA, NOW );
+      underTest.findActiveRules( BPNA, NOW );
+
+      verify( repository, times( 2 ) ).findAll();
+   }
+
+   @Test
+   void testFindActiveRulesWhenMaxAgeIsZeroExpectRulesOfTheBpnLoadedForEveryLookup() {
+      when( repository.findAllByBpnWithinValidityPeriod( BPNA, WILDCARD, NOW ) )
+            .thenReturn( List.of( rule( 1L, BPNA, "partInstanceId", "00001", null, null ) ) );
+      final AccessRuleIndex underTest = new AccessRuleIndex( repository, WILDCARD, List.of(), Duration.ZERO, Clock.fixed( NOW, ZoneOffset.UTC ) );
+
+      final var first = underTest.findActiveRules( BPNA, NOW );
+      underTest.findActiveRules( BPNA, NOW );
+
+      assertThat( first.rulesWithMandatorySpecificAssetIds() ).extracting( CompiledAccessRule::id ).containsExactly( 1L );
+      verify( repository, times( 2 ) ).findAllByBpnWithinValidityPeriod( BPNA, WILDCARD, NOW );
+      verify( repository, never() ).findAll();
+   }
+
+   @Test
+   void testFindActiveRulesWhenWildcardRuleExistsExpectOnlyAllowedTypesVisibleAndSharedWithUnknownBpn() {
+      when( repository.findAll() ).thenReturn( List.of(
+            rule( 1L, BPNA, "partInstanceId", "00001", null, null ),
+            rule( 2L, WILDCARD, "manufacturerPartId", "99991", null, null ) ) );
+      final AccessRuleIndex underTest = new AccessRuleIndex( repository, WILDCARD, List.of( "manufacturerPartId" ), MAX_AGE,
+            Clock.fixed( NOW, ZoneOffset.UTC ) );
+
+      final var rulesOfBpnA = underTest.findActiveRules( BPNA, NOW );
+      final var rulesOfBpnB = underTest.findActiveRules( BPNB, NOW );
+
+      assertThat( rulesOfBpnA.rulesWithMandatorySpecificAssetIds() ).extracting( CompiledAccessRule::id ).containsExactlyInAnyOrder( 1L, 2L );
+      assertThat( rulesOfBpnB.rulesWithMandatorySpecificAssetIds() ).extracting( CompiledAccessRule::id ).containsExactly( 2L );
+      assertThat( rulesOfBpnB.rulesWithMandatorySpecificAssetIds().get( 0 ).visibleSpecificAssetIdWhenMatchingValues() )
+            .isEqualTo( Map.of( "manufacturerPartId", Set.of( "99991" ) ) );
+      assertThat( rulesOfBpnB.rulesWithMandatorySpecificAssetIds().get( 0 ).visibleSpecificAssetIdNamesRegardlessOfValues() ).isEmpty();
+      assertThat( rulesOfBpnA.mandatorySpecificAssetIdValuesByName() ).isEqualTo( Map.of(
+            "partInstanceId", Set.of( "00001" ),
+            "manufacturerPartId", Set.of( "99991" ) ) );
+      assertThat( rulesOfBpnA.rulesWithMandatorySpecificAssetIds().get( 0 ).isMatching(
+            Set.of( new SpecificAssetId( "partInstanceId", "00001" ), new SpecificAssetId( "customerPartId", "ACME001" ) ) ) ).isTrue();
+   }
+
+   @Test
+   void testFindMatchingRulesWhenRulesShareMandatorySpecificAssetIdsExpectEachMatchingRuleReturnedOnce() {
+      when( repository.findAll() ).thenReturn( List.of(
+            rule( 1L, BPNA, Map.of( "manufacturerPartId", "P1", "partInstanceId", "00001" ), null, null ),
+            rule( 2L, BPNA, Map.of( "manufacturerPartId", "P1", "partInstanceId", "00002" ), null, null ),
+            rule( 3L, BPNA, Map.of( "manufacturerPartId", "P1" ), null, null ),
+            rule( 4L, BPNA, Map.of( "manufacturerPartId", "P2" ), null, null ) ) );
+      final AccessRuleIndex underTest = new AccessRuleIndex( repository, WILDCARD, List.of(), MAX_AGE, Clock.fixed( NOW, ZoneOffset.UTC ) );
+
+      final var rules = underTest.findActiveRules( BPNA, NOW );
+
+      assertThat( rules.findMatchingRules( Set.of( new SpecificAssetId( "manufacturerPartId", "P1" ), new SpecificAssetId( "partInstanceId", "00001" ),
+            new SpecificAssetId( "customerPartId", "ACME001" ) ) ) )
+            .extracting( CompiledAccessRule::id ).containsExactlyInAnyOrder( 1L, 3L );
+      assertThat( rules.findMatchingRules( Set.of( new SpecificAssetId( "partInstanceId", "00002" ) ) ) ).isEmpty();
+      assertThat( rules.findMatchingRules( Set.of( new SpecificAssetId( "manufacturerPartId", "P2" ) ) ) )
+            .extracting( CompiledAccessRule::id ).containsExactly( 4L );
+      assertThat( rules.findMatchingRules( Set.of() ) ).isEmpty();
+      assertThat( rules.candidateSpecificAssetIdValuesByName() ).isEqualTo( Map.of(
+            "partInstanceId", Set.of( "00001", "00002" ),
+            "manufacturerPartId", Set.of( "P1", "P2" ) ) );
+   }
+
+   private AccessRule rule( Long id, String targetTenant, String mandatoryName, String mandatoryValue, Instant validFrom, Instant validTo ) {
+      return rule( id, targetTenant, Map.of( mandatoryName, mandatoryValue ), validFrom, validTo );
+   }
+
+   private AccessRule rule( Long id, String targetTenant, Map<String, String> mandatory, Instant validFrom, Instant validTo ) {
+      final String mandatoryName = mandatory.keySet().iterator().next();
+      AccessRulePolicy policy = new AccessRulePolicy();
+      policy.setAccessRules( Set.of(
+            new AccessRulePolicyValue( AccessRulePolicy.BPN_RULE_NAME, PolicyOperator.EQUALS, targetTenant, null ),
+            new AccessRulePolicyValue( AccessRulePolicy.MANDATORY_SPECIFIC_ASSET_IDS_RULE_NAME, PolicyOperator.INCLUDES, null, mandatory.entrySet().stream()
+                  .map( entry -> new AccessRulePolicyValue( entry.getKey(), PolicyOperator.EQUALS, entry.getValue(), null ) )
+                  .collect( Collectors.toSet() ) ),
+            new AccessRulePolicyValue( AccessRulePolicy.VISIBLE_SPECIFIC_ASSET_ID_NAMES_RULE_NAME, PolicyOperator.INCLUDES, null, Set.of(
+                  new AccessRulePolicyValue( "name", PolicyOperator.EQUALS, mandatoryName, null ),
+                  new AccessRulePolicyValue( "name", PolicyOperator.EQUALS, "customerPartId", null ) ) ),
+            new AccessRulePolicyValue( AccessRulePolicy.VISIBLE_SEMANTIC_IDS_RULE_NAME, PolicyOperator.INCLUDES, null, Set.of(
+                  new AccessRulePolicyValue( "modelUrn", PolicyOperator.EQUALS, "Traceabilityv1.1.0", null ) ) ) ) );
+      AccessRule accessRule = new AccessRule();
+      accessRule.setId( id );
+      accessRule.setTid( "TENANT_ONE" );
+      accessRule.setTargetTenant( targetTenant );
+      accessRule.setPolicyType( AccessRule.PolicyType.AAS );
+      accessRule.setPolicy( policy );
+      accessRule.setValidFrom( validFrom );
+      accessRule.setValidTo( validTo );
+      return accessRule;
+   }
+}
@@ -25,6 +25,7 @@ import static org.mockito.Mockito.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.HashSet;
@@ -49,6 +50,9 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class SqlBackedAccessControlRuleServiceTest {
 
    private static final String MANUFACTURER_PART_ID = "manufacturerPartId";
@@ -236,4 +240,21 @@ class SqlBackedAccessControlRuleServiceTest {
       assertThat( actual.visibleSpecificAssetIdNamesRegardlessOfValues() ).isEqualTo( expectedSpecificAssetIdNamesRegardlessOfValues );
       assertThat( actual.visibleSpecificAssetIdWhenMatchingValues() ).isEqualTo( expectedSpecificAssetIdWhenMatchingValues );
    }
+
+   @Test
+   void testFetchVisibilityCriteriaForShellsExpectEvaluatedRulesRecordedOncePerCall() throws IOException {
+      final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+      final AccessRuleIndex accessRuleIndex = new AccessRuleIndex( setUpAccessRulesRepository( "/example-access-rules.json" ), "PUBLIC_READABLE",
+            List.of(), Duration.ZERO );
+      final SqlBackedAccessControlRuleService underTestWithMetrics = new SqlBackedAccessControlRuleService( accessRuleIndex, meterRegistry );
+      final var specificAssetIds = Set.of( MANUFACTURER_PART_ID_99991, REVISION_NUMBER_01 );
+
+      underTestWithMetrics.fetchVisibilityCriteriaForShells( List.of(
+            new ShellVisibilityContext( UUID.randomUUID().toString(), specificAssetIds ),
+            new ShellVisibilityContext( UUID.randomUUID().toString(), specificAssetIds ) ), BPNA );
+
+      final DistributionSummary evaluatedRules = meterRegistry.get( "registry.access.rules.evaluated" ).tag( "evaluation", "visibility" ).summary();
+      assertThat( evaluatedRules.count() ).isEqualTo( 1 );
+      assertThat( evaluatedRules.totalAmount() ).isPositive();
+   }
 }
@@ -0,0 +1,211 @@
+###############################################################################
+# Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+# Copyright (c) 2025 Contributors to the Eclipse Foundation
+#
+# See the NOTICE file(s) distributed with this work for additional
+# information regarding copyright ownership.
+#
+# This program and the accompanying materials are made available under the
+# terms of the Apache License, Version 2.0 which is available at
+# https://www.apache.org/licenses/LICENSE-2.0.
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+# WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+# License for the specific language governing permissions and limitations
+# under the License.
+#
+# SPDX-License-Identifier: Apache-2.0
+###############################################################################
+
+# Synthetic twin dataset shared by the seeding script and the load test scenarios.
+#
+# Every shell is derived from its index and the seed only, therefore the scenarios can
+# address any seeded shell (its id, its specificAssetIds and its submodel endpoints)
+# without reading it from the registry first.
+#
+# Distribution of the dataset:
+#   - every shell is a serial part of one of readers * rules_per_reader part types, the
+#     manufacturerPartId is public (PUBLIC_READABLE), the partInstanceId is unique
+#   - every shell belongs to one reader (index % readers) which sees its customerPartId,
+#     further specificAssetIds are added with decreasing probability (3 - 8 in total)
+#   - the number of submodels follows SUBMODEL_COUNT_WEIGHTS, the semantic ids follow
+#     SEMANTIC_ID_WEIGHTS
+#   - the granular access rules of a reader grant access to all part types of the reader
+
+import json
+import os
+import random
+import uuid
+
+NAMESPACE = uuid.UUID("0b4e4bd0-3b1a-4c1e-9d8a-6c6a0f0c1f2a")
+
+PUBLIC_READABLE = "PUBLIC_READABLE"
+
+SEMANTIC_ID_WEIGHTS = {
+    "urn:samm:io.catenax.serial_part:3.0.0#SerialPart": 30,
+    "urn:samm:io.catenax.single_level_bom_as_built:3.0.0#SingleLevelBomAsBuilt": 25,
+    "urn:samm:io.catenax.single_level_usage_as_built:3.0.0#SingleLevelUsageAsBuilt": 15,
+    "urn:samm:io.catenax.part_type_information:1.0.0#PartTypeInformation": 10,
+    "urn:samm:io.catenax.pcf:7.0.0#Pcf": 8,
+    "urn:samm:io.catenax.battery.battery_pass:5.0.0#BatteryPass": 5,
+    "urn:samm:io.catenax.traction_battery_code:2.0.0#TractionBatteryCode": 4,
+    "urn:samm:io.catenax.material_for_recycling:1.1.0#MaterialForRecycling": 3,
+}
+
+SUBMODEL_COUNT_WEIGHTS = {1: 10, 2: 25, 3: 30, 4: 15, 5: 10, 8: 7, 12: 3}
+
+OPTIONAL_ASSET_ID_PROBABILITIES = {
+    "van": 0.5,
+    "batchId": 0.3,
+    "digitalTwinType": 0.8,
+    "assetLifecyclePhase": 0.4,
+    "jisNumber": 0.1,
+    "parentOrderNumber": 0.1,
+}
+
+
+class Dataset:
+
+    def __init__(self, seed=42, shells=100_000, readers=10, rules_per_reader=100,
+                 owner="TENANT_ONE", edc_base_url="https://edc.provider.example"):
+        self.seed = seed
+        self.shells = shells
+        self.readers = readers
+        self.rules_per_reader = rules_per_reader
+        self.owner = owner
+        self.edc_base_url = edc_base_url
+
+    @classmethod
+    def from_environment(cls):
+        return cls(
+            seed=int(os.environ.get("DATASET_SEED", "42")),
+            shells=int(os.environ.get("DATASET_SHELLS", "100000")),
+            readers=int(os.environ.get("DATASET_READERS", "10")),
+            rules_per_reader=int(os.environ.get("DATASET_RULES_PER_READER", "100")),
+            owner=os.environ.get("DATASET_OWNER", "TENANT_ONE"),
+            edc_base_url=os.environ.get("DATASET_EDC_BASE_URL", "https://edc.provider.example"))
+
+    @property
+    def part_types(self):
+        return self.readers * self.rules_per_reader
+
+    def reader(self, reader_index):
+        return f"BPNL{reader_index:010d}LT"
+
+    def reader_of(self, index):
+        return self.reader(index % self.readers)
+
+    def shell_id(self, index):
+        return f"urn:uuid:{uuid.uuid5(NAMESPACE, f'{self.seed}:shell:{index}')}"
+
+    def manufacturer_part_id(self, part_type):
+        return f"MPI-{self.seed}-{part_type:08d}"
+
+    def lookup_asset_ids(self, index):
+        """The specificAssetIds which identify the shell with the given index for its reader."""
+        return [
+            {"name": "manufacturerPartId", "value": self.manufacturer_part_id(index % self.part_types)},
+            {"name": "customerPartId", "value": f"CPI-{self.seed}-{index:010d}"},
+        ]
+
+    def submodel_endpoint_url(self, index, submodel_index=0):
+        submodel_id = uuid.uuid5(NAMESPACE, f"{self.seed}:submodel:{index}:{submodel_index}")
+        return f"{self.edc_base_url}/api/public/shells/{index}/submodels/{submodel_id}/submodel"
+
+    def shell(self, index):
+        rnd = random.Random(f"{self.seed}:{index}")
+        reader = self.reader_of(index)
+        part_type = index % self.part_types
+        specific_asset_ids = [
+            specific_asset_id("manufacturerPartId", self.manufacturer_part_id(part_type), [PUBLIC_READABLE]),
+            specific_asset_id("partInstanceId", f"PI-{self.seed}-{index:010d}", [reader]),
+            specific_asset_id("customerPartId", f"CPI-{self.seed}-{index:010d}", [reader]),
+        ]
+        for name, probability in OPTIONAL_ASSET_ID_PROBABILITIES.items():
+            if rnd.random() < probability and len(specific_asset_ids) < 8:
+                subjects = [reader] if rnd.random() < 0.8 else [reader, self.reader(rnd.randrange(self.readers))]
+                specific_asset_ids.append(specific_asset_id(name, f"{name}-{rnd.getrandbits(48):012x}", subjects))
+
+        submodel_count = weighted(rnd, SUBMODEL_COUNT_WEIGHTS)
+        return {
+            "id": self.shell_id(index),
+            "idShort": f"part_{index}",
+            "globalAssetId": f"urn:uuid:{uuid.uuid5(NAMESPACE, f'{self.seed}:asset:{index}')}",
+            "assetKind": "Instance",
+            "assetType": f"partType{part_type}",
+            "specificAssetIds": specific_asset_ids,
+            "submodelDescriptors": [self.submodel(rnd, index, i) for i in range(submodel_count)],
+        }
+
+    def submodel(self, rnd, index, submodel_index):
+        # the first submodel always has the most common semantic id, so the authorization scenario can rely on it
+        semantic_id = next(iter(SEMANTIC_ID_WEIGHTS)) if submodel_index == 0 else weighted(rnd, SEMANTIC_ID_WEIGHTS)
+        return {
+            "id": str(uuid.uuid5(NAMESPACE, f"{self.seed}:submodel:{index}:{submodel_index}")),
+            "idShort": semantic_id.rsplit("#", 1)[1],
+            "semanticId": {"type": "ExternalReference", "keys": [{"type": "Submodel", "value": semantic_id}]},
+            "endpoints": [{
+                "interface": "SUBMODEL-3.0",
+                "protocolInformation": {
+                    "href": self.submodel_endpoint_url(index, submodel_index),
+                    "endpointProtocol": "HTTP",
+                    "endpointProtocolVersion": ["1.1"],
+                    "subprotocol": "DSP",
+                    "subprotocolBody": f"id={uuid.uuid5(NAMESPACE, f'{self.seed}:asset:{index}')};dspEndpoint={self.edc_base_url}",
+                    "subprotocolBodyEncoding": "plain",
+                    "securityAttributes": [{"type": "NONE", "key": "NONE", "value": "NONE"}],
+                },
+            }],
+        }
+
+    def access_rules(self):
+        """The granular access rules of all readers, one rule per part type."""
+        visible_names = ["manufacturerPartId", "partInstanceId", "customerPartId", "digitalTwinType"]
+        for part_type in range(self.part_types):
+            reader = self.reader(part_type % self.readers)
+            yield {
+                "tid": self.owner,
+                "targetTenant": reader,
+                "policyType": "AAS",
+                "description": f"load test rule of {reader} for part type {part_type}",
+                "policy": {"accessRules": [
+                    {"attribute": "bpn", "operator": "eq", "value": reader},
+                    {"attribute": "mandatorySpecificAssetIds", "operator": "includes", "values": [
+                        {"attribute": "manufacturerPartId", "operator": "eq",
+                         "value": self.manufacturer_part_id(part_type)}]},
+                    {"attribute": "visibleSpecificAssetIdNames", "operator": "includes", "values": [
+                        {"attribute": "name", "operator": "eq", "value": name} for name in visible_names]},
+                    {"attribute": "visibleSemanticIds", "operator": "includes", "values": [
+                        {"attribute": "modelUrn", "operator": "eq", "value": urn} for urn in SEMANTIC_ID_WEIGHTS]},
+                ]},
+            }
+
+    def access_rules_sql(self):
+        yield "BEGIN;\n"
+        yield "DELETE FROM access_rule WHERE description LIKE 'load test rule of %';\n"
+        for rule in self.access_rules():
+            yield ("INSERT INTO access_rule (id, tid, target_tenant, policy_type, policy, description) VALUES "
+                   f"(nextval('access_rule_seq'), {sql_string(rule['tid'])}, {sql_string(rule['targetTenant'])}, "
+                   f"{sql_string(rule['policyType'])}, {sql_string(json.dumps(rule['policy']))}, "
+                   f"{sql_string(rule['description'])});\n")
+        yield "COMMIT;\n"
+
+
+def specific_asset_id(name, value, subjects):
+    return {
+        "name": name,
+        "value": value,
+        "externalSubjectId": {
+            "type": "ExternalReference",
+            "keys": [{"type": "GlobalReference", "value": subject} for subject in subjects],
+        },
+    }
+
+
+def weighted(rnd, weights):
+    return rnd.choices(list(weights), weights=list(weights.values()))[0]
+
+
+def sql_string(value):
+    return "'" + value.replace("'", "''") + "'"
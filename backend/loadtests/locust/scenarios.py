@@ -0,0 +1,138 @@
+###############################################################################
+# Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+# Copyright (c) 2025 Contributors to the Eclipse Foundation
+#
+# See the NOTICE file(s) distributed with this work for additional
+# information regarding copyright ownership.
+#
+# This program and the accompanying materials are made available under the
+# terms of the Apache License, Version 2.0 which is available at
+# https://www.apache.org/licenses/LICENSE-2.0.
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+# WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+# License for the specific language governing permissions and limitations
+# under the License.
+#
+# SPDX-License-Identifier: Apache-2.0
+###############################################################################
+
+# Load test scenarios against a registry seeded with seed.py. The dataset parameters
+# (DATASET_SEED, DATASET_SHELLS, DATASET_READERS, DATASET_RULES_PER_READER) must be the
+# ones used for seeding. Every scenario is a user class, select them by name, e.g.
+#   locust -f scenarios.py --headless -u 50 -r 5 -t 5m --csv reports/lookup --html reports/lookup.html LookupUser
+
+import base64
+import itertools
+import json
+import os
+import random
+
+import locust.stats
+from locust import HttpUser, between, task
+
+from dataset import Dataset
+
+# the percentiles of the console output and of the csv and html reports
+locust.stats.PERCENTILES_TO_REPORT = [0.50, 0.75, 0.90, 0.95, 0.99, 0.999, 1.0]
+
+DATASET = Dataset.from_environment()
+
+# the indices of the shells created by BulkWriteUser start behind the seeded shells and are unique per user
+BULK_WRITE_INDICES = itertools.count(DATASET.shells + int(os.environ.get("BULK_WRITE_OFFSET", "0")))
+
+
+def encode(identifier):
+    return base64.urlsafe_b64encode(identifier.encode("utf-8")).decode("utf-8")
+
+
+class RegistryUser(HttpUser):
+    abstract = True
+    wait_time = between(0.1, 0.5)
+
+    def random_shell(self):
+        return random.randrange(DATASET.shells)
+
+    def reader_headers(self, index):
+        return {"Content-Type": "application/json", "Edc-Bpn": DATASET.reader_of(index)}
+
+    def expect(self, response, status):
+        if response.status_code != status:
+            response.failure(f"Expected {status} but status code was {response.status_code}")
+
+
+class LookupUser(RegistryUser):
+
+    @task
+    def lookup_shell_by_specific_asset_ids(self):
+        index = self.random_shell()
+        asset_ids = [encode(json.dumps(asset_id)) for asset_id in DATASET.lookup_asset_ids(index)]
+        with self.client.get("/api/v3/lookup/shells", params={"assetIds": asset_ids},
+                             name="/api/v3/lookup/shells?assetIds={assetIds}",
+                             headers=self.reader_headers(index), catch_response=True) as response:
+            self.expect(response, 200)
+            if response.ok and DATASET.shell_id(index) not in response.json().get("result", []):
+                response.failure(f"Shell {index} was not found")
+
+
+class ListShellsUser(RegistryUser):
+    pages = int(os.environ.get("LIST_PAGES", "5"))
+    limit = int(os.environ.get("LIST_LIMIT", "100"))
+
+    @task
+    def page_through_shells(self):
+        headers = self.reader_headers(self.random_shell())
+        cursor = None
+        for page in range(self.pages):
+            params = {"limit": self.limit}
+            if cursor:
+                params["cursor"] = cursor
+            with self.client.get("/api/v3/shell-descriptors", params=params, name=f"/api/v3/shell-descriptors (page {page + 1})",
+                                 headers=headers, catch_response=True) as response:
+                self.expect(response, 200)
+                if not response.ok:
+                    return
+                cursor = response.json().get("paging_metadata", {}).get("cursor")
+            if not cursor:
+                return
+
+
+class GetShellUser(RegistryUser):
+
+    @task
+    def get_shell_by_id(self):
+        index = self.random_shell()
+        with self.client.get(f"/api/v3/shell-descriptors/{encode(DATASET.shell_id(index))}",
+                             name="/api/v3/shell-descriptors/{id}",
+                             headers=self.reader_headers(index), catch_response=True) as response:
+            self.expect(response, 200)
+
+
+class SubmodelAuthorizationUser(RegistryUser):
+
+    @task
+    def authorize_submodel_endpoint(self):
+        index = self.random_shell()
+        body = {"submodelEndpointUrl": DATASET.submodel_endpoint_url(index)}
+        with self.client.post("/api/v3/submodel-descriptor/authorized", json=body,
+                              headers=self.reader_headers(index), catch_response=True) as response:
+            self.expect(response, 200)
+
+
+class BulkWriteUser(RegistryUser):
+    batch_size = int(os.environ.get("BULK_WRITE_BATCH_SIZE", "100"))
+    wait_time = between(1, 2)
+
+    @task
+    def create_shells_in_batch(self):
+        shells = [DATASET.shell(next(BULK_WRITE_INDICES)) for _ in range(self.batch_size)]
+        with self.client.post("/api/v3/shell-descriptors/batch", json=shells,
+                              name=f"/api/v3/shell-descriptors/batch ({self.batch_size} shells)",
+                              headers={"Content-Type": "application/json", "Edc-Bpn": DATASET.owner},
+                              catch_response=True) as response:
+            self.expect(response, 201)
+            if response.status_code == 201:
+                failed = [result for result in response.json() if result["status"] >= 300]
+                if failed:
+                    response.failure(f"{len(failed)} of {len(shells)} shells failed: {failed[0]['message']}")
@@ -0,0 +1,105 @@
+###############################################################################
+# Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+# Copyright (c) 2025 Contributors to the Eclipse Foundation
+#
+# See the NOTICE file(s) distributed with this work for additional
+# information regarding copyright ownership.
+#
+# This program and the accompanying materials are made available under the
+# terms of the Apache License, Version 2.0 which is available at
+# https://www.apache.org/licenses/LICENSE-2.0.
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+# WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+# License for the specific language governing permissions and limitations
+# under the License.
+#
+# SPDX-License-Identifier: Apache-2.0
+###############################################################################
+
+# Seeds the synthetic twin dataset (see dataset.py) into a running registry.
+#
+# The shells are created through the batch endpoint, so all derived data of the registry is
+# written exactly like in production. The granular access rules are written as SQL script,
+# because the registry has no endpoint to manage them.
+#
+# Example:
+#   python3 seed.py --host http://localhost:4243 --shells 1000000 --workers 8 --access-rules-sql access-rules.sql
+
+import argparse
+import json
+import sys
+import time
+import urllib.error
+import urllib.request
+from concurrent.futures import ThreadPoolExecutor
+
+from dataset import Dataset
+
+
+def parse_arguments():
+    defaults = Dataset.from_environment()
+    parser = argparse.ArgumentParser(description="Seeds the synthetic twin dataset into the registry.")
+    parser.add_argument("--host", default="http://localhost:4243", help="base URL of the registry")
+    parser.add_argument("--shells", type=int, default=defaults.shells, help="number of shells to create")
+    parser.add_argument("--offset", type=int, default=0, help="index of the first shell, to continue an aborted run")
+    parser.add_argument("--seed", type=int, default=defaults.seed, help="seed of the dataset")
+    parser.add_argument("--readers", type=int, default=defaults.readers, help="number of reading tenants")
+    parser.add_argument("--rules-per-reader", type=int, default=defaults.rules_per_reader,
+                        help="number of granular access rules per reading tenant")
+    parser.add_argument("--batch-size", type=int, default=1000, help="number of shells per batch request")
+    parser.add_argument("--workers", type=int, default=4, help="number of concurrent batch requests")
+    parser.add_argument("--access-rules-sql", help="file to write the SQL script of the granular access rules to")
+    return parser.parse_args()
+
+
+def post_batch(host, dataset, start, end):
+    shells = [dataset.shell(index) for index in range(start, end)]
+    request = urllib.request.Request(
+        f"{host}/api/v3/shell-descriptors/batch",
+        data=json.dumps(shells).encode("utf-8"),
+        headers={"Content-Type": "application/json", "Edc-Bpn": dataset.owner},
+        method="POST")
+    try:
+        with urllib.request.urlopen(request, timeout=600) as response:
+            results = json.load(response)
+    except urllib.error.HTTPError as error:
+        return end - start, [f"batch {start}-{end}: status {error.code}"]
+    # shells which were created by an aborted run already are reported as duplicates and are not failures
+    failures = [f"{result.get('idExternal')}: {result['status']} {result['message']}"
+                for result in results if result["status"] >= 300 and "already exists" not in result["message"]]
+    return end - start, failures
+
+
+def main():
+    arguments = parse_arguments()
+    dataset = Dataset(seed=arguments.seed, shells=arguments.shells, readers=arguments.readers,
+                      rules_per_reader=arguments.rules_per_reader)
+
+    if arguments.access_rules_sql:
+        with open(arguments.access_rules_sql, "w", encoding="utf-8") as file:
+            file.writelines(dataset.access_rules_sql())
+        print(f"wrote {dataset.part_types} access rules to {arguments.access_rules_sql}")
+
+    batches = [(start, min(start + arguments.batch_size, arguments.shells))
+               for start in range(arguments.offset, arguments.shells, arguments.batch_size)]
+    started = time.monotonic()
+    created = 0
+    failed = 0
+    with ThreadPoolExecutor(max_workers=arguments.workers) as executor:
+        futures = [executor.submit(post_batch, arguments.host, dataset, start, end) for start, end in batches]
+        for future in futures:
+            count, failures = future.result()
+            created += count - len(failures)
+            failed += len(failures)
+            for failure in failures[:3]:
+                print(failure, file=sys.stderr)
+            elapsed = time.monotonic() - started
+            print(f"{arguments.offset + created + failed}/{arguments.shells} shells, {failed} failed, "
+                  f"{(created + failed) / elapsed:.0f} shells/s")
+    return 1 if failed else 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
@@ -30,6 +30,7 @@ import java.util.stream.Collectors;
 import org.eclipse.tractusx.semantics.aas.registry.model.Message;
 import org.eclipse.tractusx.semantics.aas.registry.model.Result;
 import org.eclipse.tractusx.semantics.registry.service.EntityNotFoundException;
+import org.eclipse.tractusx.semantics.registry.service.TooManyConcurrentTransactionsException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -104,6 +105,13 @@ public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
             HttpStatus.BAD_REQUEST );
    }
 
+   @ExceptionHandler( { TooManyConcurrentTransactionsException.class } )
+   public ResponseEntity<Object> handleTooManyConcurrentTransactionsException( final TooManyConcurrentTransactionsException exception ) {
+      return ResponseEntity.status( HttpStatus.SERVICE_UNAVAILABLE )
+            .header( HttpHeaders.RETRY_AFTER, "1" )
+            .body( new Result().messages( List.of( new Message().messageType( Message.MessageTypeEnum.ERROR ).text( exception.getMessage() ) ) ) );
+   }
+
    @ExceptionHandler( { ConstraintViolationException.class } )
    @ResponseStatus( HttpStatus.BAD_REQUEST )
    public ResponseEntity<Object> handleConstraintViolationException( ConstraintViolationException constraintViolationException ) {
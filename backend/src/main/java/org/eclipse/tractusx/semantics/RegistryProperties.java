@@ -20,6 +20,8 @@
 
 package org.eclipse.tractusx.semantics;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 
 import org.eclipse.tractusx.semantics.registry.security.OAuthSecurityConfig;
@@ -59,6 +61,62 @@ public class RegistryProperties {
      */
     private Integer granularAccessControlFetchSize;
 
+    /**
+     * Configures how long the compiled access rules are kept in memory before they are reloaded from the database.
+     * Changes made through the application invalidate the rules immediately, this is only a safety net for changes made
+     * directly in the database or by other instances of the registry. A zero duration disables the in-memory index.
+     */
+    private Duration accessRuleIndexMaxAge = Duration.ofMinutes( 5 );
+
+    /**
+     * Configures the maximum number of shells kept in the read-through cache of single shell reads. Zero disables the cache.
+     */
+    private long shellCacheMaximumSize = 10000;
+
+    /**
+     * Configures how long a shell is kept in the cache. Changes made through the application evict the shell immediately, this is only
+     * a safety net for changes made directly in the database or by other instances of the registry.
+     */
+    private Duration shellCacheExpireAfterWrite = Duration.ofMinutes( 1 );
+
+    /**
+     * Configures the maximum number of endpoint addresses whose decisions are kept in the cache of the submodel authorization. Zero
+     * disables the cache.
+     */
+    private long submodelAuthorizationCacheMaximumSize = 100000;
+
+    /**
+     * Configures how long the decisions of the submodel authorization for an endpoint address are cached. Writes of shells and changes
+     * of the access rules evict the decisions, this is only a safety net for changes made directly in the database.
+     */
+    private Duration submodelAuthorizationCacheExpireAfterWrite = Duration.ofMinutes( 1 );
+
+    /**
+     * Configures the maximum number of concurrent transactions, further transactions wait until one of them completes. Defaults to the
+     * maximum size of the connection pool, zero disables the limit.
+     */
+    private Integer maxConcurrentTransactions;
+
+    /**
+     * Configures how long a transaction waits for one of the concurrent transactions to complete before the request is rejected with
+     * 503 Service Unavailable.
+     */
+    private Duration concurrentTransactionAcquireTimeout = Duration.ofSeconds( 30 );
+
+    /**
+     * Configures the directory where the files of the import jobs are kept until the job is finished. An interrupted job is resumed
+     * when the registry is restarted, therefore the directory should be located on a persistent volume which isn't shared with other
+     * instances of the registry.
+     */
+    private Path importDirectory = Path.of( System.getProperty( "java.io.tmpdir" ), "registry-imports" );
+
+    /**
+     * Configures how long a queued or running import job may go without progress before an instance which doesn't have its file fails
+     * it, e.g. because the file was lost with the volume or the instance which received it was removed. The instance holding the file
+     * keeps its queued jobs alive while they wait.
+     */
+    private Duration importJobTimeout = Duration.ofHours( 1 );
+
     /**
      * Properties for Identity Management system
      */
@@ -20,11 +20,16 @@
 
 package org.eclipse.tractusx.semantics.registry.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.OffsetDateTime;
 import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.eclipse.tractusx.semantics.aas.registry.api.DescriptionApiDelegate;
@@ -33,44 +38,74 @@ import org.eclipse.tractusx.semantics.aas.registry.api.ShellDescriptorsApiDelega
 import org.eclipse.tractusx.semantics.aas.registry.model.AssetAdministrationShellDescriptor;
 import org.eclipse.tractusx.semantics.aas.registry.model.AssetKind;
 import org.eclipse.tractusx.semantics.aas.registry.model.AssetLink;
+import org.eclipse.tractusx.semantics.aas.registry.model.BatchDeletionResult;
+import org.eclipse.tractusx.semantics.aas.registry.model.BatchResult;
 import org.eclipse.tractusx.semantics.aas.registry.model.GetAssetAdministrationShellDescriptorsResult;
 import org.eclipse.tractusx.semantics.aas.registry.model.GetSubmodelDescriptorsResult;
+import org.eclipse.tractusx.semantics.aas.registry.model.ImportJob;
 import org.eclipse.tractusx.semantics.aas.registry.model.InlineResponse200;
 import org.eclipse.tractusx.semantics.aas.registry.model.SearchAllAssetAdministrationShellIdsByAssetLink200Response;
 import org.eclipse.tractusx.semantics.aas.registry.model.ServiceDescription;
 import org.eclipse.tractusx.semantics.aas.registry.model.SpecificAssetId;
 import org.eclipse.tractusx.semantics.aas.registry.model.SubmodelDescriptor;
+import org.eclipse.tractusx.semantics.registry.dto.BatchResultDto;
 import org.eclipse.tractusx.semantics.registry.dto.ShellCollectionDto;
 import org.eclipse.tractusx.semantics.registry.dto.SubmodelCollectionDto;
+import org.eclipse.tractusx.semantics.registry.mapper.ImportJobMapper;
 import org.eclipse.tractusx.semantics.registry.mapper.ShellMapper;
 import org.eclipse.tractusx.semantics.registry.mapper.SubmodelMapper;
 import org.eclipse.tractusx.semantics.registry.model.Shell;
 import org.eclipse.tractusx.semantics.registry.model.ShellIdentifier;
 import org.eclipse.tractusx.semantics.registry.model.Submodel;
 import org.eclipse.tractusx.semantics.registry.service.EntityNotFoundException;
+import org.eclipse.tractusx.semantics.registry.service.RegistryMetrics;
+import org.eclipse.tractusx.semantics.registry.service.ShellImportService;
 import org.eclipse.tractusx.semantics.registry.service.ShellService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 @Service
 public class AssetAdministrationShellApiDelegate implements DescriptionApiDelegate, ShellDescriptorsApiDelegate, LookupApiDelegate {
 
+    private static final MediaType NDJSON_CONTENT_TYPE = MediaType.parseMediaType( "application/x-ndjson;charset=UTF-8" );
+
     private final ShellService shellService;
     private final ShellMapper shellMapper;
     private final SubmodelMapper submodelMapper;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter ndjsonWriter;
+    private final RegistryMetrics registryMetrics;
+    private final ShellImportService shellImportService;
+    private final ImportJobMapper importJobMapper;
 
     public AssetAdministrationShellApiDelegate(final ShellService shellService,
                                                final ShellMapper shellMapper,
-                                               final SubmodelMapper submodelMapper) {
+                                               final SubmodelMapper submodelMapper,
+                                               final ObjectMapper objectMapper,
+                                               final RegistryMetrics registryMetrics,
+                                               final ShellImportService shellImportService,
+                                               final ImportJobMapper importJobMapper) {
         this.shellService = shellService;
         this.shellMapper = shellMapper;
         this.submodelMapper = submodelMapper;
+        this.objectMapper = objectMapper;
+        this.registryMetrics = registryMetrics;
+        this.shellImportService = shellImportService;
+        this.importJobMapper = importJobMapper;
+        // the response buffer is flushed by the servlet container when it is full instead of after every descriptor
+        this.ndjsonWriter = objectMapper.writer().without( SerializationFeature.FLUSH_AFTER_WRITE_VALUE );
     }
 
     @Override
@@ -109,7 +144,8 @@ public class AssetAdministrationShellApiDelegate implements DescriptionApiDelega
     public ResponseEntity<GetAssetAdministrationShellDescriptorsResult> getAllAssetAdministrationShellDescriptors( Integer limit, String cursor,
           AssetKind assetKind, String assetType, @RequestHeader String externalSubjectId, final OffsetDateTime createdAfter ) {
         ShellCollectionDto dto =  shellService.findAllShells(limit, cursor,getExternalSubjectIdOrEmpty(externalSubjectId), createdAfter);
-        GetAssetAdministrationShellDescriptorsResult result = shellMapper.toApiDto(dto);
+        GetAssetAdministrationShellDescriptorsResult result = registryMetrics.timeMapping(RegistryMetrics.OPERATION_FIND_ALL_SHELLS,
+              () -> shellMapper.toApiDto(dto));
         return new ResponseEntity<>(result, HttpStatus.OK);
     }
 
@@ -121,11 +157,36 @@ public class AssetAdministrationShellApiDelegate implements DescriptionApiDelega
         return new ResponseEntity<>(result, HttpStatus.OK);
     }
 
+    /**
+     * Streams the descriptors as newline-delimited JSON. The body is written asynchronously after the request thread has been
+     * released. The descriptors are read page by page, the database connection is returned to the pool before a page is written.
+     */
+    @Override
+    public ResponseEntity<StreamingResponseBody> getAllAssetAdministrationShellDescriptorsAsStream( @RequestHeader String externalSubjectId, final OffsetDateTime createdAfter ) {
+        final String tenantId = getExternalSubjectIdOrEmpty( externalSubjectId );
+        StreamingResponseBody body = outputStream -> {
+            try ( JsonGenerator generator = objectMapper.createGenerator( outputStream ) ) {
+                // the lines are separated explicitly, no separator between the root values is needed
+                generator.setRootValueSeparator( null );
+                shellService.exportAllShells( tenantId, createdAfter, shell -> {
+                    try {
+                        ndjsonWriter.writeValue( generator, shellMapper.toApiDto( shell ) );
+                        generator.writeRaw( '\n' );
+                    } catch ( IOException e ) {
+                        throw new UncheckedIOException( e );
+                    }
+                } );
+            }
+        };
+        return ResponseEntity.ok().contentType( NDJSON_CONTENT_TYPE ).body( body );
+    }
+
     @Override
     public ResponseEntity<AssetAdministrationShellDescriptor> getAssetAdministrationShellDescriptorById( String aasIdentifier, @RequestHeader String externalSubjectId ) {
         String decodedAasIdentifier = getDecodedId( aasIdentifier );
         Shell saved = shellService.findShellByExternalIdAndExternalSubjectId(decodedAasIdentifier, getExternalSubjectIdOrEmpty(externalSubjectId));
-           return new ResponseEntity<>(shellMapper.toApiDto(saved), HttpStatus.OK);
+           return new ResponseEntity<>(registryMetrics.timeMapping(RegistryMetrics.OPERATION_FIND_SHELL, () -> shellMapper.toApiDto(saved)),
+                 HttpStatus.OK);
     }
 
     @Override
@@ -143,6 +204,36 @@ public class AssetAdministrationShellApiDelegate implements DescriptionApiDelega
         return new ResponseEntity<>(shellMapper.toApiDto(saved), HttpStatus.CREATED);
     }
 
+    @Override
+    public ResponseEntity<List<BatchResult>> postAssetAdministrationShellDescriptorsInBatch( List<AssetAdministrationShellDescriptor> assetAdministrationShellDescriptors ) {
+        List<Shell> shells = assetAdministrationShellDescriptors.stream().map( assetAdministrationShellDescriptor -> {
+            Shell shell = shellMapper.fromApiDto( assetAdministrationShellDescriptor );
+            shellService.mapShellCollection( shell );
+            if ( !shell.getSubmodels().isEmpty() ) shellService.mapSubmodel( shell.getSubmodels() );
+            return shell;
+        } ).toList();
+        List<BatchResultDto> results = shellService.saveBatch( shells );
+        return new ResponseEntity<>( shellMapper.toBatchResultApiDto( results ), HttpStatus.CREATED );
+    }
+
+    @Override
+    public ResponseEntity<ImportJob> postAssetAdministrationShellDescriptorsImport( MultipartFile file, @RequestHeader String externalSubjectId ) {
+        var importJob = shellImportService.submit( file, getExternalSubjectIdOrEmpty( externalSubjectId ) );
+        return new ResponseEntity<>( importJobMapper.toApiDto( importJob, List.of() ), HttpStatus.ACCEPTED );
+    }
+
+    @Override
+    public ResponseEntity<ImportJob> getAssetAdministrationShellDescriptorsImport( UUID jobId, @RequestHeader String externalSubjectId ) {
+        var importJob = shellImportService.findImportJob( jobId, getExternalSubjectIdOrEmpty( externalSubjectId ) );
+        return new ResponseEntity<>( importJobMapper.toApiDto( importJob, shellImportService.findImportJobErrors( jobId ) ), HttpStatus.OK );
+    }
+
+    @Override
+    public ResponseEntity<BatchDeletionResult> deleteAssetAdministrationShellDescriptorsInBatch( List<String> requestBody ) {
+        int deletedCount = shellService.deleteShells( requestBody );
+        return new ResponseEntity<>( new BatchDeletionResult().deletedCount( deletedCount ), HttpStatus.OK );
+    }
+
     @Override
     public ResponseEntity<SubmodelDescriptor> postSubmodelDescriptorThroughSuperpath( String aasIdentifier, SubmodelDescriptor submodelDescriptor, @RequestHeader String externalSubjectId ) {
         Submodel toBeSaved = submodelMapper.fromApiDto(submodelDescriptor);
@@ -155,9 +246,7 @@ public class AssetAdministrationShellApiDelegate implements DescriptionApiDelega
     @Override
     public ResponseEntity<AssetAdministrationShellDescriptor> putAssetAdministrationShellDescriptorById( String aasIdentifier, AssetAdministrationShellDescriptor assetAdministrationShellDescriptor, @RequestHeader String externalSubjectId ) {
         try{
-           Shell shellFromDb = shellService.findShellByExternalIdWithoutFiltering( getDecodedId( aasIdentifier ) );
            shellService.update( shellMapper.fromApiDto( assetAdministrationShellDescriptor )
-                       .withId( shellFromDb.getId() )
                        .withIdExternal( getDecodedId( aasIdentifier ) ), getDecodedId( aasIdentifier ) );
         }catch ( EntityNotFoundException entityNotFoundException ){
             // If the shell doesn't exist, create a new one using the post method
@@ -170,20 +259,14 @@ public class AssetAdministrationShellApiDelegate implements DescriptionApiDelega
 
     @Override
     public ResponseEntity<SubmodelDescriptor> putSubmodelDescriptorByIdThroughSuperpath( String aasIdentifier, String submodelIdentifier, SubmodelDescriptor submodelDescriptor, @RequestHeader String externalSubjectId ) {
-       try{
-          shellService.deleteSubmodel(getDecodedId( aasIdentifier ),  getDecodedId( submodelIdentifier ),getExternalSubjectIdOrEmpty( externalSubjectId ));
-          submodelDescriptor.setId( getDecodedId( submodelIdentifier ));
-          postSubmodelDescriptorThroughSuperpath(aasIdentifier,submodelDescriptor,externalSubjectId );
-        }catch ( EntityNotFoundException entityNotFoundException ){
-          if(entityNotFoundException.getMessage().contains("Submodel")) {
-               // If the submodel doesn't exist, create a new one using the post method
-               submodelDescriptor.setId( getDecodedId( submodelIdentifier ) );
-               return postSubmodelDescriptorThroughSuperpath(aasIdentifier,submodelDescriptor,externalSubjectId);
-            } else {
-             throw entityNotFoundException;
-            }
-        }
-        return new ResponseEntity<>( HttpStatus.NO_CONTENT );
+       submodelDescriptor.setId( getDecodedId( submodelIdentifier ) );
+       Submodel submodel = submodelMapper.fromApiDto( submodelDescriptor );
+       submodel.setIdExternal( submodelDescriptor.getId() );
+       if ( !shellService.update( getDecodedId( aasIdentifier ), submodel, getExternalSubjectIdOrEmpty( externalSubjectId ) ) ) {
+          // If the submodel doesn't exist, create a new one using the post method
+          return postSubmodelDescriptorThroughSuperpath( aasIdentifier, submodelDescriptor, externalSubjectId );
+       }
+       return new ResponseEntity<>( HttpStatus.NO_CONTENT );
     }
 
     @Override
@@ -212,6 +295,18 @@ public class AssetAdministrationShellApiDelegate implements DescriptionApiDelega
         return new ResponseEntity<>( result, HttpStatus.OK );
     }
 
+    @Override
+    public ResponseEntity<Map<String, List<String>>> searchAllAssetAdministrationShellIdsByAssetLinkInBatch(
+          Map<String, List<AssetLink>> requestBody, Integer limit, @RequestHeader String externalSubjectId) {
+        final Map<String, Set<ShellIdentifier>> lookups = new LinkedHashMap<>();
+        requestBody.forEach((queryId, assetLinks) -> lookups.put(queryId,
+              assetLinks == null ? Set.of() : shellMapper.fromAssetLinkApiDto(assetLinks)));
+
+        final var result = shellService.findExternalShellIdsByAssetLinksInBatch(lookups, limit,
+              getExternalSubjectIdOrEmpty(externalSubjectId));
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
     private SpecificAssetId decodeSAID(String encodedId){
         ObjectMapper mapper = new ObjectMapper();
         mapper.setSerializationInclusion( JsonInclude.Include.NON_NULL);
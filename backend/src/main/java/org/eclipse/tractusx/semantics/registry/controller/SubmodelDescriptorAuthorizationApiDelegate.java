@@ -20,8 +20,13 @@
 
 package org.eclipse.tractusx.semantics.registry.controller;
 
+import java.util.List;
+import java.util.Set;
+
 import org.eclipse.tractusx.semantics.aas.registry.api.SubmodelDescriptorApiDelegate;
 import org.eclipse.tractusx.semantics.aas.registry.model.SubmodelEndpointAuthorization;
+import org.eclipse.tractusx.semantics.aas.registry.model.SubmodelEndpointAuthorizationBatch;
+import org.eclipse.tractusx.semantics.aas.registry.model.SubmodelEndpointAuthorizationBatchResult;
 import org.eclipse.tractusx.semantics.registry.service.ShellService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -46,4 +51,14 @@ public class SubmodelDescriptorAuthorizationApiDelegate implements SubmodelDescr
          return ResponseEntity.status( HttpStatus.FORBIDDEN ).build();
       }
    }
+
+   @Override
+   public ResponseEntity<SubmodelEndpointAuthorizationBatchResult> postSubmodelDescriptorsAuthorizedInBatch(
+         SubmodelEndpointAuthorizationBatch submodelEndpointAuthorizationBatch, String externalSubjectId ) {
+      final List<String> requestedUrls = submodelEndpointAuthorizationBatch.getSubmodelEndpointUrls();
+      final Set<String> authorizedUrls = shellService.findAuthorizedSubmodelEndpoints( requestedUrls, externalSubjectId );
+      final SubmodelEndpointAuthorizationBatchResult result = new SubmodelEndpointAuthorizationBatchResult();
+      result.setAuthorizedSubmodelEndpointUrls( requestedUrls.stream().distinct().filter( authorizedUrls::contains ).toList() );
+      return ResponseEntity.ok( result );
+   }
 }
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.mapper;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.tractusx.semantics.registry.model.ImportJob;
+import org.eclipse.tractusx.semantics.registry.model.ImportJobError;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper( componentModel = "spring", injectionStrategy = InjectionStrategy.CONSTRUCTOR )
+public interface ImportJobMapper {
+
+   @Mapping( target = "errors", source = "errors" )
+   org.eclipse.tractusx.semantics.aas.registry.model.ImportJob toApiDto( ImportJob importJob, List<ImportJobError> errors );
+
+   org.eclipse.tractusx.semantics.aas.registry.model.ImportJobError toApiDto( ImportJobError importJobError );
+
+   default OffsetDateTime map( final Instant value ) {
+      return Optional.ofNullable( value ).map( instant -> instant.atOffset( ZoneId.systemDefault().getRules().getOffset( instant ) ) ).orElse( null );
+   }
+}
@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.eclipse.tractusx.semantics.aas.registry.model.*;
+import org.eclipse.tractusx.semantics.registry.dto.BatchResultDto;
 import org.eclipse.tractusx.semantics.registry.dto.ShellCollectionDto;
 import org.eclipse.tractusx.semantics.registry.model.*;
 import org.mapstruct.AfterMapping;
@@ -116,6 +117,8 @@ public interface ShellMapper {
 
    List<SpecificAssetId> toApiDto(Set<ShellIdentifier> shell);
 
+   List<BatchResult> toBatchResultApiDto(List<BatchResultDto> batchResults);
+
     @AfterMapping
     default Shell convertGlobalAssetIdToShellIdentifier(AssetAdministrationShellDescriptor apiDto, @MappingTarget Shell shell){
         return ShellMapperCustomization.globalAssetIdToShellIdentifier(apiDto, shell);
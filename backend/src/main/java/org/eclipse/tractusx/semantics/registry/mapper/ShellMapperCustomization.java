@@ -89,7 +89,7 @@ public class ShellMapperCustomization {
         if(Strings.isNullOrEmpty(globalAssetId)){
             return Optional.empty();
         }
-        return Optional.of(new ShellIdentifier(null, ShellIdentifier.GLOBAL_ASSET_ID_KEY, globalAssetId, null, null, null, null));
+        return Optional.of(new ShellIdentifier().withKey(ShellIdentifier.GLOBAL_ASSET_ID_KEY).withValue(globalAssetId));
     }
 
     public static void removeGlobalAssetIdIdentifier(List<SpecificAssetId> specificAssetIds){
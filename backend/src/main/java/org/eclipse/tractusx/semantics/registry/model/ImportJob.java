@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * An asynchronous import of the descriptors of an uploaded file. The counters are updated with every commit of descriptors, the job is
+ * resumed after the processed records when the registry is restarted while the job is running.
+ */
+@Entity
+@Getter
+@Setter
+@Table
+@NoArgsConstructor
+@EntityListeners( AuditingEntityListener.class )
+public class ImportJob {
+
+   @Id
+   private UUID id = UuidCreator.getTimeOrderedEpoch();
+
+   @Column
+   @Enumerated( EnumType.STRING )
+   private ImportJobStatus status = ImportJobStatus.QUEUED;
+
+   @Column
+   private String fileName;
+
+   /**
+    * The tenant which submitted the job, the job is only returned to the same tenant.
+    */
+   @Column
+   private String tenantId;
+
+   @Column
+   private long processedRecords;
+
+   @Column
+   private long createdRecords;
+
+   @Column
+   private long failedRecords;
+
+   @Column
+   private String message;
+
+   @Version
+   private long version;
+
+   @Column
+   @CreatedDate
+   private Instant createdDate;
+
+   @Column
+   @LastModifiedDate
+   private Instant lastModifiedDate;
+}
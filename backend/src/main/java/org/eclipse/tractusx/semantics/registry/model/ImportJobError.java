@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.model;
+
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A record of an import job which couldn't be created. The record number counts the descriptors of the file starting with 1, the
+ * line number is the line of the file where the descriptor starts.
+ */
+@Entity
+@Getter
+@Setter
+@Table
+@NoArgsConstructor
+public class ImportJobError {
+
+   @Id
+   private UUID id = UuidCreator.getTimeOrderedEpoch();
+
+   @Column( name = "fk_import_job_id" )
+   private UUID importJobId;
+
+   @Column
+   private long recordNumber;
+
+   @Column
+   private long lineNumber;
+
+   @Column
+   private String idExternal;
+
+   @Column
+   private String message;
+
+   public ImportJobError( UUID importJobId, long recordNumber, long lineNumber, String idExternal, String message ) {
+      this.importJobId = importJobId;
+      this.recordNumber = recordNumber;
+      this.lineNumber = lineNumber;
+      this.idExternal = idExternal;
+      this.message = message;
+   }
+}
@@ -20,11 +20,16 @@
 
 package org.eclipse.tractusx.semantics.registry.model;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.Set;
 import java.util.UUID;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import com.github.f4b6a3.uuid.UuidCreator;
@@ -38,7 +43,10 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -81,4 +89,38 @@ public class ShellIdentifier {
     @JsonManagedReference
     @OneToMany(cascade = CascadeType.ALL, mappedBy = "shellIdentifier")
     Set<ShellIdentifierSupplemSemanticReference> supplementalSemanticIds;
+
+    /**
+     * The digest of the key and value stored in the indexed column KEY_VALUE_DIGEST, see {@link #digestOf(String, String)}.
+     * It is derived from the key and value whenever the identifier is written, therefore it can't be set.
+     */
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @With(AccessLevel.NONE)
+    @Column(name = "key_value_digest")
+    private String keyValueDigest;
+
+    @PrePersist
+    @PreUpdate
+    void updateKeyValueDigest() {
+        keyValueDigest = key == null || value == null ? null : digestOf(key, value);
+    }
+
+    /**
+     * Returns the hex encoded SHA-256 digest of the key, prefixed by its length in UTF-8 bytes, followed by the value. The length
+     * prefix makes the digest unambiguous, e.g. the key "ab" with the value "c" and the key "a" with the value "bc" have different
+     * digests. The Liquibase migration adding the column computes the same digest in SQL, both must be kept in sync.
+     *
+     * @param key the key (namespace) of the specificAssetId
+     * @param value the value (identifier) of the specificAssetId
+     * @return the 64 character digest
+     */
+    public static String digestOf(String key, String value) {
+        final String lengthPrefixed = key.getBytes(StandardCharsets.UTF_8).length + ":" + key + value;
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(lengthPrefixed.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by the JVM.", e);
+        }
+    }
 }
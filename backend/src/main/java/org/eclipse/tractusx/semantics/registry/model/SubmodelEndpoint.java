@@ -20,7 +20,11 @@
 
 package org.eclipse.tractusx.semantics.registry.model;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.Set;
 import java.util.UUID;
 
@@ -37,7 +41,10 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -79,4 +86,35 @@ public class SubmodelEndpoint {
    @ManyToOne( fetch = FetchType.LAZY, optional = false,cascade = {CascadeType.MERGE}  )
    @JoinColumn( name = "fk_submodel_id" )
    private Submodel submodel;
+
+   /**
+    * The digest of the endpoint address stored in the indexed column ENDPOINT_ADDRESS_DIGEST, see {@link #digestOf(String)}.
+    * It is derived from the endpoint address whenever the endpoint is written, therefore it can't be set.
+    */
+   @JsonIgnore
+   @Setter( AccessLevel.NONE )
+   @With( AccessLevel.NONE )
+   @Column( name = "endpoint_address_digest" )
+   private String endpointAddressDigest;
+
+   @PrePersist
+   @PreUpdate
+   void updateEndpointAddressDigest() {
+      endpointAddressDigest = endpointAddress == null ? null : digestOf( endpointAddress );
+   }
+
+   /**
+    * Returns the hex encoded SHA-256 digest of the endpoint address. The Liquibase migration adding the column computes the same
+    * digest in SQL, both must be kept in sync.
+    *
+    * @param endpointAddress the address (href) of the endpoint
+    * @return the 64 character digest
+    */
+   public static String digestOf( String endpointAddress ) {
+      try {
+         return HexFormat.of().formatHex( MessageDigest.getInstance( "SHA-256" ).digest( endpointAddress.getBytes( StandardCharsets.UTF_8 ) ) );
+      } catch ( NoSuchAlgorithmException e ) {
+         throw new IllegalStateException( "SHA-256 is not supported by the JVM.", e );
+      }
+   }
 }
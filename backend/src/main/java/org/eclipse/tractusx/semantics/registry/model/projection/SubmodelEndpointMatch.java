@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+package org.eclipse.tractusx.semantics.registry.model.projection;
+
+/**
+ * A submodel having an endpoint with the requested address, one per value of the keys of the semanticId of the submodel.
+ *
+ * @param endpointAddress the requested address of the endpoint
+ * @param shellId the external id of the shell of the submodel
+ * @param semanticId one of the values of the keys of the semanticId of the submodel, null if the submodel has no semanticId
+ */
+public record SubmodelEndpointMatch(String endpointAddress, String shellId, String semanticId) {
+}
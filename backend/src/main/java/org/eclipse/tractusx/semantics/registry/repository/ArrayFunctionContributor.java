@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the HQL function {@code equals_any(value, array)} rendered as {@code value = ANY(array)}.
+ * <p>
+ * The array is bound as a single parameter, therefore the number of values does not affect the number of bind parameters of the
+ * statement. PostgreSQL and H2 both probe a b-tree index of the column for every value of the array. The function is registered using
+ * {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ */
+public class ArrayFunctionContributor implements FunctionContributor {
+
+   public static final String EQUALS_ANY = "equals_any";
+
+   @Override
+   public void contributeFunctions( FunctionContributions functionContributions ) {
+      functionContributions.getFunctionRegistry()
+            .patternDescriptorBuilder( EQUALS_ANY, "(?1 = any(?2))" )
+            .setExactArgumentCount( 2 )
+            .setInvariantType( functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve( StandardBasicTypes.BOOLEAN ) )
+            .register();
+   }
+}
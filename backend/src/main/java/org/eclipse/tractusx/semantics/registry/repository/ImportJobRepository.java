@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.tractusx.semantics.registry.model.ImportJob;
+import org.eclipse.tractusx.semantics.registry.model.ImportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, UUID> {
+
+   Optional<ImportJob> findByIdAndTenantId( UUID id, String tenantId );
+
+   List<ImportJob> findByStatusInOrderByCreatedDate( Collection<ImportJobStatus> statuses );
+
+   /**
+    * Marks the queued jobs as alive, the version is incremented like by an update of the entity to fail a concurrent update of the job.
+    */
+   @Modifying
+   @Query( "UPDATE ImportJob j SET j.lastModifiedDate = :lastModifiedDate, j.version = j.version + 1 WHERE j.id IN :ids AND j.status = 'QUEUED'" )
+   int updateLastModifiedDateOfQueuedJobs( @Param( "ids" ) Collection<UUID> ids, @Param( "lastModifiedDate" ) Instant lastModifiedDate );
+}
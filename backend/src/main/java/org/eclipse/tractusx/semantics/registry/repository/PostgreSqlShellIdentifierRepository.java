@@ -19,6 +19,8 @@
 
 package org.eclipse.tractusx.semantics.registry.repository;
 
+import org.eclipse.tractusx.semantics.registry.model.ShellIdentifier;
+import org.eclipse.tractusx.semantics.registry.model.projection.ShellLookupMatch;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.Query;
@@ -39,28 +41,41 @@ import static org.eclipse.tractusx.semantics.registry.repository.RepositoryConfi
 public interface PostgreSqlShellIdentifierRepository extends ShellIdentifierRepository {
 
     /**
-     * Returns external shell ids for the given keyValueCombinations.
+     * Returns external shell ids for the given key-value pairs.
      * External shell ids matching the conditions below are returned:
-     * - specificAssetIds match exactly the keyValueCombinations
+     * - specificAssetIds match exactly the key-value pairs
      * - if externalSubjectId (tenantId) is not null it must match the tenantId
      * <p>
-     * <p>
-     * To be able to properly index the key and value conditions, the query does not use any functions.
-     * Computed indexes cannot be created for mutable functions like CONCAT in Postgres.
+     * The key-value pairs are probed by their digest (see {@link ShellIdentifier#digestOf(String, String)}) using the index on
+     * (KEY_VALUE_DIGEST, FK_SHELL_ID).
      *
      * @param namespaces  the namespace values to search for, making a tuple with the identifiers
      * @param identifiers the identifier values to search for, making a tuple with the namespaces
      * @return external shell ids for the given key value combinations
      */
     @Override
+    default List<String> findExternalShellIdsByIdentifiersByExactMatch(
+            String[] namespaces,
+            String[] identifiers,
+            int pairCount,
+            String tenantId,
+            String publicWildcardPrefix,
+            List<String> publicWildcardAllowedTypes,
+            String owningTenantId,
+            String globalAssetId,
+            Instant cutoffDate,
+            String cursorValue,
+            int pageSize) {
+        return findExternalShellIdsByIdentifiersByExactMatchInternal(toKeyValueDigests(namespaces, identifiers), pairCount, tenantId,
+                publicWildcardPrefix, publicWildcardAllowedTypes, owningTenantId, globalAssetId, cutoffDate, cursorValue, pageSize);
+    }
+
     @Query(value = """
                 WITH shell_lookup AS (
-                SELECT s.id, s.id_external, s.created_date, si.namespace, si.identifier, si.id AS si_id
+                SELECT s.id, s.id_external, s.created_date, si.namespace, si.id AS si_id
                     FROM shell s
                         JOIN shell_identifier si ON s.id = si.fk_shell_id
-                        WHERE (si.namespace, si.identifier) IN (
-                            SELECT unnest(:namespaces), unnest(:identifiers)
-                        )
+                        WHERE si.key_value_digest = ANY(CAST(:keyValueDigests AS varchar[]))
                         AND (s.created_date > :cutoffDate OR (s.created_date = :cutoffDate AND
                             s.id_external > :cursorValue))
                 ) SELECT sl.id_external
@@ -87,9 +102,8 @@ public interface PostgreSqlShellIdentifierRepository extends ShellIdentifierRepo
                 ORDER BY sl.created_date, sl.id_external
                 LIMIT :pageSize;
             """, nativeQuery = true)
-    List<String> findExternalShellIdsByIdentifiersByExactMatch(
-            @Param("namespaces") String[] namespaces,
-            @Param("identifiers") String[] identifiers,
+    List<String> findExternalShellIdsByIdentifiersByExactMatchInternal(
+            @Param("keyValueDigests") String[] keyValueDigests,
             @Param("pairCount") int pairCount,
             @Param("tenantId") String tenantId,
             @Param("publicWildcardPrefix") String publicWildcardPrefix,
@@ -99,4 +113,100 @@ public interface PostgreSqlShellIdentifierRepository extends ShellIdentifierRepo
             @Param("cutoffDate") Instant cutoffDate,
             @Param("cursorValue") String cursorValue,
             @Param("pageSize") int pageSize);
+
+    /**
+     * Resolves all queries of the batch with a single statement. The key-value pairs of all queries are unnested into a query
+     * table which is joined against the shell identifiers, the access conditions are evaluated once per matching identifier.
+     */
+    @Override
+    default List<ShellLookupMatch> findExternalShellIdsByIdentifiersByExactMatchInBatch(
+            String[] queryIds,
+            String[] namespaces,
+            String[] identifiers,
+            String tenantId,
+            String publicWildcardPrefix,
+            List<String> publicWildcardAllowedTypes,
+            String owningTenantId,
+            String globalAssetId,
+            Instant cutoffDate,
+            int limitPerQuery,
+            String[] candidateKeyValueDigests) {
+        return findExternalShellIdsByIdentifiersByExactMatchInBatchInternal(queryIds, toKeyValueDigests(namespaces, identifiers), tenantId,
+                publicWildcardPrefix, publicWildcardAllowedTypes, owningTenantId, globalAssetId, cutoffDate, limitPerQuery,
+                candidateKeyValueDigests != null, candidateKeyValueDigests == null ? new String[0] : candidateKeyValueDigests)
+                .stream()
+                .map(row -> new ShellLookupMatch((String) row[0], (String) row[1]))
+                .toList();
+    }
+
+    @Query(value = """
+                WITH lookup_query AS (
+                    SELECT DISTINCT q.query_id, q.key_value_digest
+                        FROM unnest(CAST(:queryIds AS varchar[]), CAST(:keyValueDigests AS varchar[]))
+                            AS q(query_id, key_value_digest)
+                ), lookup_query_size AS (
+                    SELECT lq.query_id, COUNT(*) AS pair_count
+                        FROM lookup_query lq
+                        GROUP BY lq.query_id
+                ), shell_lookup AS (
+                    SELECT lq.query_id, s.id_external, s.created_date, si.namespace, si.id AS si_id
+                        FROM lookup_query lq
+                            JOIN shell_identifier si ON si.key_value_digest = lq.key_value_digest
+                            JOIN shell s ON s.id = si.fk_shell_id
+                        WHERE s.created_date > :cutoffDate
+                            AND (:candidateFilter = FALSE OR EXISTS (
+                                SELECT 1
+                                FROM shell_identifier candidate
+                                WHERE candidate.fk_shell_id = s.id
+                                    AND candidate.key_value_digest = ANY(CAST(:candidateKeyValueDigests AS varchar[]))
+                            ))
+                ), matching_shell AS (
+                    SELECT sl.query_id, sl.id_external,
+                        ROW_NUMBER() OVER (PARTITION BY sl.query_id ORDER BY sl.created_date, sl.id_external) AS position
+                    FROM shell_lookup sl
+                        JOIN lookup_query_size lqs ON lqs.query_id = sl.query_id
+                    WHERE :tenantId = :owningTenantId
+                        OR sl.namespace = :globalAssetId
+                        OR EXISTS (
+                            SELECT 1
+                                FROM SHELL_IDENTIFIER_EXTERNAL_SUBJECT_REFERENCE_KEY sider
+                                JOIN SHELL_IDENTIFIER_EXTERNAL_SUBJECT_REFERENCE sies
+                                    ON sider.FK_SI_EXTERNAL_SUBJECT_REFERENCE_ID = sies.id
+                                WHERE
+                                    sies.FK_SHELL_IDENTIFIER_EXTERNAL_SUBJECT_ID = sl.si_id
+                                    AND (
+                                        sider.ref_key_value = :tenantId
+                                        OR (
+                                            sider.ref_key_value = :publicWildcardPrefix
+                                            AND sl.namespace IN (:publicWildcardAllowedTypes)
+                                        )
+                                    )
+                            )
+                    GROUP BY sl.query_id, sl.id_external, sl.created_date, lqs.pair_count
+                    HAVING COUNT(*) = lqs.pair_count
+                ) SELECT ms.query_id, ms.id_external
+                FROM matching_shell ms
+                WHERE ms.position <= :limitPerQuery
+                ORDER BY ms.query_id, ms.position;
+            """, nativeQuery = true)
+    List<Object[]> findExternalShellIdsByIdentifiersByExactMatchInBatchInternal(
+            @Param("queryIds") String[] queryIds,
+            @Param("keyValueDigests") String[] keyValueDigests,
+            @Param("tenantId") String tenantId,
+            @Param("publicWildcardPrefix") String publicWildcardPrefix,
+            @Param("publicWildcardAllowedTypes") List<String> publicWildcardAllowedTypes,
+            @Param("owningTenantId") String owningTenantId,
+            @Param("globalAssetId") String globalAssetId,
+            @Param("cutoffDate") Instant cutoffDate,
+            @Param("limitPerQuery") int limitPerQuery,
+            @Param("candidateFilter") boolean candidateFilter,
+            @Param("candidateKeyValueDigests") String[] candidateKeyValueDigests);
+
+    private static String[] toKeyValueDigests(String[] namespaces, String[] identifiers) {
+        String[] keyValueDigests = new String[namespaces.length];
+        for (int i = 0; i < namespaces.length; i++) {
+            keyValueDigests[i] = ShellIdentifier.digestOf(namespaces[i], identifiers[i]);
+        }
+        return keyValueDigests;
+    }
 }
@@ -21,6 +21,7 @@
 package org.eclipse.tractusx.semantics.registry.repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -28,6 +29,7 @@ import java.util.UUID;
 import org.eclipse.tractusx.semantics.registry.model.Shell;
 import org.eclipse.tractusx.semantics.registry.model.ShellIdentifier;
 import org.eclipse.tractusx.semantics.registry.model.projection.ShellIdentifierMinimal;
+import org.eclipse.tractusx.semantics.registry.model.projection.ShellLookupMatch;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -53,7 +55,7 @@ public interface ShellIdentifierRepository extends JpaRepository<ShellIdentifier
       ON sies.FK_SHELL_IDENTIFIER_EXTERNAL_SUBJECT_ID = si.id
    LEFT JOIN shell_identifier_external_subject_reference_key sier
       ON sier.FK_SI_EXTERNAL_SUBJECT_REFERENCE_ID = sies.id
-   WHERE CONCAT(si.namespace, si.identifier) IN (:keyValueCombinations)
+   WHERE si.key_value_digest IN (:keyValueDigests)
      AND s.created_date > :cutoffDate
      AND (
          :tenantId IS NULL
@@ -65,7 +67,7 @@ public interface ShellIdentifierRepository extends JpaRepository<ShellIdentifier
          )
      )
    GROUP BY s.id, s.created_date, s.id_external
-   HAVING COUNT(DISTINCT CONCAT(si.namespace, si.identifier)) = :keyValueCombinationsSize
+   HAVING COUNT(DISTINCT si.key_value_digest) = :keyValueDigestsSize
    ORDER BY s.created_date, s.id_external ASC
    """,
            nativeQuery = true,
@@ -78,7 +80,7 @@ public interface ShellIdentifierRepository extends JpaRepository<ShellIdentifier
            ON sies.FK_SHELL_IDENTIFIER_EXTERNAL_SUBJECT_ID = si.id
         LEFT JOIN shell_identifier_external_subject_reference_key sier
            ON sier.FK_SI_EXTERNAL_SUBJECT_REFERENCE_ID = sies.id
-        WHERE CONCAT(si.namespace, si.identifier) IN (:keyValueCombinations)
+        WHERE si.key_value_digest IN (:keyValueDigests)
           AND s.created_date > :cutoffDate
           AND (
              :tenantId IS NULL
@@ -90,13 +92,13 @@ public interface ShellIdentifierRepository extends JpaRepository<ShellIdentifier
              )
           )
         GROUP BY s.id, s.created_date, s.id_external
-        HAVING COUNT(DISTINCT CONCAT(si.namespace, si.identifier)) = :keyValueCombinationsSize
+        HAVING COUNT(DISTINCT si.key_value_digest) = :keyValueDigestsSize
      ) AS counted
      """
    )
    Page<UUID> findAPageOfShellIdsBySpecificAssetIdsLegacyAccessControl(
-           @Param("keyValueCombinations") List<String> keyValueCombinations,
-           @Param("keyValueCombinationsSize") int keyValueCombinationsSize,
+           @Param("keyValueDigests") List<String> keyValueDigests,
+           @Param("keyValueDigestsSize") int keyValueDigestsSize,
            @Param("cutoffDate") Instant cutoffDate,
            @Param("tenantId") String tenantId,
            @Param("owningTenantId") String owningTenantId,
@@ -110,17 +112,46 @@ public interface ShellIdentifierRepository extends JpaRepository<ShellIdentifier
               FROM ShellIdentifier sid
                  JOIN sid.shellId s
               WHERE
-                 CONCAT( sid.key, sid.value ) IN ( :keyValueCombinations )
+                 sid.keyValueDigest IN ( :keyValueDigests )
                  AND (
                     s.createdDate > :cutoffDate
                     OR ( s.createdDate = :cutoffDate AND s.idExternal > :cursorValue )
                  )
               GROUP BY s.id, s.createdDate, s.idExternal
-              HAVING COUNT(*) = :keyValueCombinationsSize
+              HAVING COUNT(*) = :keyValueDigestsSize
               ORDER BY s.createdDate ASC, s.idExternal ASC
             """)
-    List<UUID> findAPageOfShellIdsBySpecificAssetIdsGranularAccessControl(List<String> keyValueCombinations,
-            int keyValueCombinationsSize, Instant cutoffDate, String cursorValue, Pageable pageable);
+    List<UUID> findAPageOfShellIdsBySpecificAssetIdsGranularAccessControl(List<String> keyValueDigests,
+            int keyValueDigestsSize, Instant cutoffDate, String cursorValue, Pageable pageable);
+
+    /**
+     * Same as {@link #findAPageOfShellIdsBySpecificAssetIdsGranularAccessControl(List, int, Instant, String, Pageable)} but only
+     * returns the shells having at least one of the candidate specificAssetIds derived from the access rules of the reader. The
+     * candidates are bound as a single array parameter, see {@link ArrayFunctionContributor}.
+     */
+    @Query(value = """
+              SELECT s.id
+              FROM ShellIdentifier sid
+                 JOIN sid.shellId s
+              WHERE
+                 sid.keyValueDigest IN ( :keyValueDigests )
+                 AND (
+                    s.createdDate > :cutoffDate
+                    OR ( s.createdDate = :cutoffDate AND s.idExternal > :cursorValue )
+                 )
+                 AND EXISTS (
+                    SELECT 1
+                    FROM ShellIdentifier candidate
+                    WHERE candidate.shellId = s
+                       AND equals_any( candidate.keyValueDigest, :candidateKeyValueDigests )
+                 )
+              GROUP BY s.id, s.createdDate, s.idExternal
+              HAVING COUNT(*) = :keyValueDigestsSize
+              ORDER BY s.createdDate ASC, s.idExternal ASC
+            """)
+    List<UUID> findAPageOfCandidateShellIdsBySpecificAssetIdsGranularAccessControl(List<String> keyValueDigests,
+            int keyValueDigestsSize, String[] candidateKeyValueDigests, Instant cutoffDate, String cursorValue,
+            Pageable pageable);
 
    @Query( value = """
             SELECT NEW org.eclipse.tractusx.semantics.registry.model.projection.ShellIdentifierMinimal(s.idExternal, sid.key, sid.value)
@@ -132,6 +163,16 @@ public interface ShellIdentifierRepository extends JpaRepository<ShellIdentifier
          """ )
    List<ShellIdentifierMinimal> findMinimalShellIdsByShellIdsLegacyAccessControl(List<UUID> shellIds);
 
+   @Query( value = """
+            SELECT NEW org.eclipse.tractusx.semantics.registry.model.projection.ShellIdentifierMinimal(s.idExternal, sid.key, sid.value)
+            FROM ShellIdentifier sid
+               JOIN sid.shellId s
+            WHERE
+               s.idExternal IN ( :externalShellIds )
+            ORDER BY s.createdDate, s.idExternal ASC
+         """ )
+   List<ShellIdentifierMinimal> findMinimalShellIdsByExternalShellIds( Collection<String> externalShellIds );
+
     @Query(value = """
                SELECT NEW org.eclipse.tractusx.semantics.registry.model.projection.ShellIdentifierMinimal(s.idExternal, sid.key, sid.value)
                FROM ShellIdentifier sid
@@ -148,9 +189,9 @@ public interface ShellIdentifierRepository extends JpaRepository<ShellIdentifier
             Instant cutoffDate, String cursorValue);
 
    /**
-    * Returns external shell ids for the given keyValueCombinations.
+    * Returns external shell ids for the given key-value pairs.
     * External shell ids matching the conditions below are returned:
-    *   - specificAssetIds match exactly the keyValueCombinations
+    *   - specificAssetIds match exactly the key-value pairs
     *   - if externalSubjectId (tenantId) is not null it must match the tenantId
     * <p>
     * Please note that the namespace and identifier lists must be of the same size and represent key-value pairs.
@@ -177,4 +218,37 @@ public interface ShellIdentifierRepository extends JpaRepository<ShellIdentifier
                "Override provided only in the specific repositories (e.g. default, H2, PostgreSQL, ...)."
        );
    }
+
+   /**
+    * Resolves multiple independent exact match lookups at once. Every lookup is identified by its query id, the same query id is
+    * repeated for each of its key-value pairs. A shell is a match for a query if it has all key-value pairs of the query, the
+    * access conditions are the same as in {@link #findExternalShellIdsByIdentifiersByExactMatch}.
+    * <p>
+    * The queryIds, namespaces and identifiers arrays must be of the same size, positional matching is used to determine the
+    * key-value pairs of each query.
+    *
+    * @param queryIds      the query id of each key-value pair
+    * @param namespaces    the lookup keys to search for
+    * @param identifiers   the lookup values to search for
+    * @param limitPerQuery the maximum number of shells returned per query
+    * @param candidateKeyValueDigests the digests of the specificAssetIds of which a matching shell must have at least one, or null to
+    *       return the matches regardless of their other specificAssetIds
+    * @return the matches of all queries, ordered by query id and the creation date of the shells
+    */
+   default List<ShellLookupMatch> findExternalShellIdsByIdentifiersByExactMatchInBatch(
+           String[] queryIds,
+           String[] namespaces,
+           String[] identifiers,
+           String tenantId,
+           String publicWildcardPrefix,
+           List<String> publicWildcardAllowedTypes,
+           String owningTenantId,
+           String globalAssetId,
+           Instant cutoffDate,
+           int limitPerQuery,
+           String[] candidateKeyValueDigests) {
+       throw new UnsupportedOperationException(
+               "Override provided only in the specific repositories (e.g. default, H2, PostgreSQL, ...)."
+       );
+   }
 }
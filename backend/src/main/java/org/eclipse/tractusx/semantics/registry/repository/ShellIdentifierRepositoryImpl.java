@@ -20,6 +20,8 @@
 
 package org.eclipse.tractusx.semantics.registry.repository;
 
+import org.eclipse.tractusx.semantics.registry.model.ShellIdentifier;
+import org.eclipse.tractusx.semantics.registry.model.projection.ShellLookupMatch;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -28,6 +30,12 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Lookup queries for H2 and other databases supporting the SQL standard {@code UNNEST} of arrays. The key-value pairs are probed
+ * by their digest (see {@link ShellIdentifier#digestOf(String, String)}) using the index on (KEY_VALUE_DIGEST, FK_SHELL_ID) within
+ * a single statement, the same plan as used by {@link PostgreSqlShellIdentifierRepository}. Derived tables are used instead of
+ * common table expressions, H2 does not evaluate bind parameters of a common table expression referenced by another one.
+ */
 @Repository
 public interface ShellIdentifierRepositoryImpl extends ShellIdentifierRepository {
 
@@ -45,15 +53,15 @@ public interface ShellIdentifierRepositoryImpl extends ShellIdentifierRepository
             @Param("cursorValue") String cursorValue,
             @Param("pageSize") int pageSize) {
 
-        // Concatenate namespaces and identifiers for IN clause
-        List<String> keyValuePairs = new ArrayList<>();
+        // Digest namespaces and identifiers for IN clause
+        List<String> keyValueDigests = new ArrayList<>();
         for (int i = 0; i < namespaces.length; i++) {
-            keyValuePairs.add(namespaces[i] + identifiers[i]);
+            keyValueDigests.add(ShellIdentifier.digestOf(namespaces[i], identifiers[i]));
         }
 
         // Execute actual query with the converted parameters
         return findExternalShellIdsByIdentifiersByExactMatchInternal(
-                keyValuePairs,
+                keyValueDigests,
                 pairCount,
                 cutoffDate,
                 cursorValue,
@@ -65,56 +73,61 @@ public interface ShellIdentifierRepositoryImpl extends ShellIdentifierRepository
                 pageSize);
     }
 
+    @Override
+    default List<ShellLookupMatch> findExternalShellIdsByIdentifiersByExactMatchInBatch(
+            String[] queryIds,
+            String[] namespaces,
+            String[] identifiers,
+            String tenantId,
+            String publicWildcardPrefix,
+            List<String> publicWildcardAllowedTypes,
+            String owningTenantId,
+            String globalAssetId,
+            Instant cutoffDate,
+            int limitPerQuery,
+            String[] candidateKeyValueDigests) {
+
+        String[] keyValueDigests = new String[namespaces.length];
+        for (int i = 0; i < namespaces.length; i++) {
+            keyValueDigests[i] = ShellIdentifier.digestOf(namespaces[i], identifiers[i]);
+        }
+
+        return findExternalShellIdsByIdentifiersByExactMatchInBatchInternal(queryIds, keyValueDigests, tenantId,
+                publicWildcardPrefix, publicWildcardAllowedTypes, owningTenantId, globalAssetId, cutoffDate, limitPerQuery,
+                candidateKeyValueDigests != null, candidateKeyValueDigests == null ? new String[0] : candidateKeyValueDigests)
+                .stream()
+                .map(row -> new ShellLookupMatch((String) row[0], (String) row[1]))
+                .toList();
+    }
+
     @Query(value = """
-            SELECT id_external
+            SELECT sl.id_external
             FROM (
-                SELECT s.id_external, s.created_date
-                FROM shell s
-                JOIN shell_identifier si ON s.id = si.fk_shell_id
-                WHERE CONCAT(si.namespace, si.identifier) IN (:keyValuePairs)
-                    AND (s.created_date > :cutoffDate OR (s.created_date = :cutoffDate AND s.id_external > :cursorValue))
-                    AND :tenantId = :owningTenantId
-                GROUP BY s.id_external, s.created_date
-                HAVING COUNT(*) = :pairCount
-            
-                UNION ALL
-            
-                SELECT s.id_external, s.created_date
+                SELECT s.id_external, s.created_date, si.namespace, si.id AS si_id
                 FROM shell s
                 JOIN shell_identifier si ON s.id = si.fk_shell_id
-                WHERE CONCAT(si.namespace, si.identifier) IN (:keyValuePairs)
+                WHERE si.key_value_digest IN (:keyValueDigests)
                     AND (s.created_date > :cutoffDate OR (s.created_date = :cutoffDate AND s.id_external > :cursorValue))
-                    AND si.namespace = :globalAssetId
-                    AND NOT (:tenantId = :owningTenantId)
-                GROUP BY s.id_external, s.created_date
-                HAVING COUNT(*) = :pairCount
-            
-                UNION ALL
-            
-                SELECT s.id_external, s.created_date
-                FROM shell s
-                JOIN shell_identifier si ON s.id = si.fk_shell_id
-                WHERE CONCAT(si.namespace, si.identifier) IN (:keyValuePairs)
-                    AND (s.created_date > :cutoffDate OR (s.created_date = :cutoffDate AND s.id_external > :cursorValue))
-                    AND EXISTS (
-                        SELECT 1
-                        FROM SHELL_IDENTIFIER_EXTERNAL_SUBJECT_REFERENCE_KEY sider
-                        JOIN SHELL_IDENTIFIER_EXTERNAL_SUBJECT_REFERENCE sies
-                            ON sider.FK_SI_EXTERNAL_SUBJECT_REFERENCE_ID = sies.id
-                        WHERE sies.FK_SHELL_IDENTIFIER_EXTERNAL_SUBJECT_ID = si.id
-                            AND (sider.ref_key_value = :tenantId
-                                OR (sider.ref_key_value = :publicWildcardPrefix
-                                    AND si.namespace IN (:publicWildcardAllowedTypes)))
-                    )
-                    AND NOT (:tenantId = :owningTenantId OR si.namespace = :globalAssetId)
-                GROUP BY s.id_external, s.created_date
-                HAVING COUNT(*) = :pairCount
-            ) AS combined_shells
-            ORDER BY created_date, id_external
+            ) sl
+            WHERE :tenantId = :owningTenantId
+                OR sl.namespace = :globalAssetId
+                OR EXISTS (
+                    SELECT 1
+                    FROM SHELL_IDENTIFIER_EXTERNAL_SUBJECT_REFERENCE_KEY sider
+                    JOIN SHELL_IDENTIFIER_EXTERNAL_SUBJECT_REFERENCE sies
+                        ON sider.FK_SI_EXTERNAL_SUBJECT_REFERENCE_ID = sies.id
+                    WHERE sies.FK_SHELL_IDENTIFIER_EXTERNAL_SUBJECT_ID = sl.si_id
+                        AND (sider.ref_key_value = :tenantId
+                            OR (sider.ref_key_value = :publicWildcardPrefix
+                                AND sl.namespace IN (:publicWildcardAllowedTypes)))
+                )
+            GROUP BY sl.id_external, sl.created_date
+            HAVING COUNT(*) = :pairCount
+            ORDER BY sl.created_date, sl.id_external
             LIMIT :pageSize
             """, nativeQuery = true)
     List<String> findExternalShellIdsByIdentifiersByExactMatchInternal(
-            @Param("keyValuePairs") List<String> keyValuePairs,
+            @Param("keyValueDigests") List<String> keyValueDigests,
             @Param("pairCount") int pairCount,
             @Param("cutoffDate") Instant cutoffDate,
             @Param("cursorValue") String cursorValue,
@@ -124,4 +137,60 @@ public interface ShellIdentifierRepositoryImpl extends ShellIdentifierRepository
             @Param("publicWildcardPrefix") String publicWildcardPrefix,
             @Param("publicWildcardAllowedTypes") List<String> publicWildcardAllowedTypes,
             @Param("pageSize") int pageSize);
+
+    @Query(value = """
+            SELECT ms.query_id, ms.id_external
+            FROM (
+                SELECT sl.query_id, sl.id_external,
+                    ROW_NUMBER() OVER (PARTITION BY sl.query_id ORDER BY sl.created_date, sl.id_external) AS position
+                FROM (
+                    SELECT lq.query_id, lq.pair_count, s.id_external, s.created_date, si.namespace, si.id AS si_id
+                    FROM (
+                        SELECT q.query_id, q.key_value_digest, COUNT(*) OVER (PARTITION BY q.query_id) AS pair_count
+                        FROM (
+                            SELECT DISTINCT u.query_id, u.key_value_digest
+                            FROM UNNEST(CAST(:queryIds AS VARCHAR ARRAY), CAST(:keyValueDigests AS VARCHAR ARRAY))
+                                AS u(query_id, key_value_digest)
+                        ) q
+                    ) lq
+                    JOIN shell_identifier si ON si.key_value_digest = lq.key_value_digest
+                    JOIN shell s ON s.id = si.fk_shell_id
+                    WHERE s.created_date > :cutoffDate
+                        AND (:candidateFilter = FALSE OR EXISTS (
+                            SELECT 1
+                            FROM shell_identifier candidate
+                            WHERE candidate.fk_shell_id = s.id
+                                AND candidate.key_value_digest = ANY(CAST(:candidateKeyValueDigests AS VARCHAR ARRAY))
+                        ))
+                ) sl
+                WHERE :tenantId = :owningTenantId
+                    OR sl.namespace = :globalAssetId
+                    OR EXISTS (
+                        SELECT 1
+                        FROM SHELL_IDENTIFIER_EXTERNAL_SUBJECT_REFERENCE_KEY sider
+                        JOIN SHELL_IDENTIFIER_EXTERNAL_SUBJECT_REFERENCE sies
+                            ON sider.FK_SI_EXTERNAL_SUBJECT_REFERENCE_ID = sies.id
+                        WHERE sies.FK_SHELL_IDENTIFIER_EXTERNAL_SUBJECT_ID = sl.si_id
+                            AND (sider.ref_key_value = :tenantId
+                                OR (sider.ref_key_value = :publicWildcardPrefix
+                                    AND sl.namespace IN (:publicWildcardAllowedTypes)))
+                    )
+                GROUP BY sl.query_id, sl.id_external, sl.created_date, sl.pair_count
+                HAVING COUNT(*) = sl.pair_count
+            ) ms
+            WHERE ms.position <= :limitPerQuery
+            ORDER BY ms.query_id, ms.position
+            """, nativeQuery = true)
+    List<Object[]> findExternalShellIdsByIdentifiersByExactMatchInBatchInternal(
+            @Param("queryIds") String[] queryIds,
+            @Param("keyValueDigests") String[] keyValueDigests,
+            @Param("tenantId") String tenantId,
+            @Param("publicWildcardPrefix") String publicWildcardPrefix,
+            @Param("publicWildcardAllowedTypes") List<String> publicWildcardAllowedTypes,
+            @Param("owningTenantId") String owningTenantId,
+            @Param("globalAssetId") String globalAssetId,
+            @Param("cutoffDate") Instant cutoffDate,
+            @Param("limitPerQuery") int limitPerQuery,
+            @Param("candidateFilter") boolean candidateFilter,
+            @Param("candidateKeyValueDigests") String[] candidateKeyValueDigests);
 }
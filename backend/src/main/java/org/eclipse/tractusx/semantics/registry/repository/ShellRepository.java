@@ -21,12 +21,14 @@
 package org.eclipse.tractusx.semantics.registry.repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import org.eclipse.tractusx.semantics.registry.model.Shell;
+import org.eclipse.tractusx.semantics.registry.model.ShellIdentifier;
 import org.eclipse.tractusx.semantics.registry.model.projection.ShellMinimal;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -34,164 +36,147 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ShellRepository extends JpaRepository<Shell, UUID>, JpaSpecificationExecutor<Shell> {
+
    Optional<Shell> findByIdExternal( @Param( "idExternal" ) String idExternal );
 
    boolean existsByIdShort( @Param( "idShort" ) String idShort );
 
-   @Query( value = """
-      SELECT s.*
-      FROM SHELL s
-      WHERE
-         s.id_external = :idExternal
-         AND (
-            :tenantId = :owningTenantId
-            OR EXISTS (
-               SELECT 1
-               FROM SHELL_IDENTIFIER si
-               JOIN SHELL_IDENTIFIER_EXTERNAL_SUBJECT_REFERENCE sies ON si.id = sies.FK_SHELL_IDENTIFIER_EXTERNAL_SUBJECT_ID
-               JOIN SHELL_IDENTIFIER_EXTERNAL_SUBJECT_REFERENCE_KEY sider ON sies.id = sider.FK_SI_EXTERNAL_SUBJECT_REFERENCE_ID
-               WHERE
-                  si.fk_shell_id = s.id
-                  AND (
-                     sider.ref_key_value = :tenantId
-                     OR ( sider.ref_key_value = :publicWildcardPrefix AND si.namespace IN (:publicWildcardAllowedTypes) )
-                  )
-            )
-         )
-      """, nativeQuery = true )
-   Optional<Shell> findByIdExternalAndExternalSubjectId( @Param( "idExternal" ) String idExternal,
-         @Param( "tenantId" ) String tenantId,
-         @Param( "owningTenantId" ) String owningTenantId,
-         @Param( "publicWildcardPrefix" ) String publicWildcardPrefix,
-         @Param( "publicWildcardAllowedTypes" ) List<String> publicWildcardAllowedTypes );
-
    @Query( "SELECT new org.eclipse.tractusx.semantics.registry.model.projection.ShellMinimal(s.id,s.createdDate) FROM Shell s WHERE s.idExternal = :idExternal" )
    Optional<ShellMinimal> findMinimalRepresentationByIdExternal( @Param( "idExternal" ) String idExternal );
 
    List<Shell> findShellsByIdExternalIsIn( Set<String> idExternals );
 
+   @Query( "SELECT s.idExternal FROM Shell s WHERE s.idExternal IN :idExternals" )
+   Set<String> findIdExternalsByIdExternalIsIn( @Param( "idExternals" ) Collection<String> idExternals );
+
+   /**
+    * Returns the next page of shells using keyset pagination on (created_date, id).
+    * The shells are ordered by the same composite key, therefore the query can be answered by the idx_shell_created_date_id
+    * index and the cost of a page does not depend on its position. No count query is executed, callers should request one more
+    * shell than the page size to find out whether there is a next page.
+    *
+    * @param cursorCreatedDate the created date of the last shell of the previous page
+    * @param cursorId the id of the last shell of the previous page
+    * @param limit the maximum number of shells to return
+    * @return the shells after the cursor position
+    */
    @Query(
            value = """
            SELECT s.*
             FROM shell s
-            WHERE s.created_date > :cursorCreatedDate
-              AND (
-                  :tenantId IS NULL
-                  OR :tenantId = :owningTenantId
-                  OR EXISTS (
-                      SELECT 1
-                      FROM shell_identifier si
-                      JOIN shell_identifier_external_subject_reference sies
-                           ON sies.fk_shell_identifier_external_subject_id = si.id
-                      JOIN shell_identifier_external_subject_reference_key sider
-                           ON sider.fk_si_external_subject_reference_id = sies.id
-                      WHERE si.fk_shell_id = s.id
-                        AND (
-                            sider.ref_key_value = :tenantId
-                            OR (
-                                sider.ref_key_value = :publicWildcardPrefix
-                                AND si.namespace IN (:publicWildcardAllowedTypes)
-                            )
-                        )
-                  )
-              )
-            ORDER BY s.id, s.created_date ASC
+            WHERE ( s.created_date, s.id ) > ( :cursorCreatedDate, :cursorId )
+            ORDER BY s.created_date ASC, s.id ASC
+            LIMIT :limit
         """,
-           countQuery = """
-         SELECT COUNT(*)
-           FROM (
-               SELECT s.id
-               FROM shell s
-               WHERE s.created_date > :cursorCreatedDate
-                 AND (
-                     :tenantId IS NULL
-                     OR :tenantId = :owningTenantId
-                     OR EXISTS (
-                         SELECT 1
-                         FROM shell_identifier si
-                         JOIN shell_identifier_external_subject_reference sies
-                              ON sies.fk_shell_identifier_external_subject_id = si.id
-                         JOIN shell_identifier_external_subject_reference_key sider
-                              ON sider.fk_si_external_subject_reference_id = sies.id
-                         WHERE si.fk_shell_id = s.id
-                           AND (
-                               sider.ref_key_value = :tenantId
-                               OR (
-                                   sider.ref_key_value = :publicWildcardPrefix
-                                   AND si.namespace IN (:publicWildcardAllowedTypes)
-                               )
-                           )
-                     )
-                 )
-           ) AS shell_count
+           nativeQuery = true
+   )
+   List<Shell> findAllAfter(
+           @Param("cursorCreatedDate") Instant cursorCreatedDate,
+           @Param("cursorId") UUID cursorId,
+           @Param("limit") int limit
+   );
+
+   /**
+    * Returns the next page of shells visible for the tenant using keyset pagination on (created_date, id). A shell is visible if
+    * one of its specificAssetIds references the tenant, or the public wildcard in case the specificAssetId type allows it.
+    * The visibility is read from SHELL_VISIBILITY, therefore the page is found with a range scan of SHELL_VISIBILITY_IX01
+    * per tenant instead of evaluating the external subject references of every shell.
+    *
+    * @param tenantId the tenant reading the shells
+    * @param publicWildcardPrefix the externalSubjectId which makes a specificAssetId public
+    * @param publicWildcardAllowedTypes the specificAssetId types which can be made public
+    * @param cursorCreatedDate the created date of the last shell of the previous page
+    * @param cursorId the id of the last shell of the previous page
+    * @param limit the maximum number of shells to return
+    * @return the shells after the cursor position
+    */
+   @Query(
+           value = """
+           SELECT s.*
+            FROM shell s
+            JOIN (
+                SELECT DISTINCT sv.created_date, sv.fk_shell_id
+                FROM shell_visibility sv
+                WHERE ( sv.created_date, sv.fk_shell_id ) > ( :cursorCreatedDate, :cursorId )
+                  AND (
+                      sv.tenant_id = :tenantId
+                      OR (
+                          sv.tenant_id = :publicWildcardPrefix
+                          AND sv.namespace IN (:publicWildcardAllowedTypes)
+                      )
+                  )
+                ORDER BY sv.created_date ASC, sv.fk_shell_id ASC
+                LIMIT :limit
+            ) visible ON visible.fk_shell_id = s.id
+            ORDER BY s.created_date ASC, s.id ASC
         """,
            nativeQuery = true
    )
-   Page<Shell> findAllByExternalSubjectId(
+   List<Shell> findAllVisibleForTenantAfter(
            @Param("tenantId") String tenantId,
-           @Param("owningTenantId") String owningTenantId,
            @Param("publicWildcardPrefix") String publicWildcardPrefix,
            @Param("publicWildcardAllowedTypes") List<String> publicWildcardAllowedTypes,
            @Param("cursorCreatedDate") Instant cursorCreatedDate,
-           Pageable pageable
+           @Param("cursorId") UUID cursorId,
+           @Param("limit") int limit
    );
 
    /**
-    * Returns external shell ids for the given keyValueCombinations.
-    * External shell ids that match any keyValueCombinations are returned.
+    * Deletes the shell with a single statement without loading it. The associated rows, including the visibility of the shell, are
+    * deleted by the database through the ON DELETE CASCADE of their foreign keys.
     *
-    * To be able to properly index the key and value conditions, the query does not use any functions.
-    * Computed indexes cannot be created for mutable functions like CONCAT in Postgres.
+    * @param idExternal the idExternal of the shell
+    * @return the number of deleted shells, 0 if the shell doesn't exist
+    */
+   @Modifying( flushAutomatically = true )
+   @Query( value = "DELETE FROM Shell s WHERE s.idExternal = :idExternal" )
+   int deleteShellByIdExternal( @Param( "idExternal" ) String idExternal );
+
+   /**
+    * Deletes the shells with a single statement, see {@link #deleteShellByIdExternal(String)}. The idExternals are bound as a single
+    * array parameter, see {@link ArrayFunctionContributor}.
+    *
+    * @param idExternals the idExternals of the shells, unknown ones are ignored
+    * @return the number of deleted shells
+    */
+   @Modifying( flushAutomatically = true )
+   @Query( value = "DELETE FROM Shell s WHERE equals_any( s.idExternal, :idExternals )" )
+   int deleteShellsByIdExternalIn( @Param( "idExternals" ) String[] idExternals );
+
+   /**
+    * Removes the visibility of the shells, it is recreated from their identifiers with {@link #insertVisibilityByShellIdIn(Collection)}.
+    * The pending changes of the identifiers are flushed first.
+    *
+    * @param shellIds the ids of the shells
+    */
+   @Modifying( flushAutomatically = true )
+   @Query( value = "DELETE FROM shell_visibility WHERE fk_shell_id IN (:shellIds)", nativeQuery = true )
+   void deleteVisibilityByShellIdIn( @Param( "shellIds" ) Collection<UUID> shellIds );
+
+   /**
+    * Stores every tenant referenced by the externalSubjectId of a specificAssetId of the shells in SHELL_VISIBILITY.
     *
-    * @param keyValueCombinations the keys values to search for as tuples
-    * @return external shell ids for the given key value combinations
+    * @param shellIds the ids of the shells
     */
+   @Modifying( flushAutomatically = true )
    @Query( value = """
-         SELECT s.id_external
-         FROM SHELL s
-         JOIN SHELL_IDENTIFIER si ON s.id = si.fk_shell_id
-         LEFT JOIN SHELL_IDENTIFIER_EXTERNAL_SUBJECT_REFERENCE sies ON si.id = sies.FK_SHELL_IDENTIFIER_EXTERNAL_SUBJECT_ID
-         LEFT JOIN SHELL_IDENTIFIER_EXTERNAL_SUBJECT_REFERENCE_KEY sider ON sies.id = sider.FK_SI_EXTERNAL_SUBJECT_REFERENCE_ID
-         WHERE
-            CONCAT(si.namespace, si.identifier) IN (:keyValueCombinations)
-            AND (
-               :tenantId = :owningTenantId
-               OR si.namespace = :globalAssetId
-               OR (
-                     sider.ref_key_value = :tenantId
-                     OR (
-                        sider.ref_key_value = :publicWildcardPrefix
-                        AND si.namespace IN (:publicWildcardAllowedTypes)
-                     )
-               )
-            )
-         GROUP BY s.id_external, s.id
-         HAVING COUNT(DISTINCT CONCAT(si.namespace, si.identifier)) = :keyValueCombinationsSize
+         INSERT INTO shell_visibility ( fk_shell_id, tenant_id, namespace, created_date )
+         SELECT DISTINCT s.id, sider.ref_key_value, si.namespace, s.created_date
+         FROM shell s
+         JOIN shell_identifier si ON si.fk_shell_id = s.id
+         JOIN shell_identifier_external_subject_reference sies ON sies.fk_shell_identifier_external_subject_id = si.id
+         JOIN shell_identifier_external_subject_reference_key sider ON sider.fk_si_external_subject_reference_id = sies.id
+         WHERE s.id IN (:shellIds)
+           AND sider.ref_key_value IS NOT NULL
          """, nativeQuery = true )
-   List<String> findExternalShellIdsByIdentifiersByAnyMatch( @Param( "keyValueCombinations" ) List<String> keyValueCombinations,
-         @Param( "tenantId" ) String tenantId,
-         @Param( "publicWildcardPrefix" ) String publicWildcardPrefix,
-         @Param( "publicWildcardAllowedTypes" ) List<String> publicWildcardAllowedTypes,
-         @Param( "owningTenantId" ) String owningTenantId,
-         @Param( "globalAssetId" ) String globalAssetId );
-
-   @Query( """
-         SELECT s
-         FROM Shell s
-         WHERE
-            s.id IN (
-               SELECT filterendpoint.submodel.shellId.id
-               FROM SubmodelEndpoint filterendpoint
-               WHERE filterendpoint.endpointAddress = :endpointAddress
-            )
-         """)
-   List<Shell> findAllBySubmodelEndpointAddress( String endpointAddress );
+   void insertVisibilityByShellIdIn( @Param( "shellIds" ) Collection<UUID> shellIds );
 
    @Query("SELECT s.createdDate FROM Shell s WHERE s.idExternal = :idExternal")
    Optional<Instant> getCreatedDateByIdExternal( String idExternal );
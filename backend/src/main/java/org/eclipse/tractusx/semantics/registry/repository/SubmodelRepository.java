@@ -20,11 +20,14 @@
 
 package org.eclipse.tractusx.semantics.registry.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.tractusx.semantics.registry.model.Shell;
 import org.eclipse.tractusx.semantics.registry.model.Submodel;
+import org.eclipse.tractusx.semantics.registry.model.projection.SubmodelEndpointMatch;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -38,4 +41,34 @@ public interface SubmodelRepository extends JpaRepository<Submodel, UUID>, JpaSp
 
    @Query( value = "SELECT s FROM Submodel s WHERE s.shellId.id = :shellId AND s.idExternal = :externalId" )
    Optional<Submodel> findMinimalRepresentationByShellIdAndIdExternal( @Param( "shellId" ) UUID shellId, @Param( "externalId" ) String externalId );
+
+   /**
+    * Returns the submodel with its semanticId, the remaining associations can be loaded with
+    * {@link org.eclipse.tractusx.semantics.registry.service.ShellAssociationLoader#loadSubmodelAssociations(java.util.Collection)}.
+    */
+   @Query( value = "SELECT s FROM Submodel s LEFT JOIN FETCH s.semanticId WHERE s.shellId.id = :shellId AND s.idExternal = :externalId" )
+   Optional<Submodel> findWithSemanticIdByShellIdAndIdExternal( @Param( "shellId" ) UUID shellId, @Param( "externalId" ) String externalId );
+
+   /**
+    * Returns the shells and semanticIds of the submodels having an endpoint with one of the given addresses. The endpoints are found
+    * with the index on the digest of the address, the addresses are compared as well, therefore a collision of the digests can't match
+    * an address which wasn't requested.
+    */
+   @Query( value = """
+         SELECT NEW org.eclipse.tractusx.semantics.registry.model.projection.SubmodelEndpointMatch(endpoint.endpointAddress, s.idExternal,
+            semanticIdKey.value)
+         FROM SubmodelEndpoint endpoint
+            JOIN endpoint.submodel submodel
+            JOIN submodel.shellId s
+            LEFT JOIN submodel.semanticId semanticIdReference
+            LEFT JOIN semanticIdReference.keys semanticIdKey
+         WHERE
+            endpoint.endpointAddressDigest IN :endpointAddressDigests
+            AND endpoint.endpointAddress IN :endpointAddresses
+         """ )
+   List<SubmodelEndpointMatch> findAllByEndpointAddressIn( @Param( "endpointAddressDigests" ) Collection<String> endpointAddressDigests,
+         @Param( "endpointAddresses" ) Collection<String> endpointAddresses );
+
+   @Query( value = "SELECT endpoint.endpointAddress FROM SubmodelEndpoint endpoint WHERE endpoint.submodel.shellId.idExternal = :externalShellId" )
+   List<String> findEndpointAddressesByShellIdExternal( @Param( "externalShellId" ) String externalShellId );
 }
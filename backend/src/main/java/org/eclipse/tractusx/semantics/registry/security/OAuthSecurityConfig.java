@@ -46,12 +46,17 @@ public class OAuthSecurityConfig {
               .authorizeRequests( auth -> auth
                     .requestMatchers( HttpMethod.OPTIONS ).permitAll()
 
+                    // the progress of an import job is read by the creators of the descriptors
+                    .requestMatchers( HttpMethod.GET, "/**/shell-descriptors/imports/**" ).access( "@authorizationEvaluator.hasRoleAddDigitalTwin()" )
                     .requestMatchers( HttpMethod.GET, "/**/shell-descriptors" ).access( "@authorizationEvaluator.hasRoleViewDigitalTwin()" )
                     .requestMatchers( HttpMethod.GET, "/**/shell-descriptors/**" ).access( "@authorizationEvaluator.hasRoleViewDigitalTwin()" )
                     .requestMatchers( HttpMethod.GET, "/**/shell-descriptors/**/submodel-descriptors" ).access( "@authorizationEvaluator.hasRoleViewDigitalTwin()" )
                     .requestMatchers( HttpMethod.GET, "/**/shell-descriptors/**/submodel-descriptors/**" ).access( "@authorizationEvaluator.hasRoleViewDigitalTwin()" )
                     // others are HTTP method based
                     .requestMatchers( HttpMethod.POST, "/**/shell-descriptors" ).access( "@authorizationEvaluator.hasRoleAddDigitalTwin()" )
+                    .requestMatchers( HttpMethod.POST, "/**/shell-descriptors/batch" ).access( "@authorizationEvaluator.hasRoleAddDigitalTwin()" )
+                    .requestMatchers( HttpMethod.POST, "/**/shell-descriptors/imports" ).access( "@authorizationEvaluator.hasRoleAddDigitalTwin()" )
+                    .requestMatchers( HttpMethod.POST, "/**/shell-descriptors/batch/delete" ).access( "@authorizationEvaluator.hasRoleDeleteDigitalTwin()" )
                     .requestMatchers( HttpMethod.POST, "/**/shell-descriptors/**/submodel-descriptors" ).access( "@authorizationEvaluator.hasRoleAddDigitalTwin()" )
                     .requestMatchers( HttpMethod.PUT, "/**/shell-descriptors/**" ).access( "@authorizationEvaluator.hasRoleUpdateDigitalTwin()" )
                     .requestMatchers( HttpMethod.PUT, "/**/shell-descriptors/**/submodel-descriptors/**" ).access( "@authorizationEvaluator.hasRoleUpdateDigitalTwin()" )
@@ -62,6 +67,7 @@ public class OAuthSecurityConfig {
                     // query endpoint is allowed for reader
                     .requestMatchers( HttpMethod.POST, "/**/lookup/**/query/**" ).access( "@authorizationEvaluator.hasRoleViewDigitalTwin()" )
                     .requestMatchers( HttpMethod.POST, "/**/lookup/shellsByAssetLink" ).access( "@authorizationEvaluator.hasRoleViewDigitalTwin() or @authorizationEvaluator.hasRoleAddDigitalTwin()" )
+                    .requestMatchers( HttpMethod.POST, "/**/lookup/shellsByAssetLink/batch" ).access( "@authorizationEvaluator.hasRoleViewDigitalTwin() or @authorizationEvaluator.hasRoleAddDigitalTwin()" )
                     // others are HTTP method based
                     .requestMatchers( HttpMethod.GET, "/**/lookup/**" ).access( "@authorizationEvaluator.hasRoleViewDigitalTwin()" )
                     .requestMatchers( HttpMethod.POST, "/**/lookup/**" ).access( "@authorizationEvaluator.hasRoleAddDigitalTwin()" )
@@ -73,6 +79,7 @@ public class OAuthSecurityConfig {
 
                     //submodel access control requires special role
                     .requestMatchers( HttpMethod.POST, "/**/submodel-descriptor/authorized" ).access( "@authorizationEvaluator.hasRoleSubmodelAccessControl()" )
+                    .requestMatchers( HttpMethod.POST, "/**/submodel-descriptor/authorized/batch" ).access( "@authorizationEvaluator.hasRoleSubmodelAccessControl()" )
 
                     //read access rules
                     .requestMatchers( HttpMethod.GET, "/**/access-controls/rules" ).access( "@authorizationEvaluator.hasRoleReadAccessRules()" )
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Limits the number of concurrent outermost transactions to the size of the connection pool. Without the limit, every request
+ * thread waits for a connection of the pool until the connection timeout expires, which holds a thread per waiting request and
+ * reports the overload only after the connection timeout. With the limit, the transactions wait in a fair queue for at most the
+ * acquire timeout and are rejected with {@link TooManyConcurrentTransactionsException} afterwards.
+ * <p>
+ * Transactions started within an active transaction, including the ones with {@code REQUIRES_NEW}, are covered by the permit of
+ * the outermost transaction, as waiting for a second permit while holding one could exhaust the permits.
+ */
+public class ConcurrencyLimitingTransactionManager implements PlatformTransactionManager {
+
+   public static final String ACTIVE_TRANSACTIONS_METRIC = "registry.database.transactions.active";
+   public static final String WAITING_TRANSACTIONS_METRIC = "registry.database.transactions.waiting";
+   public static final String REJECTED_TRANSACTIONS_METRIC = "registry.database.transactions.rejected";
+
+   private final PlatformTransactionManager delegate;
+   private final int maxConcurrentTransactions;
+   private final Duration acquireTimeout;
+   private final Semaphore permits;
+   private final Set<TransactionStatus> transactionsHoldingPermit = Collections.newSetFromMap( new ConcurrentHashMap<>() );
+   private final Counter rejectedTransactions;
+
+   public ConcurrencyLimitingTransactionManager( PlatformTransactionManager delegate, int maxConcurrentTransactions, Duration acquireTimeout,
+         MeterRegistry meterRegistry ) {
+      this.delegate = delegate;
+      this.maxConcurrentTransactions = maxConcurrentTransactions;
+      this.acquireTimeout = acquireTimeout;
+      this.permits = new Semaphore( maxConcurrentTransactions, true );
+      Gauge.builder( ACTIVE_TRANSACTIONS_METRIC, permits, semaphore -> maxConcurrentTransactions - semaphore.availablePermits() )
+            .description( "The number of running outermost transactions" )
+            .register( meterRegistry );
+      Gauge.builder( WAITING_TRANSACTIONS_METRIC, permits, Semaphore::getQueueLength )
+            .description( "The number of transactions waiting for one of the running transactions to complete" )
+            .register( meterRegistry );
+      this.rejectedTransactions = Counter.builder( REJECTED_TRANSACTIONS_METRIC )
+            .description( "The number of transactions rejected because the limit of concurrent transactions was reached" )
+            .register( meterRegistry );
+   }
+
+   @Override
+   public TransactionStatus getTransaction( TransactionDefinition definition ) throws TransactionException {
+      if ( !requiresPermit( definition ) ) {
+         return delegate.getTransaction( definition );
+      }
+      acquirePermit();
+      try {
+         final TransactionStatus status = delegate.getTransaction( definition );
+         transactionsHoldingPermit.add( status );
+         return status;
+      } catch ( RuntimeException | Error e ) {
+         permits.release();
+         throw e;
+      }
+   }
+
+   @Override
+   public void commit( TransactionStatus status ) throws TransactionException {
+      try {
+         delegate.commit( status );
+      } finally {
+         releasePermitOf( status );
+      }
+   }
+
+   @Override
+   public void rollback( TransactionStatus status ) throws TransactionException {
+      try {
+         delegate.rollback( status );
+      } finally {
+         releasePermitOf( status );
+      }
+   }
+
+   private boolean requiresPermit( TransactionDefinition definition ) {
+      final int propagation = definition == null ? TransactionDefinition.PROPAGATION_REQUIRED : definition.getPropagationBehavior();
+      return !TransactionSynchronizationManager.isActualTransactionActive()
+            && propagation != TransactionDefinition.PROPAGATION_SUPPORTS
+            && propagation != TransactionDefinition.PROPAGATION_NOT_SUPPORTED
+            && propagation != TransactionDefinition.PROPAGATION_NEVER;
+   }
+
+   private void acquirePermit() {
+      try {
+         if ( !permits.tryAcquire( acquireTimeout.toMillis(), TimeUnit.MILLISECONDS ) ) {
+            rejectedTransactions.increment();
+            throw new TooManyConcurrentTransactionsException( String.format(
+                  "The registry is overloaded, all %d database connections are in use. Please retry later.", maxConcurrentTransactions ) );
+         }
+      } catch ( InterruptedException e ) {
+         Thread.currentThread().interrupt();
+         throw new TooManyConcurrentTransactionsException( "Interrupted while waiting for a database connection." );
+      }
+   }
+
+   private void releasePermitOf( TransactionStatus status ) {
+      if ( transactionsHoldingPermit.remove( status ) ) {
+         permits.release();
+      }
+   }
+}
@@ -30,6 +30,8 @@ import org.eclipse.tractusx.semantics.RegistryProperties;
 import org.eclipse.tractusx.semantics.registry.model.Shell;
 import org.eclipse.tractusx.semantics.registry.model.ShellIdentifier;
 import org.eclipse.tractusx.semantics.registry.model.ShellIdentifierExternalSubjectReferenceKey;
+import org.eclipse.tractusx.semantics.registry.model.projection.ShellIdentifierMinimal;
+import org.eclipse.tractusx.semantics.registry.model.projection.SubmodelEndpointMatch;
 import org.eclipse.tractusx.semantics.registry.utils.ShellCursor;
 import org.eclipse.tractusx.semantics.registry.utils.ShellSpecification;
 import org.springframework.data.jpa.domain.Specification;
@@ -106,6 +108,15 @@ public class DefaultShellAccessHandler implements ShellAccessHandler {
             .toList();
    }
 
+   /**
+    * The classic access control does not restrict the submodels of a shell, the submodels are visible for every tenant.
+    */
+   @Override
+   public Set<String> filterVisibleEndpointAddresses( List<SubmodelEndpointMatch> submodels, List<ShellIdentifierMinimal> shellIdentifiers,
+         String externalSubjectId ) {
+      return submodels.stream().map( SubmodelEndpointMatch::endpointAddress ).collect( Collectors.toSet() );
+   }
+
    private Set<ShellIdentifier> filterSpecificAssetIdsByTenantId( Set<ShellIdentifier> shellIdentifiers, String tenantId ) {
       // the owning tenant should always see all identifiers
       if ( tenantId.equals( owningTenantId ) ) {
@@ -128,8 +139,8 @@ public class DefaultShellAccessHandler implements ShellAccessHandler {
                                   && externalSubjectIdWildcardAllowedTypes.contains( identifier.getKey() )) )
                         .collect( Collectors.toSet() );
             if ( !optionalReferenceKey.isEmpty() ) {
-               identifier.getExternalSubjectId().setKeys( optionalReferenceKey );
-               externalSubjectIdSet.add( identifier );
+               // the loaded shell may be shared with other requests, therefore the filtered keys are set on a copy
+               externalSubjectIdSet.add( identifier.withExternalSubjectId( identifier.getExternalSubjectId().withKeys( optionalReferenceKey ) ) );
             }
          }
       }
@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.eclipse.tractusx.semantics.RegistryProperties;
@@ -40,6 +41,7 @@ import org.eclipse.tractusx.semantics.registry.model.Shell;
 import org.eclipse.tractusx.semantics.registry.model.ShellIdentifier;
 import org.eclipse.tractusx.semantics.registry.model.Submodel;
 import org.eclipse.tractusx.semantics.registry.model.projection.ShellIdentifierMinimal;
+import org.eclipse.tractusx.semantics.registry.model.projection.SubmodelEndpointMatch;
 import org.eclipse.tractusx.semantics.registry.utils.ShellCursor;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.Nullable;
@@ -81,7 +83,13 @@ public class GranularShellAccessHandler implements ShellAccessHandler {
          final OffsetDateTime createdAfter ) {
       return ( root, query, criteriaBuilder ) -> {
          final Instant searchValue = getCreatedDate( cursor, createdAfter );
-         return criteriaBuilder.greaterThan( root.get( sortFieldName ), searchValue );
+         final UUID searchId = cursor.getShellSearchCursorId();
+         // keyset condition on (createdDate, id) to avoid skipping or repeating shells created at the same instant
+         return criteriaBuilder.or(
+               criteriaBuilder.greaterThan( root.get( sortFieldName ), searchValue ),
+               criteriaBuilder.and(
+                     criteriaBuilder.equal( root.get( sortFieldName ), searchValue ),
+                     criteriaBuilder.greaterThan( root.get( "id" ), searchId ) ) );
       };
    }
 
@@ -109,6 +117,36 @@ public class GranularShellAccessHandler implements ShellAccessHandler {
             .toList();
    }
 
+   @Override
+   public Set<String> filterVisibleEndpointAddresses( List<SubmodelEndpointMatch> submodels, List<ShellIdentifierMinimal> shellIdentifiers,
+         String externalSubjectId ) {
+      if ( owningTenantId.equals( externalSubjectId ) ) {
+         return submodels.stream().map( SubmodelEndpointMatch::endpointAddress ).collect( Collectors.toSet() );
+      }
+
+      Map<String, Set<String>> semanticIdsByShellId = submodels.stream()
+            .filter( submodel -> submodel.semanticId() != null )
+            .collect( Collectors.groupingBy( SubmodelEndpointMatch::shellId,
+                  Collectors.mapping( SubmodelEndpointMatch::semanticId, Collectors.toSet() ) ) );
+      List<ShellVisibilityContext> shellContexts = shellIdentifiers.stream()
+            .filter( shellIdentifier -> semanticIdsByShellId.containsKey( shellIdentifier.shellId() ) )
+            .collect( Collectors.groupingBy( ShellIdentifierMinimal::shellId ) ).entrySet().stream()
+            .map( entry -> new ShellVisibilityContext( entry.getKey(), entry.getValue().stream()
+                  .map( shellIdentifier -> new SpecificAssetId( shellIdentifier.namespace(), shellIdentifier.identifier() ) )
+                  .collect( Collectors.toSet() ) ) )
+            .toList();
+      if ( shellContexts.isEmpty() ) {
+         return Set.of();
+      }
+      Map<String, ShellVisibilityCriteria> visibilityCriteria = accessControlRuleService.fetchVisibilityCriteriaForShells( shellContexts,
+            externalSubjectId );
+      return submodels.stream()
+            .filter( submodel -> submodel.semanticId() != null && visibilityCriteria.containsKey( submodel.shellId() ) )
+            .filter( submodel -> visibilityCriteria.get( submodel.shellId() ).visibleSemanticIds().contains( submodel.semanticId() ) )
+            .map( SubmodelEndpointMatch::endpointAddress )
+            .collect( Collectors.toSet() );
+   }
+
    /**
     * This method filters out the shell-properties based on externalSubjectId in the specificAssetIds.<br>
     * 1. Condition: The owner of the shell has full access to the shell.<br>
@@ -198,11 +236,10 @@ public class GranularShellAccessHandler implements ShellAccessHandler {
       return shellIdentifiers.stream()
             .filter( identifier -> isSisSpecificAssetIdVisible( identifier, visibilityCriteria ) )
             //TODO: Do we need to clear the list of external subject Ids?
-            .map( identifier -> {
-               Optional.ofNullable( identifier.getExternalSubjectId() )
-                     .ifPresent( extSubId -> extSubId.setKeys( Collections.emptySet() ) );
-               return identifier;
-            } )
+            // the loaded shell may be shared with other requests, therefore the keys are cleared on a copy
+            .map( identifier -> Optional.ofNullable( identifier.getExternalSubjectId() )
+                  .map( extSubId -> identifier.withExternalSubjectId( extSubId.withKeys( Collections.emptySet() ) ) )
+                  .orElse( identifier ) )
             .collect( Collectors.toSet() );
    }
 
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Publishes the statistics of the Hibernate session factory as {@code hibernate.*} metrics. The statistics are only collected if
+ * {@code hibernate.generate_statistics} is enabled, otherwise all values stay zero.
+ */
+@Component
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+   private final Statistics statistics;
+
+   public HibernateStatisticsMetrics( EntityManagerFactory entityManagerFactory ) {
+      this.statistics = entityManagerFactory.unwrap( SessionFactory.class ).getStatistics();
+   }
+
+   @Override
+   public void bindTo( MeterRegistry registry ) {
+      counter( registry, "hibernate.sessions.open", "The number of opened sessions", Statistics::getSessionOpenCount );
+      counter( registry, "hibernate.connections.obtained", "The number of obtained JDBC connections", Statistics::getConnectCount );
+      counter( registry, "hibernate.statements.prepared", "The number of prepared JDBC statements", Statistics::getPrepareStatementCount );
+      counter( registry, "hibernate.transactions.successful", "The number of committed transactions",
+            Statistics::getSuccessfulTransactionCount );
+      counter( registry, "hibernate.flushes", "The number of flushes", Statistics::getFlushCount );
+      counter( registry, "hibernate.query.executions", "The number of executed queries", Statistics::getQueryExecutionCount );
+      counter( registry, "hibernate.entities.loaded", "The number of loaded entities", Statistics::getEntityLoadCount );
+      counter( registry, "hibernate.entities.fetched", "The number of entities fetched by a separate statement",
+            Statistics::getEntityFetchCount );
+      counter( registry, "hibernate.collections.loaded", "The number of loaded collections", Statistics::getCollectionLoadCount );
+      counter( registry, "hibernate.collections.fetched", "The number of collections fetched by a separate statement",
+            Statistics::getCollectionFetchCount );
+      Gauge.builder( "hibernate.query.executions.max", statistics, Statistics::getQueryExecutionMaxTime )
+            .description( "The time of the slowest executed query" )
+            .baseUnit( TimeUnit.MILLISECONDS.name().toLowerCase() )
+            .register( registry );
+   }
+
+   private void counter( MeterRegistry registry, String name, String description, ToDoubleFunction<Statistics> value ) {
+      FunctionCounter.builder( name, statistics, value ).description( description ).register( registry );
+   }
+}
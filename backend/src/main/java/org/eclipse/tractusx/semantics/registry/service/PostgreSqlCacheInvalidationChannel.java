@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.service;
+
+import static org.eclipse.tractusx.semantics.registry.repository.RepositoryConfigurationKeys.SPRING_DATASOURCE_DRIVERCLASS_NAME;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.tractusx.semantics.accesscontrol.sql.service.AccessRuleChangeNotifier;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.service.AccessRuleIndex;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cluster-wide invalidation of the in-memory caches using PostgreSQL LISTEN/NOTIFY, no additional message broker is needed.
+ * <p>
+ * Writes publish a notification with {@code pg_notify} within their transaction, PostgreSQL delivers it to every listening session once
+ * the transaction is committed and drops it on rollback. Every instance of the registry listens on the channel with a dedicated connection
+ * and evicts the changed shell from its {@link ShellCache}, the changed endpoints from its {@link SubmodelAuthorizationCache} or
+ * invalidates its {@link AccessRuleIndex}. The listening connection is opened
+ * with the {@link DriverManager} outside of the connection pool, it would otherwise permanently reduce the connections available for the
+ * requests and be subject to the lifetime limits of the pool. Notifications sent while the listening connection is lost cannot be received
+ * later, therefore all caches of the instance are dropped whenever the connection is (re-)established.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+      name = SPRING_DATASOURCE_DRIVERCLASS_NAME,
+      havingValue = "org.postgresql.Driver"
+)
+public class PostgreSqlCacheInvalidationChannel implements AccessRuleChangeNotifier {
+
+   static final String CHANNEL = "registry_cache_invalidation";
+   static final String SHELL_PREFIX = "shell:";
+   static final String RULE_PREFIX = "rule:";
+   static final String ALL_SHELLS = "shells";
+   static final String ENDPOINTS_PREFIX = "endpoints:";
+   static final String ALL_ENDPOINTS = "endpoints";
+   // the endpoint addresses of one notification are separated by line feeds, which can't be part of a valid URL
+   private static final String ENDPOINT_SEPARATOR = "\n";
+   // the payload of a notification must be shorter than 8000 bytes
+   private static final int MAXIMUM_PAYLOAD_BYTES = 7999;
+   private static final int POLL_TIMEOUT_MILLIS = 1000;
+   private static final Duration RECONNECT_DELAY = Duration.ofSeconds( 5 );
+
+   private final DataSourceProperties dataSourceProperties;
+   private final JdbcTemplate jdbcTemplate;
+   private final ShellCache shellCache;
+   private final SubmodelAuthorizationCache submodelAuthorizationCache;
+   private final ObjectProvider<AccessRuleIndex> accessRuleIndex;
+   private volatile boolean running;
+   private Thread listenerThread;
+
+   public PostgreSqlCacheInvalidationChannel( DataSourceProperties dataSourceProperties, JdbcTemplate jdbcTemplate, ShellCache shellCache,
+         SubmodelAuthorizationCache submodelAuthorizationCache, ObjectProvider<AccessRuleIndex> accessRuleIndex ) {
+      this.dataSourceProperties = dataSourceProperties;
+      this.jdbcTemplate = jdbcTemplate;
+      this.shellCache = shellCache;
+      this.submodelAuthorizationCache = submodelAuthorizationCache;
+      this.accessRuleIndex = accessRuleIndex;
+   }
+
+   /**
+    * Notifies all instances that the shell has changed. Must be called within the transaction changing the shell.
+    *
+    * @param idExternal the idExternal of the changed shell
+    */
+   public void publishShellChanged( String idExternal ) {
+      final String payload = SHELL_PREFIX + idExternal;
+      publish( byteLength( payload ) > MAXIMUM_PAYLOAD_BYTES ? ALL_SHELLS : payload );
+   }
+
+   /**
+    * Notifies all instances that an unknown number of shells has changed. Must be called within the transaction changing the shells.
+    */
+   public void publishAllShellsChanged() {
+      publish( ALL_SHELLS );
+   }
+
+   /**
+    * Notifies all instances that an unknown number of endpoints has changed. Must be called within the transaction changing the endpoints.
+    */
+   public void publishAllEndpointsChanged() {
+      publish( ALL_ENDPOINTS );
+   }
+
+   /**
+    * Notifies all instances that the endpoints have changed. The addresses are sent with as few notifications as possible. Must be called
+    * within the transaction changing the endpoints.
+    *
+    * @param endpointAddresses the addresses of the changed endpoints
+    */
+   public void publishEndpointsChanged( Collection<String> endpointAddresses ) {
+      final StringBuilder payload = new StringBuilder( ENDPOINTS_PREFIX );
+      for ( String endpointAddress : endpointAddresses ) {
+         if ( endpointAddress.contains( ENDPOINT_SEPARATOR ) || byteLength( ENDPOINTS_PREFIX + endpointAddress ) > MAXIMUM_PAYLOAD_BYTES ) {
+            publish( ALL_ENDPOINTS );
+            return;
+         }
+         final boolean first = payload.length() == ENDPOINTS_PREFIX.length();
+         if ( !first && byteLength( payload + ENDPOINT_SEPARATOR + endpointAddress ) > MAXIMUM_PAYLOAD_BYTES ) {
+            publish( payload.toString() );
+            payload.setLength( ENDPOINTS_PREFIX.length() );
+         } else if ( !first ) {
+            payload.append( ENDPOINT_SEPARATOR );
+         }
+         payload.append( endpointAddress );
+      }
+      if ( payload.length() > ENDPOINTS_PREFIX.length() ) {
+         publish( payload.toString() );
+      }
+   }
+
+   @Override
+   public void notifyAccessRuleChanged( Long ruleId ) {
+      publish( RULE_PREFIX + ruleId );
+   }
+
+   private static int byteLength( String payload ) {
+      return payload.getBytes( StandardCharsets.UTF_8 ).length;
+   }
+
+   private void publish( String payload ) {
+      jdbcTemplate.query( "SELECT pg_notify( ?, ? )", ResultSet::next, CHANNEL, payload );
+   }
+
+   @PostConstruct
+   void start() {
+      running = true;
+      listenerThread = new Thread( this::listen, "cache-invalidation-listener" );
+      listenerThread.setDaemon( true );
+      listenerThread.start();
+   }
+
+   @PreDestroy
+   void stop() throws InterruptedException {
+      running = false;
+      listenerThread.interrupt();
+      listenerThread.join( RECONNECT_DELAY.toMillis() );
+   }
+
+   private void listen() {
+      while ( running ) {
+         try ( Connection connection = openListeningConnection(); Statement statement = connection.createStatement() ) {
+            statement.execute( "LISTEN " + CHANNEL );
+            invalidateAll();
+            final PGConnection pgConnection = connection.unwrap( PGConnection.class );
+            while ( running ) {
+               final PGNotification[] notifications = pgConnection.getNotifications( POLL_TIMEOUT_MILLIS );
+               if ( notifications != null ) {
+                  for ( PGNotification notification : notifications ) {
+                     handle( notification.getParameter() );
+                  }
+               }
+            }
+         } catch ( SQLException e ) {
+            if ( running ) {
+               log.warn( "Listening for cache invalidations failed, reconnecting in {}.", RECONNECT_DELAY, e );
+               sleepBeforeReconnect();
+            }
+         }
+      }
+   }
+
+   private Connection openListeningConnection() throws SQLException {
+      return DriverManager.getConnection( dataSourceProperties.determineUrl(), dataSourceProperties.determineUsername(),
+            dataSourceProperties.determinePassword() );
+   }
+
+   void handle( String payload ) {
+      if ( payload.startsWith( SHELL_PREFIX ) ) {
+         shellCache.evictLocally( payload.substring( SHELL_PREFIX.length() ) );
+      } else if ( payload.startsWith( RULE_PREFIX ) ) {
+         accessRuleIndex.ifAvailable( AccessRuleIndex::invalidate );
+      } else if ( payload.equals( ALL_SHELLS ) ) {
+         shellCache.evictAllLocally();
+      } else if ( payload.startsWith( ENDPOINTS_PREFIX ) ) {
+         submodelAuthorizationCache.evictLocally( List.of( payload.substring( ENDPOINTS_PREFIX.length() ).split( ENDPOINT_SEPARATOR ) ) );
+      } else if ( payload.equals( ALL_ENDPOINTS ) ) {
+         submodelAuthorizationCache.evictAllLocally();
+      } else {
+         log.warn( "Ignoring unknown cache invalidation: {}", payload );
+      }
+   }
+
+   private void invalidateAll() {
+      shellCache.evictAllLocally();
+      submodelAuthorizationCache.evictAllLocally();
+      accessRuleIndex.ifAvailable( AccessRuleIndex::invalidate );
+   }
+
+   private void sleepBeforeReconnect() {
+      try {
+         Thread.sleep( RECONNECT_DELAY.toMillis() );
+      } catch ( InterruptedException e ) {
+         Thread.currentThread().interrupt();
+         running = false;
+      }
+   }
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.service;
+
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records where the time of a read of the registry is spent. Every read operation is split into the phases {@code query} (database),
+ * {@code access} (evaluation of the access rules and filtering of the shells) and {@code mapping} (mapping to the API model), the
+ * time of each phase is recorded by the timer {@value #PHASE_TIMER} with the tags {@code operation} and {@code phase}. The loops
+ * of the granular access control additionally record the number of fetch iterations and the number of fetched and visible shells.
+ */
+@Component
+public class RegistryMetrics {
+
+   public static final String PHASE_TIMER = "registry.operation.phase";
+   public static final String FETCH_ITERATIONS_METRIC = "registry.access.granular.fetch.iterations";
+   public static final String FETCHED_SHELLS_METRIC = "registry.access.shells.fetched";
+   public static final String VISIBLE_SHELLS_METRIC = "registry.access.shells.visible";
+
+   public static final String OPERATION_FIND_ALL_SHELLS = "findAllShells";
+   public static final String OPERATION_FIND_SHELL = "findShell";
+   public static final String OPERATION_LOOKUP = "lookup";
+   public static final String OPERATION_BATCH_LOOKUP = "batchLookup";
+   public static final String OPERATION_SUBMODEL_AUTHORIZATION = "submodelAuthorization";
+   public static final String OPERATION_BATCH_SUBMODEL_AUTHORIZATION = "batchSubmodelAuthorization";
+
+   private static final String PHASE_QUERY = "query";
+   private static final String PHASE_ACCESS = "access";
+   private static final String PHASE_MAPPING = "mapping";
+
+   private final MeterRegistry meterRegistry;
+
+   public RegistryMetrics( MeterRegistry meterRegistry ) {
+      this.meterRegistry = meterRegistry;
+   }
+
+   public <T> T timeQuery( String operation, Supplier<T> query ) {
+      return phaseTimer( operation, PHASE_QUERY ).record( query );
+   }
+
+   public <T, E extends Exception> T timeAccessFiltering( String operation, AccessFiltering<T, E> filter ) throws E {
+      final Timer.Sample sample = Timer.start( meterRegistry );
+      try {
+         return filter.filter();
+      } finally {
+         sample.stop( phaseTimer( operation, PHASE_ACCESS ) );
+      }
+   }
+
+   public <T> T timeMapping( String operation, Supplier<T> mapping ) {
+      return phaseTimer( operation, PHASE_MAPPING ).record( mapping );
+   }
+
+   /**
+    * Records the result of one fetch loop of the granular access control.
+    *
+    * @param operation     the read operation running the loop
+    * @param iterations    the number of pages fetched from the database
+    * @param fetchedShells the number of shells fetched from the database
+    * @param visibleShells the number of fetched shells which are visible to the reader
+    */
+   public void recordGranularFetch( String operation, int iterations, int fetchedShells, int visibleShells ) {
+      DistributionSummary.builder( FETCH_ITERATIONS_METRIC )
+            .description( "The number of pages fetched from the database by one fetch loop of the granular access control" )
+            .tag( "operation", operation )
+            .register( meterRegistry )
+            .record( iterations );
+      Counter.builder( FETCHED_SHELLS_METRIC )
+            .description( "The number of shells fetched from the database for the evaluation of the access rules" )
+            .tag( "operation", operation )
+            .register( meterRegistry )
+            .increment( fetchedShells );
+      Counter.builder( VISIBLE_SHELLS_METRIC )
+            .description( "The number of fetched shells which are visible to the reader" )
+            .tag( "operation", operation )
+            .register( meterRegistry )
+            .increment( visibleShells );
+   }
+
+   /**
+    * The evaluation of the access rules, which may deny the access of the reader.
+    */
+   @FunctionalInterface
+   public interface AccessFiltering<T, E extends Exception> {
+      T filter() throws E;
+   }
+
+   private Timer phaseTimer( String operation, String phase ) {
+      return Timer.builder( PHASE_TIMER )
+            .description( "The time spent in one phase of a read operation of the registry" )
+            .tags( "operation", operation, "phase", phase )
+            .register( meterRegistry );
+   }
+}
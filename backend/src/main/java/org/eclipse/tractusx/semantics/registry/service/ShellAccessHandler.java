@@ -28,6 +28,7 @@ import org.eclipse.tractusx.semantics.accesscontrol.api.exception.DenyAccessExce
 import org.eclipse.tractusx.semantics.accesscontrol.api.model.SpecificAssetId;
 import org.eclipse.tractusx.semantics.registry.model.Shell;
 import org.eclipse.tractusx.semantics.registry.model.projection.ShellIdentifierMinimal;
+import org.eclipse.tractusx.semantics.registry.model.projection.SubmodelEndpointMatch;
 import org.eclipse.tractusx.semantics.registry.utils.ShellCursor;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.Nullable;
@@ -41,6 +42,17 @@ public interface ShellAccessHandler {
 
    Specification<Shell> shellFilterSpecification( String sortFieldName, ShellCursor cursor, String externalSubjectId, OffsetDateTime createdAfter );
 
+   /**
+    * Decides for the requested endpoints whether one of the submodels having the endpoint is visible for the tenant.
+    *
+    * @param submodels         the endpoint addresses, shells and semanticIds of the submodels having one of the requested endpoints
+    * @param shellIdentifiers  the specificAssetIds of the shells of the submodels, only loaded for the granular access control
+    * @param externalSubjectId externalSubjectId/tenantId
+    * @return the endpoint addresses having at least one visible submodel
+    */
+   Set<String> filterVisibleEndpointAddresses( List<SubmodelEndpointMatch> submodels, List<ShellIdentifierMinimal> shellIdentifiers,
+         String externalSubjectId );
+
    default List<String> filterToVisibleShellIdsForLookup( final Set<SpecificAssetId> userQuery, final List<ShellIdentifierMinimal> shellIdentifiers,
          final String externalSubjectId )
          throws DenyAccessException {
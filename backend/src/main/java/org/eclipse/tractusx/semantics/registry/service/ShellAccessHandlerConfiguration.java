@@ -20,21 +20,33 @@
 
 package org.eclipse.tractusx.semantics.registry.service;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.eclipse.tractusx.semantics.RegistryProperties;
 import org.eclipse.tractusx.semantics.accesscontrol.api.AccessControlRuleService;
 import org.eclipse.tractusx.semantics.accesscontrol.sql.repository.AccessControlRuleRepository;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.service.AccessRuleIndex;
 import org.eclipse.tractusx.semantics.accesscontrol.sql.service.SqlBackedAccessControlRuleService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 public class ShellAccessHandlerConfiguration {
 
    @Bean
-   public AccessControlRuleService accessControlRuleService(
+   public AccessRuleIndex accessRuleIndex(
          final AccessControlRuleRepository accessControlRuleRepository, final RegistryProperties registryProperties ) {
-      return new SqlBackedAccessControlRuleService( accessControlRuleRepository, registryProperties.getExternalSubjectIdWildcardPrefix(),
-            registryProperties.getExternalSubjectIdWildcardAllowedTypes() );
+      return new AccessRuleIndex( accessControlRuleRepository, registryProperties.getExternalSubjectIdWildcardPrefix(),
+            Optional.ofNullable( registryProperties.getExternalSubjectIdWildcardAllowedTypes() ).orElse( List.of() ),
+            registryProperties.getAccessRuleIndexMaxAge() );
+   }
+
+   @Bean
+   public AccessControlRuleService accessControlRuleService( final AccessRuleIndex accessRuleIndex, final MeterRegistry meterRegistry ) {
+      return new SqlBackedAccessControlRuleService( accessRuleIndex, meterRegistry );
    }
 
    @Bean
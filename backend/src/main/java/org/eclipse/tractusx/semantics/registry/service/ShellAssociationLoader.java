@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.eclipse.tractusx.semantics.registry.model.Shell;
+import org.eclipse.tractusx.semantics.registry.model.ShellIdentifier;
+import org.eclipse.tractusx.semantics.registry.model.ShellIdentifierExternalSubjectReference;
+import org.eclipse.tractusx.semantics.registry.model.ShellIdentifierSemanticReference;
+import org.eclipse.tractusx.semantics.registry.model.ShellIdentifierSupplemSemanticReference;
+import org.eclipse.tractusx.semantics.registry.model.Submodel;
+import org.eclipse.tractusx.semantics.registry.model.SubmodelEndpoint;
+import org.eclipse.tractusx.semantics.registry.model.SubmodelSemanticIdReference;
+import org.eclipse.tractusx.semantics.registry.model.SubmodelSupplemSemanticIdReference;
+import org.springframework.stereotype.Component;
+
+import com.google.common.collect.Lists;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Loads the associations of already loaded shells with batched secondary queries. Every collection is fetched with its own
+ * {@code IN (...)} query over the ids of the owning entities, level by level. The number of queries is therefore constant per
+ * batch of shells and every association row is read exactly once, while fetching all collections with joins (see
+ * {@link ShellService#withAllAssociations()}) returns the cartesian product of the collections of a shell.
+ * <p>
+ * Joins remain the better choice when only a single shell is loaded, the loader is meant for pages and chunks of shells.
+ * The shells must be managed by the persistence context of the current transaction.
+ */
+@Component
+public class ShellAssociationLoader {
+
+   // keeps the number of bind parameters of a single query well below the limits of the JDBC drivers
+   private static final int MAXIMUM_IDS_PER_QUERY = 1000;
+
+   private final EntityManager entityManager;
+
+   public ShellAssociationLoader( EntityManager entityManager ) {
+      this.entityManager = entityManager;
+   }
+
+   /**
+    * Initializes all associations of the provided shells which are needed to map them to the API representation.
+    *
+    * @param shells the managed shells
+    */
+   public void loadAllAssociations( Collection<Shell> shells ) {
+      if ( shells.isEmpty() ) {
+         return;
+      }
+      final List<UUID> shellIds = idsOf( shells, Shell::getId );
+      // the inverse one-to-one associations are eager, they are joined to avoid one query per identifier and submodel
+      fetch( Shell.class, shellIds, "identifiers i LEFT JOIN FETCH i.externalSubjectId LEFT JOIN FETCH i.semanticId" );
+      fetch( Shell.class, shellIds, "descriptions" );
+      fetch( Shell.class, shellIds, "displayNames" );
+      fetch( Shell.class, shellIds, "submodels s LEFT JOIN FETCH s.semanticId" );
+
+      final List<ShellIdentifier> identifiers = shells.stream().flatMap( shell -> shell.getIdentifiers().stream() ).toList();
+      fetch( ShellIdentifier.class, idsOf( identifiers, ShellIdentifier::getId ), "supplementalSemanticIds" );
+      fetch( ShellIdentifierExternalSubjectReference.class,
+            idsOf( identifiers.stream().map( ShellIdentifier::getExternalSubjectId ).toList(), ShellIdentifierExternalSubjectReference::getId ),
+            "keys" );
+      fetch( ShellIdentifierSemanticReference.class,
+            idsOf( identifiers.stream().map( ShellIdentifier::getSemanticId ).toList(), ShellIdentifierSemanticReference::getId ), "keys" );
+      fetch( ShellIdentifierSupplemSemanticReference.class, idsOf( identifiers.stream()
+            .map( ShellIdentifier::getSupplementalSemanticIds )
+            .filter( Objects::nonNull )
+            .flatMap( Collection::stream )
+            .toList(), ShellIdentifierSupplemSemanticReference::getId ), "keys" );
+
+      loadSubmodelAssociations( shells.stream().flatMap( shell -> shell.getSubmodels().stream() ).toList() );
+   }
+
+   /**
+    * Initializes the associations of the provided submodels, their semanticIds must already be loaded.
+    *
+    * @param submodels the managed submodels
+    */
+   public void loadSubmodelAssociations( Collection<Submodel> submodels ) {
+      final List<UUID> submodelIds = idsOf( submodels, Submodel::getId );
+      fetch( Submodel.class, submodelIds, "descriptions" );
+      fetch( Submodel.class, submodelIds, "displayNames" );
+      fetch( Submodel.class, submodelIds, "endpoints" );
+      fetch( Submodel.class, submodelIds, "submodelSupplemSemanticIds" );
+      fetch( SubmodelEndpoint.class, idsOf( submodels.stream().flatMap( submodel -> submodel.getEndpoints().stream() ).toList(),
+            SubmodelEndpoint::getId ), "submodelSecurityAttribute" );
+      fetch( SubmodelSemanticIdReference.class,
+            idsOf( submodels.stream().map( Submodel::getSemanticId ).toList(), SubmodelSemanticIdReference::getId ), "keys" );
+      fetch( SubmodelSupplemSemanticIdReference.class, idsOf( submodels.stream()
+            .map( Submodel::getSubmodelSupplemSemanticIds )
+            .filter( Objects::nonNull )
+            .flatMap( Collection::stream )
+            .toList(), SubmodelSupplemSemanticIdReference::getId ), "keys" );
+   }
+
+   /**
+    * Fetches the association of the owners with the given ids. The owners are already part of the persistence context,
+    * therefore the query result is not needed, Hibernate initializes the association of the managed instances.
+    */
+   private void fetch( Class<?> ownerType, List<UUID> ownerIds, String association ) {
+      final String jpql = "SELECT o FROM " + ownerType.getSimpleName() + " o LEFT JOIN FETCH o." + association + " WHERE o.id IN :ids";
+      Lists.partition( ownerIds, MAXIMUM_IDS_PER_QUERY ).forEach( ids -> entityManager.createQuery( jpql, ownerType )
+            .setParameter( "ids", ids )
+            .getResultList() );
+   }
+
+   private static <T> List<UUID> idsOf( Collection<T> entities, Function<T, UUID> idFunction ) {
+      return entities.stream().filter( Objects::nonNull ).map( idFunction ).distinct().toList();
+   }
+}
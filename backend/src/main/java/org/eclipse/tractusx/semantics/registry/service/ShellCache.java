@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.eclipse.tractusx.semantics.RegistryProperties;
+import org.eclipse.tractusx.semantics.registry.model.Shell;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded read-through cache of fully loaded, unfiltered shells keyed by their idExternal. The cached shells are shared between
+ * requests and must not be modified, the tenant specific filtering creates copies of the filtered parts.
+ * <p>
+ * Every write of a shell or of one of its parts has to evict the shell (see {@link #evict(String)}). The eviction is repeated after
+ * the surrounding transaction is completed. A read which loaded the shell before the commit and is still populating the cache is
+ * awaited by the eviction, therefore the outdated state cannot remain in the cache. With PostgreSQL, the evictions are sent to the other
+ * instances of the registry through the {@link PostgreSqlCacheInvalidationChannel}. Changes made directly in the database are only picked
+ * up once the entry expires. A maximum size of zero disables the cache. The hits, misses and evictions are published as the cache
+ * metrics of the cache {@code shells}.
+ */
+@Component
+public class ShellCache {
+
+   private final Cache<String, Shell> cache;
+   private final ObjectProvider<PostgreSqlCacheInvalidationChannel> invalidationChannel;
+
+   public ShellCache( RegistryProperties registryProperties, ObjectProvider<PostgreSqlCacheInvalidationChannel> invalidationChannel,
+         MeterRegistry meterRegistry ) {
+      this.invalidationChannel = invalidationChannel;
+      final long maximumSize = registryProperties.getShellCacheMaximumSize();
+      final Duration expireAfterWrite = registryProperties.getShellCacheExpireAfterWrite();
+      this.cache = maximumSize > 0 && !expireAfterWrite.isZero() && !expireAfterWrite.isNegative()
+            ? Caffeine.newBuilder().maximumSize( maximumSize ).expireAfterWrite( expireAfterWrite ).recordStats().build()
+            : null;
+      if ( cache != null ) {
+         CaffeineCacheMetrics.monitor( meterRegistry, cache, "shells" );
+      }
+   }
+
+   /**
+    * Returns the cached shell or loads and caches it. Shells which are not found are not cached.
+    *
+    * @param idExternal the idExternal of the shell
+    * @param loader     loads the shell with all of its associations initialized
+    * @return the shell if it exists
+    */
+   public Optional<Shell> get( String idExternal, Function<String, Optional<Shell>> loader ) {
+      if ( cache == null ) {
+         return loader.apply( idExternal );
+      }
+      return Optional.ofNullable( cache.get( idExternal, key -> loader.apply( key ).orElse( null ) ) );
+   }
+
+   /**
+    * Evicts the shell immediately and once more after the completion of the current transaction. The other instances of the registry
+    * are notified once the transaction is committed.
+    *
+    * @param idExternal the idExternal of the modified shell
+    */
+   public void evict( String idExternal ) {
+      if ( cache == null || idExternal == null ) {
+         return;
+      }
+      invalidationChannel.ifAvailable( channel -> channel.publishShellChanged( idExternal ) );
+      evictLocally( idExternal );
+   }
+
+   /**
+    * Evicts all shells immediately and once more after the completion of the current transaction. The other instances of the registry
+    * are notified once the transaction is committed.
+    */
+   public void evictAll() {
+      if ( cache == null ) {
+         return;
+      }
+      invalidationChannel.ifAvailable( PostgreSqlCacheInvalidationChannel::publishAllShellsChanged );
+      cache.invalidateAll();
+      if ( TransactionSynchronizationManager.isSynchronizationActive() ) {
+         TransactionSynchronizationManager.registerSynchronization( new TransactionSynchronization() {
+            @Override
+            public void afterCompletion( int status ) {
+               cache.invalidateAll();
+            }
+         } );
+      }
+   }
+
+   /**
+    * Evicts the shell from the cache of this instance only.
+    *
+    * @param idExternal the idExternal of the shell
+    */
+   void evictLocally( String idExternal ) {
+      if ( cache == null ) {
+         return;
+      }
+      cache.invalidate( idExternal );
+      if ( TransactionSynchronizationManager.isSynchronizationActive() ) {
+         TransactionSynchronizationManager.registerSynchronization( new TransactionSynchronization() {
+            @Override
+            public void afterCompletion( int status ) {
+               cache.invalidate( idExternal );
+            }
+         } );
+      }
+   }
+
+   /**
+    * Evicts all shells from the cache of this instance.
+    */
+   void evictAllLocally() {
+      if ( cache != null ) {
+         cache.invalidateAll();
+      }
+   }
+}
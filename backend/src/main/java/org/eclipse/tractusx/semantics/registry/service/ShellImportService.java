@@ -0,0 +1,448 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.tractusx.semantics.RegistryProperties;
+import org.eclipse.tractusx.semantics.aas.registry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.tractusx.semantics.registry.dto.BatchResultDto;
+import org.eclipse.tractusx.semantics.registry.mapper.ShellMapper;
+import org.eclipse.tractusx.semantics.registry.model.ImportJob;
+import org.eclipse.tractusx.semantics.registry.model.ImportJobError;
+import org.eclipse.tractusx.semantics.registry.model.ImportJobStatus;
+import org.eclipse.tractusx.semantics.registry.model.Shell;
+import org.eclipse.tractusx.semantics.registry.repository.ImportJobErrorRepository;
+import org.eclipse.tractusx.semantics.registry.repository.ImportJobRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Imports the descriptors of uploaded files asynchronously. The file is kept in the import directory until the job is finished and is
+ * read with the streaming parser of Jackson, only the descriptors of the current chunk are kept in memory. The descriptors are created
+ * by {@link ShellService#saveBatch(List, Consumer)}, the progress of the job and the descriptors which couldn't be created are stored
+ * within the same transactions as the descriptors. The jobs are processed one after another by a single thread, a job interrupted by a
+ * restart is resumed after the processed records. A job without progress for the configured timeout whose file isn't available to the
+ * instance reading it is failed, the instance holding the file keeps the jobs queued on it alive.
+ */
+@Slf4j
+@Service
+public class ShellImportService {
+
+   // number of descriptors saved by one call of ShellService#saveBatch, matches the chunks inserted within one transaction
+   private static final int IMPORT_CHUNK_SIZE = 500;
+   // number of errors stored per job, further errors are only counted
+   static final int MAXIMUM_STORED_ERRORS = 1000;
+   private static final int MAXIMUM_MESSAGE_LENGTH = 2000;
+
+   private final ShellService shellService;
+   private final ShellMapper shellMapper;
+   private final ImportJobRepository importJobRepository;
+   private final ImportJobErrorRepository importJobErrorRepository;
+   private final ObjectMapper objectMapper;
+   private final Validator validator;
+   private final EntityManager entityManager;
+   private final TransactionTemplate transactionTemplate;
+   private final Path importDirectory;
+   private final Duration importJobTimeout;
+   private final ExecutorService executor;
+   // the jobs queued on this instance, their last modified date is refreshed while they wait for the running job
+   private final Set<UUID> queuedImportJobIds = ConcurrentHashMap.newKeySet();
+   // only accessed by the import thread
+   private Instant queuedImportJobsRefreshed = Instant.now();
+
+   public ShellImportService( ShellService shellService,
+         ShellMapper shellMapper,
+         ImportJobRepository importJobRepository,
+         ImportJobErrorRepository importJobErrorRepository,
+         ObjectMapper objectMapper,
+         Validator validator,
+         EntityManager entityManager,
+         TransactionTemplate transactionTemplate,
+         RegistryProperties registryProperties ) {
+      this.shellService = shellService;
+      this.shellMapper = shellMapper;
+      this.importJobRepository = importJobRepository;
+      this.importJobErrorRepository = importJobErrorRepository;
+      this.objectMapper = objectMapper;
+      this.validator = validator;
+      this.entityManager = entityManager;
+      this.transactionTemplate = transactionTemplate;
+      this.importDirectory = registryProperties.getImportDirectory();
+      this.importJobTimeout = registryProperties.getImportJobTimeout();
+      this.executor = Executors.newSingleThreadExecutor( runnable -> new Thread( runnable, "shell-import" ) );
+   }
+
+   /**
+    * Stores the file in the import directory and queues the import of its descriptors.
+    *
+    * @param file the uploaded file containing the descriptors as newline-delimited JSON or as a JSON array
+    * @param tenantId the tenant submitting the job
+    * @return the queued import job
+    */
+   public ImportJob submit( MultipartFile file, String tenantId ) {
+      final ImportJob importJob = new ImportJob();
+      importJob.setFileName( file.getOriginalFilename() );
+      importJob.setTenantId( tenantId );
+      try {
+         Files.createDirectories( importDirectory );
+         file.transferTo( fileOf( importJob.getId() ) );
+      } catch ( IOException e ) {
+         throw new UncheckedIOException( "Failed to store the uploaded file.", e );
+      }
+      transactionTemplate.executeWithoutResult( status -> entityManager.persist( importJob ) );
+      queue( importJob.getId() );
+      return importJob;
+   }
+
+   /**
+    * @return the job if it was submitted by the given tenant, the jobs of other tenants are treated as not found. A job which can't be
+    *       finished because its file is lost is returned as failed.
+    */
+   public ImportJob findImportJob( UUID importJobId, String tenantId ) {
+      return importJobRepository.findByIdAndTenantId( importJobId, tenantId )
+            .map( this::failIfAbandoned )
+            .orElseThrow( () -> new EntityNotFoundException( String.format( "Import job for identifier %s not found", importJobId ) ) );
+   }
+
+   /**
+    * @return the stored errors of the job ordered by the position of the descriptors in the file
+    */
+   public List<ImportJobError> findImportJobErrors( UUID importJobId ) {
+      return importJobErrorRepository.findByImportJobIdOrderByRecordNumber( importJobId, PageRequest.ofSize( MAXIMUM_STORED_ERRORS ) );
+   }
+
+   /**
+    * Queues the jobs which were queued or running when the registry was stopped. Jobs whose file isn't stored in the import directory of
+    * this instance are left to the instance which received the file, unless they made no progress for the configured timeout.
+    */
+   @EventListener( ApplicationReadyEvent.class )
+   public void resumeInterruptedImportJobs() {
+      for ( ImportJob importJob : importJobRepository.findByStatusInOrderByCreatedDate( List.of( ImportJobStatus.QUEUED, ImportJobStatus.RUNNING ) ) ) {
+         if ( Files.exists( fileOf( importJob.getId() ) ) ) {
+            log.info( "Resuming import job {} after {} processed records.", importJob.getId(), importJob.getProcessedRecords() );
+            queue( importJob.getId() );
+         } else {
+            failIfAbandoned( importJob );
+         }
+      }
+   }
+
+   @PreDestroy
+   void stop() {
+      // a running job stays in status RUNNING and is resumed after the records of the last commit
+      executor.shutdownNow();
+   }
+
+   private void queue( UUID importJobId ) {
+      queuedImportJobIds.add( importJobId );
+      executor.execute( () -> run( importJobId ) );
+   }
+
+   /**
+    * Fails a queued or running job which made no progress for the configured timeout and whose file isn't available to this instance,
+    * e.g. because the file was lost with the volume or the instance which received it was removed. A job updated concurrently by the
+    * instance processing it is returned as stored.
+    */
+   private ImportJob failIfAbandoned( ImportJob importJob ) {
+      if ( (importJob.getStatus() != ImportJobStatus.QUEUED && importJob.getStatus() != ImportJobStatus.RUNNING)
+            || importJob.getLastModifiedDate() == null
+            || importJob.getLastModifiedDate().isAfter( Instant.now().minus( importJobTimeout ) )
+            || Files.exists( fileOf( importJob.getId() ) ) ) {
+         return importJob;
+      }
+      log.warn( "Failing import job {}, it made no progress since {} and its file is not available.", importJob.getId(),
+            importJob.getLastModifiedDate() );
+      importJob.setStatus( ImportJobStatus.FAILED );
+      importJob.setMessage( String.format( "The import made no progress since %s and its file is not available anymore, "
+            + "the records after record %d have to be imported again.", importJob.getLastModifiedDate(), importJob.getProcessedRecords() ) );
+      try {
+         return importJobRepository.save( importJob );
+      } catch ( ObjectOptimisticLockingFailureException e ) {
+         return importJobRepository.findById( importJob.getId() ).orElse( importJob );
+      }
+   }
+
+   /**
+    * Refreshes the last modified date of the jobs waiting for the running job, so that they aren't failed by another instance. The
+    * running job is kept alive by its commits.
+    */
+   private void refreshQueuedImportJobs() {
+      final Instant now = Instant.now();
+      if ( queuedImportJobIds.isEmpty() || queuedImportJobsRefreshed.isAfter( now.minus( importJobTimeout.dividedBy( 4 ) ) ) ) {
+         return;
+      }
+      transactionTemplate.executeWithoutResult( status -> importJobRepository.updateLastModifiedDateOfQueuedJobs( Set.copyOf( queuedImportJobIds ), now ) );
+      queuedImportJobsRefreshed = now;
+   }
+
+   private void run( UUID importJobId ) {
+      queuedImportJobIds.remove( importJobId );
+      ImportJob importJob = importJobRepository.findById( importJobId ).orElse( null );
+      if ( importJob == null || importJob.getStatus() == ImportJobStatus.COMPLETED || importJob.getStatus() == ImportJobStatus.FAILED ) {
+         return;
+      }
+      importJob.setStatus( ImportJobStatus.RUNNING );
+      importJob = importJobRepository.save( importJob );
+
+      final Path file = fileOf( importJobId );
+      try ( InputStream inputStream = Files.newInputStream( file ); JsonParser parser = objectMapper.createParser( inputStream ) ) {
+         importJob = importRecords( importJob, parser );
+         if ( Thread.currentThread().isInterrupted() ) {
+            return;
+         }
+         importJob.setStatus( ImportJobStatus.COMPLETED );
+      } catch ( JsonProcessingException e ) {
+         importJob = importJobRepository.findById( importJobId ).orElse( importJob );
+         importJob.setStatus( ImportJobStatus.FAILED );
+         importJob.setMessage( abbreviate( String.format( "The file is not valid JSON at line %d: %s",
+               e.getLocation() == null ? 0 : e.getLocation().getLineNr(), e.getOriginalMessage() ) ) );
+      } catch ( IOException | RuntimeException e ) {
+         if ( Thread.currentThread().isInterrupted() ) {
+            // the registry is stopped, the job is resumed after the records of the last commit
+            return;
+         }
+         log.error( "Import job {} failed.", importJobId, e );
+         importJob = importJobRepository.findById( importJobId ).orElse( importJob );
+         importJob.setStatus( ImportJobStatus.FAILED );
+         importJob.setMessage( abbreviate( "The import failed: " + e.getMessage() ) );
+      }
+      importJobRepository.save( importJob );
+      try {
+         Files.deleteIfExists( file );
+      } catch ( IOException e ) {
+         log.warn( "Failed to delete the file of import job {}.", importJobId, e );
+      }
+   }
+
+   /**
+    * Reads the descriptors one after another and saves them in chunks. The records processed before the job was interrupted are
+    * skipped without mapping them. A root-level JSON array is unwrapped, otherwise the root-level values are read as a sequence.
+    */
+   private ImportJob importRecords( ImportJob importJob, JsonParser parser ) throws IOException {
+      final long processedRecords = importJob.getProcessedRecords();
+      final List<ImportRecord> chunk = new ArrayList<>( IMPORT_CHUNK_SIZE );
+      JsonToken token = parser.nextToken();
+      final boolean isArray = token == JsonToken.START_ARRAY;
+      if ( isArray ) {
+         token = parser.nextToken();
+      }
+      long recordNumber = 0;
+      while ( token != null && !(isArray && token == JsonToken.END_ARRAY) ) {
+         recordNumber++;
+         if ( recordNumber <= processedRecords ) {
+            parser.skipChildren();
+         } else {
+            chunk.add( readRecord( recordNumber, parser ) );
+            if ( chunk.size() == IMPORT_CHUNK_SIZE ) {
+               importJob = saveChunk( importJob, chunk );
+               chunk.clear();
+               if ( Thread.currentThread().isInterrupted() ) {
+                  return importJob;
+               }
+            }
+         }
+         token = parser.nextToken();
+      }
+      if ( !chunk.isEmpty() ) {
+         importJob = saveChunk( importJob, chunk );
+      }
+      return importJob;
+   }
+
+   /**
+    * Maps the descriptor at the current position of the parser. A malformed file can't be read any further and fails the job, a
+    * descriptor which can't be mapped or violates the constraints of the API is reported as error of the record.
+    */
+   private ImportRecord readRecord( long recordNumber, JsonParser parser ) throws IOException {
+      final long lineNumber = parser.currentTokenLocation().getLineNr();
+      final JsonNode tree = parser.readValueAsTree();
+      final String idExternal = tree.path( "id" ).textValue();
+      try {
+         final AssetAdministrationShellDescriptor descriptor = objectMapper.treeToValue( tree, AssetAdministrationShellDescriptor.class );
+         final Set<ConstraintViolation<AssetAdministrationShellDescriptor>> violations = validator.validate( descriptor );
+         if ( !violations.isEmpty() ) {
+            return ImportRecord.failed( recordNumber, lineNumber, idExternal, violations.stream()
+                  .map( violation -> violation.getPropertyPath() + " " + violation.getMessage() )
+                  .sorted()
+                  .collect( Collectors.joining( ", " ) ) );
+         }
+         final Shell shell = shellMapper.fromApiDto( descriptor );
+         shellService.mapShellCollection( shell );
+         if ( !shell.getSubmodels().isEmpty() ) {
+            shellService.mapSubmodel( shell.getSubmodels() );
+         }
+         return new ImportRecord( recordNumber, lineNumber, idExternal, shell, null );
+      } catch ( JsonProcessingException e ) {
+         return ImportRecord.failed( recordNumber, lineNumber, idExternal, e.getOriginalMessage() );
+      } catch ( IllegalArgumentException e ) {
+         return ImportRecord.failed( recordNumber, lineNumber, idExternal, e.getMessage() );
+      }
+   }
+
+   /**
+    * Saves the shells of the chunk through {@link ShellService#saveBatch(List, Consumer)}. The progress of the job and the errors of the
+    * records decided so far are written within every transaction creating shells, therefore a job interrupted at any point is resumed
+    * right after the records whose shells were committed. The remaining records, e.g. a trailing record which couldn't be mapped, are
+    * committed afterwards.
+    */
+   private ImportJob saveChunk( ImportJob importJob, List<ImportRecord> chunk ) {
+      final ChunkProgress progress = new ChunkProgress( importJob, chunk );
+      final List<Shell> shells = chunk.stream().map( ImportRecord::shell ).filter( Objects::nonNull ).toList();
+      final List<BatchResultDto> results = shells.isEmpty()
+            ? List.of()
+            : shellService.saveBatch( shells, progress::commitDecidedRecords );
+      if ( !progress.isCommitted() ) {
+         transactionTemplate.executeWithoutResult( status -> progress.commitDecidedRecords( results ) );
+      }
+      refreshQueuedImportJobs();
+      return progress.committedJob;
+   }
+
+   /**
+    * Tracks which records of a chunk are committed. The decided records are written within the current transaction, the tracked state
+    * is only advanced once the transaction is committed.
+    */
+   private class ChunkProgress {
+
+      private final List<ImportRecord> chunk;
+      // the index of every record in the shells passed to ShellService#saveBatch, -1 for records without shell
+      private final int[] resultIndices;
+      private ImportJob committedJob;
+      private int committedRecords;
+
+      ChunkProgress( ImportJob importJob, List<ImportRecord> chunk ) {
+         this.chunk = chunk;
+         this.committedJob = importJob;
+         this.resultIndices = new int[chunk.size()];
+         int resultIndex = 0;
+         for ( int i = 0; i < chunk.size(); i++ ) {
+            resultIndices[i] = chunk.get( i ).shell() == null ? -1 : resultIndex++;
+         }
+      }
+
+      boolean isCommitted() {
+         return committedRecords == chunk.size();
+      }
+
+      /**
+       * Writes the progress of the job up to the first record which isn't decided yet. The shells of a transaction always follow the
+       * records decided before, therefore the progress covers them.
+       */
+      void commitDecidedRecords( List<BatchResultDto> results ) {
+         int decidedRecords = committedRecords;
+         while ( decidedRecords < chunk.size() && (resultIndices[decidedRecords] < 0 || results.get( resultIndices[decidedRecords] ) != null) ) {
+            decidedRecords++;
+         }
+         if ( decidedRecords == committedRecords ) {
+            return;
+         }
+
+         final List<ImportJobError> errors = new ArrayList<>();
+         int createdRecords = 0;
+         for ( int i = committedRecords; i < decidedRecords; i++ ) {
+            final ImportRecord importRecord = chunk.get( i );
+            if ( resultIndices[i] < 0 ) {
+               errors.add( importRecord.toError( committedJob.getId(), importRecord.error() ) );
+               continue;
+            }
+            final BatchResultDto result = results.get( resultIndices[i] );
+            if ( result.getStatus() == HttpStatus.OK.value() ) {
+               createdRecords++;
+            } else {
+               errors.add( importRecord.toError( committedJob.getId(), result.getMessage() ) );
+            }
+         }
+
+         final ImportJob importJob = entityManager.find( ImportJob.class, committedJob.getId() );
+         importJob.setProcessedRecords( chunk.get( decidedRecords - 1 ).recordNumber() );
+         importJob.setCreatedRecords( committedJob.getCreatedRecords() + createdRecords );
+         importJob.setFailedRecords( committedJob.getFailedRecords() + errors.size() );
+         errors.stream().limit( Math.max( 0, MAXIMUM_STORED_ERRORS - committedJob.getFailedRecords() ) ).forEach( entityManager::persist );
+         entityManager.flush();
+
+         final int committed = decidedRecords;
+         TransactionSynchronizationManager.registerSynchronization( new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+               committedJob = importJob;
+               committedRecords = committed;
+            }
+         } );
+      }
+   }
+
+   private Path fileOf( UUID importJobId ) {
+      return importDirectory.resolve( importJobId + ".json" );
+   }
+
+   private static String abbreviate( String message ) {
+      return StringUtils.abbreviate( message, MAXIMUM_MESSAGE_LENGTH );
+   }
+
+   private record ImportRecord(long recordNumber, long lineNumber, String idExternal, Shell shell, String error) {
+
+      static ImportRecord failed( long recordNumber, long lineNumber, String idExternal, String error ) {
+         return new ImportRecord( recordNumber, lineNumber, idExternal, null, error );
+      }
+
+      ImportJobError toError( UUID importJobId, String message ) {
+         return new ImportJobError( importJobId, recordNumber, lineNumber, idExternal, abbreviate( message ) );
+      }
+   }
+}
@@ -0,0 +1,310 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.eclipse.tractusx.semantics.registry.model.Shell;
+import org.eclipse.tractusx.semantics.registry.model.ShellDescription;
+import org.eclipse.tractusx.semantics.registry.model.ShellDisplayName;
+import org.eclipse.tractusx.semantics.registry.model.ShellIdentifier;
+import org.eclipse.tractusx.semantics.registry.model.Submodel;
+import org.eclipse.tractusx.semantics.registry.model.SubmodelDescription;
+import org.eclipse.tractusx.semantics.registry.model.SubmodelDisplayName;
+import org.eclipse.tractusx.semantics.registry.model.SubmodelEndpoint;
+import org.eclipse.tractusx.semantics.registry.model.SubmodelSemanticIdReference;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Merges an incoming descriptor into the stored aggregate instead of deleting and re-inserting it. Scalar properties are only set
+ * when they differ, the elements of the collections are matched by their value (descriptions and display names by their language)
+ * and only the unmatched elements are deleted or inserted. Submodels are matched by their idExternal and merged the same way.
+ * Unchanged parts of the aggregate therefore keep their rows and ids and cause no statements at all.
+ * <p>
+ * The stored aggregate must be managed by the persistence context of the current transaction with all of its associations loaded,
+ * the back references of the incoming descriptor must be set (see {@link ShellService#mapShellCollection(Shell)} and
+ * {@link ShellService#mapSubmodel(Set)}).
+ */
+@Component
+public class ShellMerger {
+
+   private final EntityManager entityManager;
+
+   public ShellMerger( EntityManager entityManager ) {
+      this.entityManager = entityManager;
+   }
+
+   /**
+    * @param changed             whether any statement is needed to write the merged aggregate
+    * @param identifiersChanged  whether the specificAssetIds of the shell changed, the visibility of the shell has to be refreshed then
+    */
+   public record MergeResult(boolean changed, boolean identifiersChanged) {
+   }
+
+   /**
+    * Merges the incoming shell into the stored one.
+    *
+    * @param stored   the managed shell
+    * @param incoming the shell as sent by the client
+    * @return what changed
+    */
+   public MergeResult merge( Shell stored, Shell incoming ) {
+      boolean changed = false;
+      if ( !Objects.equals( stored.getIdShort(), incoming.getIdShort() ) ) {
+         stored.setIdShort( incoming.getIdShort() );
+         changed = true;
+      }
+      if ( !Objects.equals( stored.getShellKind(), incoming.getShellKind() ) ) {
+         stored.setShellKind( incoming.getShellKind() );
+         changed = true;
+      }
+      if ( !Objects.equals( stored.getShellType(), incoming.getShellType() ) ) {
+         stored.setShellType( incoming.getShellType() );
+         changed = true;
+      }
+
+      // the collections of the shell have no orphan removal, removed elements are deleted explicitly
+      changed |= mergeElements( stored.getDescriptions(), incoming.getDescriptions(),
+            ShellDescription::getLanguage,
+            ( storedDescription, incomingDescription ) -> updateText( storedDescription.getText(), incomingDescription.getText(),
+                  storedDescription::setText ),
+            entityManager::remove,
+            description -> description.setShellId( stored ) );
+      changed |= mergeElements( stored.getDisplayNames(), incoming.getDisplayNames(),
+            ShellDisplayName::getLanguage,
+            ( storedDisplayName, incomingDisplayName ) -> updateText( storedDisplayName.getText(), incomingDisplayName.getText(),
+                  storedDisplayName::setText ),
+            entityManager::remove,
+            displayName -> displayName.setShellId( stored ) );
+      final boolean identifiersChanged = mergeElements( stored.getIdentifiers(), incoming.getIdentifiers(),
+            ShellMerger::identifierSignature,
+            ShellMerger::unchanged,
+            entityManager::remove,
+            identifier -> identifier.setShellId( stored ) );
+
+      changed |= identifiersChanged;
+      changed |= mergeSubmodels( stored, incoming.getSubmodels() );
+      return new MergeResult( changed, identifiersChanged );
+   }
+
+   /**
+    * Merges the incoming submodel into the stored one with the same idExternal.
+    *
+    * @param stored   the managed submodel
+    * @param incoming the submodel as sent by the client
+    * @return whether anything changed
+    */
+   public boolean mergeSubmodel( Submodel stored, Submodel incoming ) {
+      boolean changed = false;
+      if ( !Objects.equals( stored.getIdShort(), incoming.getIdShort() ) ) {
+         stored.setIdShort( incoming.getIdShort() );
+         changed = true;
+      }
+      changed |= mergeSemanticId( stored, incoming.getSemanticId() );
+
+      // the collections of the submodel have orphan removal, removing the element from the collection deletes it
+      changed |= mergeElements( stored.getDescriptions(), incoming.getDescriptions(),
+            SubmodelDescription::getLanguage,
+            ( storedDescription, incomingDescription ) -> updateText( storedDescription.getText(), incomingDescription.getText(),
+                  storedDescription::setText ),
+            description -> {},
+            description -> description.setSubmodel( stored ) );
+      changed |= mergeElements( stored.getDisplayNames(), incoming.getDisplayNames(),
+            SubmodelDisplayName::getLanguage,
+            ( storedDisplayName, incomingDisplayName ) -> updateText( storedDisplayName.getText(), incomingDisplayName.getText(),
+                  storedDisplayName::setText ),
+            displayName -> {},
+            displayName -> displayName.setSubmodel( stored ) );
+      changed |= mergeElements( stored.getEndpoints(), incoming.getEndpoints(),
+            ShellMerger::endpointSignature,
+            ShellMerger::unchanged,
+            endpoint -> {},
+            endpoint -> endpoint.setSubmodel( stored ) );
+      if ( stored.getSubmodelSupplemSemanticIds() == null ) {
+         stored.setSubmodelSupplemSemanticIds( new HashSet<>() );
+      }
+      changed |= mergeElements( stored.getSubmodelSupplemSemanticIds(), incoming.getSubmodelSupplemSemanticIds(),
+            reference -> referenceSignature( reference.getType(), reference.getKeys(), key -> key.getType(), key -> key.getValue() ),
+            ShellMerger::unchanged,
+            reference -> {},
+            reference -> reference.setSubmodel( stored ) );
+      return changed;
+   }
+
+   private boolean mergeSubmodels( Shell stored, Set<Submodel> incomingSubmodels ) {
+      boolean changed = false;
+      final Map<String, Submodel> storedByIdExternal = new HashMap<>();
+      stored.getSubmodels().forEach( submodel -> storedByIdExternal.putIfAbsent( submodel.getIdExternal(), submodel ) );
+      for ( final Submodel incoming : CollectionUtils.emptyIfNull( incomingSubmodels ) ) {
+         final Submodel storedSubmodel = storedByIdExternal.remove( incoming.getIdExternal() );
+         if ( storedSubmodel != null ) {
+            changed |= mergeSubmodel( storedSubmodel, incoming );
+         } else {
+            incoming.setShellId( stored );
+            stored.getSubmodels().add( incoming );
+            changed = true;
+         }
+      }
+      for ( final Submodel removed : storedByIdExternal.values() ) {
+         stored.getSubmodels().remove( removed );
+         entityManager.remove( removed );
+         changed = true;
+      }
+      return changed;
+   }
+
+   /**
+    * The semanticId is updated in place, the reference row is only replaced if it is added or removed.
+    */
+   private boolean mergeSemanticId( Submodel stored, SubmodelSemanticIdReference incoming ) {
+      final SubmodelSemanticIdReference storedSemanticId = stored.getSemanticId();
+      if ( storedSemanticId == null || incoming == null ) {
+         if ( storedSemanticId == incoming ) {
+            return false;
+         }
+         if ( incoming != null ) {
+            incoming.setSubmodel( stored );
+         }
+         stored.setSemanticId( incoming );
+         return true;
+      }
+      boolean changed = false;
+      if ( !Objects.equals( storedSemanticId.getType(), incoming.getType() ) ) {
+         storedSemanticId.setType( incoming.getType() );
+         changed = true;
+      }
+      if ( storedSemanticId.getKeys() == null ) {
+         storedSemanticId.setKeys( new HashSet<>() );
+      }
+      changed |= mergeElements( storedSemanticId.getKeys(), incoming.getKeys(),
+            key -> Arrays.asList( key.getType(), key.getValue() ),
+            ShellMerger::unchanged,
+            key -> {},
+            key -> key.setSubmodelSemanticIdReference( storedSemanticId ) );
+      return changed;
+   }
+
+   /**
+    * Matches the elements of both collections by their key, every element is matched at most once. The matched stored elements are
+    * updated from their incoming counterpart, the unmatched stored elements are removed and the unmatched incoming elements are added.
+    * The key is either the whole value of an element or the part of it which is unique within the collection. In the latter case the
+    * element has to be updated in place, its replacement would be inserted before the element is deleted and violate the constraint.
+    *
+    * @return whether any element was updated, removed or added
+    */
+   private static <T> boolean mergeElements( Collection<T> stored, Collection<T> incoming, Function<T, Object> key,
+         BiPredicate<T, T> update, Consumer<T> onRemove, Consumer<T> onAdd ) {
+      final Map<Object, Deque<T>> unmatched = new HashMap<>();
+      CollectionUtils.emptyIfNull( incoming ).stream()
+            .filter( Objects::nonNull )
+            .forEach( element -> unmatched.computeIfAbsent( key.apply( element ), ignored -> new ArrayDeque<>() ).add( element ) );
+
+      boolean updated = false;
+      final List<T> removed = new ArrayList<>();
+      for ( final T element : stored ) {
+         final Deque<T> candidates = unmatched.get( key.apply( element ) );
+         if ( candidates == null || candidates.isEmpty() ) {
+            removed.add( element );
+         } else {
+            updated |= update.test( element, candidates.poll() );
+         }
+      }
+      removed.forEach( element -> {
+         stored.remove( element );
+         onRemove.accept( element );
+      } );
+
+      final List<T> added = unmatched.values().stream().flatMap( Collection::stream ).toList();
+      added.forEach( element -> {
+         onAdd.accept( element );
+         stored.add( element );
+      } );
+      return updated || !removed.isEmpty() || !added.isEmpty();
+   }
+
+   /**
+    * The update of elements which are matched by their whole value.
+    */
+   private static <T> boolean unchanged( T stored, T incoming ) {
+      return false;
+   }
+
+   private static boolean updateText( String storedText, String incomingText, Consumer<String> setter ) {
+      if ( Objects.equals( storedText, incomingText ) ) {
+         return false;
+      }
+      setter.accept( incomingText );
+      return true;
+   }
+
+   private static Object identifierSignature( ShellIdentifier identifier ) {
+      return Arrays.asList(
+            identifier.getKey(),
+            identifier.getValue(),
+            identifier.getSemanticId() == null ? null : referenceSignature( identifier.getSemanticId().getType(),
+                  identifier.getSemanticId().getKeys(), key -> key.getType(), key -> key.getValue() ),
+            identifier.getExternalSubjectId() == null ? null : referenceSignature( identifier.getExternalSubjectId().getType(),
+                  identifier.getExternalSubjectId().getKeys(), key -> key.getType(), key -> key.getValue() ),
+            CollectionUtils.emptyIfNull( identifier.getSupplementalSemanticIds() ).stream()
+                  .filter( Objects::nonNull )
+                  .map( reference -> referenceSignature( reference.getType(), reference.getKeys(), key -> key.getType(), key -> key.getValue() ) )
+                  .collect( Collectors.toSet() ) );
+   }
+
+   private static Object endpointSignature( SubmodelEndpoint endpoint ) {
+      return Arrays.asList(
+            endpoint.getInterfaceName(),
+            endpoint.getEndpointAddress(),
+            endpoint.getEndpointProtocol(),
+            endpoint.getEndpointProtocolVersion(),
+            endpoint.getSubProtocol(),
+            endpoint.getSubProtocolBody(),
+            endpoint.getSubProtocolBodyEncoding(),
+            CollectionUtils.emptyIfNull( endpoint.getSubmodelSecurityAttribute() ).stream()
+                  .filter( Objects::nonNull )
+                  .map( attribute -> Arrays.asList( attribute.getType(), attribute.getKey(), attribute.getValue() ) )
+                  .collect( Collectors.toSet() ) );
+   }
+
+   private static <K> Object referenceSignature( Object type, Collection<K> keys, Function<K, Object> keyType, Function<K, Object> keyValue ) {
+      return Arrays.asList( type, CollectionUtils.emptyIfNull( keys ).stream()
+            .filter( Objects::nonNull )
+            .map( key -> Arrays.asList( keyType.apply( key ), keyValue.apply( key ) ) )
+            .collect( Collectors.toSet() ) );
+   }
+}
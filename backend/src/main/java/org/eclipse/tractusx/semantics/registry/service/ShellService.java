@@ -26,14 +26,22 @@ import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.antlr.v4.runtime.misc.Pair;
@@ -52,13 +60,19 @@ import org.eclipse.tractusx.semantics.registry.dto.SubmodelCollectionDto;
 import org.eclipse.tractusx.semantics.registry.model.Shell;
 import org.eclipse.tractusx.semantics.registry.model.ShellIdentifier;
 import org.eclipse.tractusx.semantics.registry.model.Submodel;
+import org.eclipse.tractusx.semantics.registry.model.SubmodelEndpoint;
 import org.eclipse.tractusx.semantics.registry.model.projection.ShellIdentifierMinimal;
+import org.eclipse.tractusx.semantics.registry.model.projection.ShellLookupMatch;
 import org.eclipse.tractusx.semantics.registry.model.projection.ShellMinimal;
+import org.eclipse.tractusx.semantics.registry.model.projection.SubmodelEndpointMatch;
+import org.eclipse.tractusx.semantics.registry.repository.ArrayFunctionContributor;
 import org.eclipse.tractusx.semantics.registry.repository.ShellIdentifierRepository;
 import org.eclipse.tractusx.semantics.registry.repository.ShellRepository;
 import org.eclipse.tractusx.semantics.registry.repository.SubmodelRepository;
 import org.eclipse.tractusx.semantics.registry.utils.ShellCursor;
 import org.eclipse.tractusx.semantics.registry.utils.ShellSpecification;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -67,26 +81,49 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Fetch;
 import jakarta.persistence.criteria.JoinType;
-import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
 public class ShellService {
 
+   public static final String DUPLICATE_SHELL_EXCEPTION = "An AssetAdministrationShell for the given identification does already exists.";
    public static final String DUPLICATE_SUBMODEL_EXCEPTION = "An AssetAdministrationSubmodel for the given identification does already exists.";
+   // the unique constraints on the idExternal, see db.changelog-v1.yaml
+   private static final String SHELL_ID_EXTERNAL_CONSTRAINT = "SHELL_AK_01";
+   private static final String SUBMODEL_ID_EXTERNAL_CONSTRAINT = "SUBMODEL_AK_01";
+   // H2 reports the index backing a unique constraint, named after the constraint with a generated suffix, e.g. SHELL_AK_01_INDEX_4
+   private static final Pattern H2_CONSTRAINT_INDEX_SUFFIX = Pattern.compile( "_INDEX_[0-9A-Z]+$", Pattern.CASE_INSENSITIVE );
    private static final String SORT_FIELD_NAME_SHELL = "createdDate";
    private static final String SORT_FIELD_NAME_SUBMODEL = "id";
+   private static final Sort SHELL_KEYSET_SORT = Sort.by( SORT_FIELD_NAME_SHELL, "id" ).ascending();
    private static final String DEFAULT_EXTERNAL_ID = "00000000-0000-0000-0000-000000000000";
    private static final Instant MINIMUM_SQL_DATETIME = OffsetDateTime
          .of( 1800, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC ).toInstant();
    private static final int MAXIMUM_RECORDS = 1000;
    private static final int DEFAULT_FETCH_SIZE = 500;
+   // number of shells inserted within one transaction by saveBatch, the inserts are sent to the database in JDBC batches
+   private static final int BATCH_INSERT_CHUNK_SIZE = 500;
+   // number of independent lookups accepted by findExternalShellIdsByAssetLinksInBatch
+   private static final int MAXIMUM_BATCH_LOOKUP_QUERIES = 1000;
+   // number of matches of a batch lookup which are loaded at once for evaluating the access rules
+   private static final int MAXIMUM_BATCH_LOOKUP_MATCHES = 10000;
+   // number of submodel endpoint URLs accepted by findAuthorizedSubmodelEndpoints
+   private static final int MAXIMUM_BATCH_AUTHORIZATION_ENDPOINTS = 1000;
 
    private final ShellRepository shellRepository;
    private final ShellIdentifierRepository shellIdentifierRepository;
@@ -98,13 +135,27 @@ public class ShellService {
    private final int granularAccessControlFetchSize;
    private final boolean isGranularAccessControlEnabled;
    private final AccessControlRuleService accessControlRuleService;
+   private final EntityManager entityManager;
+   private final TransactionTemplate transactionTemplate;
+   private final ShellAssociationLoader shellAssociationLoader;
+   private final ShellCache shellCache;
+   private final RegistryMetrics registryMetrics;
+   private final SubmodelAuthorizationCache submodelAuthorizationCache;
+   private final ShellMerger shellMerger;
 
    public ShellService( ShellRepository shellRepository,
          ShellIdentifierRepository shellIdentifierRepository,
          SubmodelRepository submodelRepository,
          RegistryProperties registryProperties,
          ShellAccessHandler shellAccessHandler,
-         AccessControlRuleService accessControlRuleService) {
+         AccessControlRuleService accessControlRuleService,
+         EntityManager entityManager,
+         TransactionTemplate transactionTemplate,
+         ShellAssociationLoader shellAssociationLoader,
+         ShellCache shellCache,
+         RegistryMetrics registryMetrics,
+         SubmodelAuthorizationCache submodelAuthorizationCache,
+         ShellMerger shellMerger ) {
       this.shellRepository = shellRepository;
       this.shellIdentifierRepository = shellIdentifierRepository;
       this.submodelRepository = submodelRepository;
@@ -115,15 +166,31 @@ public class ShellService {
       this.granularAccessControlFetchSize = Optional.ofNullable( registryProperties.getGranularAccessControlFetchSize() ).orElse( DEFAULT_FETCH_SIZE );
       this.isGranularAccessControlEnabled = registryProperties.getUseGranularAccessControl();
       this.accessControlRuleService = accessControlRuleService;
+      this.entityManager = entityManager;
+      this.transactionTemplate = transactionTemplate;
+      this.shellAssociationLoader = shellAssociationLoader;
+      this.shellCache = shellCache;
+      this.registryMetrics = registryMetrics;
+      this.submodelAuthorizationCache = submodelAuthorizationCache;
+      this.shellMerger = shellMerger;
    }
 
+   /**
+    * Inserts the shell without checking upfront whether its idExternal already exists, a duplicate is detected by the unique
+    * constraint on the idExternal and rejected with a {@link DuplicateKeyException}.
+    *
+    * @param shell the shell to insert
+    * @return the inserted shell
+    */
    @Transactional
    public Shell save( Shell shell ) {
-      if ( shellRepository.findByIdExternal( shell.getIdExternal() ).isPresent() ) {
-         throw new DuplicateKeyException( "An AssetAdministrationShell for the given identification does already exists." );
-      }
+      shellCache.evict( shell.getIdExternal() );
+      // the endpoints may have been checked while they were unknown
+      submodelAuthorizationCache.evict( endpointAddressesOf( CollectionUtils.emptyIfNull( shell.getSubmodels() ) ) );
 
-      return shellRepository.save( shell );
+      persistOrConflict( shell );
+      shellRepository.insertVisibilityByShellIdIn( List.of( shell.getId() ) );
+      return shell;
    }
 
    public void mapShellCollection( Shell shell ) {
@@ -159,20 +226,44 @@ public class ShellService {
       } );
    }
 
+   /**
+    * Finds the shell and filters its properties for the externalSubjectId. The unfiltered shell is read through the {@link ShellCache},
+    * the returned shell is shared with other requests and must not be modified.
+    *
+    * @param externalShellId   the idExternal of the shell
+    * @param externalSubjectId the tenant reading the shell
+    * @return the filtered shell
+    */
    @Transactional
    public Shell findShellByExternalIdAndExternalSubjectId( String externalShellId, String externalSubjectId ) {
-      final Optional<Shell> optionalShell;
-      if ( shellAccessHandler.supportsGranularAccessControl() ) {
-         optionalShell = shellRepository.findByIdExternal( externalShellId );
-      } else {
-         optionalShell = shellRepository.findByIdExternalAndExternalSubjectId( externalShellId, externalSubjectId,
-               owningTenantId, externalSubjectIdWildcardPrefix, externalSubjectIdWildcardAllowedTypes );
-      }
-      return optionalShell
-            .map( shell -> shellAccessHandler.filterShellProperties( shell, externalSubjectId ) )
+      final Optional<Shell> shell = registryMetrics.timeQuery( RegistryMetrics.OPERATION_FIND_SHELL,
+            () -> shellCache.get( externalShellId, this::findShellWithAllAssociations ) );
+      return registryMetrics.timeAccessFiltering( RegistryMetrics.OPERATION_FIND_SHELL, () -> shell
+                  .filter( found -> shellAccessHandler.supportsGranularAccessControl() || isVisibleWithLegacyAccessControl( found, externalSubjectId ) )
+                  .map( found -> shellAccessHandler.filterShellProperties( found, externalSubjectId ) ) )
             .orElseThrow( () -> new EntityNotFoundException( String.format( "Shell for identifier %s not found", externalShellId ) ) );
    }
 
+   private Optional<Shell> findShellWithAllAssociations( String externalShellId ) {
+      final Optional<Shell> shell = shellRepository.findByIdExternal( externalShellId );
+      // the cached shell is detached once the transaction is completed, every association has to be loaded upfront
+      shell.ifPresent( found -> shellAssociationLoader.loadAllAssociations( List.of( found ) ) );
+      return shell;
+   }
+
+   /**
+    * The shell is visible for the owning tenant and for tenants which are the externalSubjectId of one of its specificAssetIds,
+    * either directly or through the public wildcard in case the specificAssetId type allows it.
+    */
+   private boolean isVisibleWithLegacyAccessControl( Shell shell, String externalSubjectId ) {
+      return owningTenantId.equals( externalSubjectId ) || shell.getIdentifiers().stream()
+            .filter( identifier -> identifier.getExternalSubjectId() != null )
+            .anyMatch( identifier -> identifier.getExternalSubjectId().getKeys().stream()
+                  .anyMatch( key -> key.getValue().equals( externalSubjectId )
+                        || (key.getValue().equals( externalSubjectIdWildcardPrefix ) && externalSubjectIdWildcardAllowedTypes != null
+                            && externalSubjectIdWildcardAllowedTypes.contains( identifier.getKey() )) ) );
+   }
+
    @Transactional
    public Shell findShellByExternalIdWithoutFiltering( String externalShellId ) {
       return doFindShellByExternalIdWithoutFiltering( externalShellId );
@@ -183,6 +274,9 @@ public class ShellService {
     * This method is used to define a query that fetches all related entities of a Shell,
     * including identifiers, descriptions, display names, submodels, and their nested associations.
     *
+    * The joins return the cartesian product of the collections of every shell, therefore the specification
+    * should only be used for single shells. Pages of shells are loaded with {@link ShellAssociationLoader} instead.
+    *
     * The specification ensures that:
     * - Fetching is only applied to entity queries (not count queries).
     * - The query result is distinct to avoid duplicate records.
@@ -236,46 +330,51 @@ public class ShellService {
             final String externalSubjectId, final OffsetDateTime createdAfter) {
         pageSize = getPageSize(pageSize);
         ShellCursor cursor = new ShellCursor(pageSize, cursorVal);
+        final var candidateSpecificAssetIds = findCandidateSpecificAssetIds(externalSubjectId);
+        if (candidateSpecificAssetIds.filter(Map::isEmpty).isPresent()) {
+            return ShellCollectionDto.builder().items(Collections.emptyList()).build();
+        }
         var specification = shellAccessHandler.shellFilterSpecification(SORT_FIELD_NAME_SHELL, cursor,
                 externalSubjectId, createdAfter);
         final var foundList = new ArrayList<Shell>();
+        int iterations = 0;
+        int fetchedShells = 0;
         // fetch 1 more item to make sure there is a visible item for the next page
         while (foundList.size() < pageSize + 1) {
-            specification = setMandatorySpecificIdsAndValues(externalSubjectId, specification);
-
-            var shellList = shellRepository.findAll(specification, ofSize(granularAccessControlFetchSize));
-            var shellIdList = shellList.stream().map(Shell::getId).toList();
-
-            if (CollectionUtils.isEmpty(shellIdList)) {
+            var candidateSpecification = withCandidateSpecificAssetIds(candidateSpecificAssetIds, specification);
+
+            List<Shell> shellList = registryMetrics.timeQuery(RegistryMetrics.OPERATION_FIND_ALL_SHELLS, () -> {
+                List<Shell> page = shellRepository.findBy(candidateSpecification,
+                        query -> query.sortBy(SHELL_KEYSET_SORT).limit(granularAccessControlFetchSize).all());
+                // Load the associations only for the shells of the current chunk
+                shellAssociationLoader.loadAllAssociations(page);
+                return page;
+            });
+            if (CollectionUtils.isEmpty(shellList)) {
                 break;
             }
-            // Add shellIds filter to the existing specification
-            // This code snippet modifies an existing JPA Specification by adding a filter
-            // condition.
-            // The filter ensures that only entities with an "id" attribute matching one of
-            // the IDs in the `shellIdList` are included in the query results.
-            specification = specification.and((root, query, criteriaBuilder) -> root.get("id").in(shellIdList));
-
-            Page<Shell> currentPage = shellRepository.findAll(specification.and(withAllAssociations()),
-                    ofSize(granularAccessControlFetchSize));
-            List<Shell> shells = shellAccessHandler.filterListOfShellProperties(currentPage.stream().toList(),
-                    externalSubjectId);
+            iterations++;
+            fetchedShells += shellList.size();
+            List<Shell> shells = registryMetrics.timeAccessFiltering(RegistryMetrics.OPERATION_FIND_ALL_SHELLS,
+                    () -> shellAccessHandler.filterListOfShellProperties(shellList, externalSubjectId));
             shells.stream().limit((long) pageSize + 1 - foundList.size()).forEach(foundList::add);
-            if (!currentPage.hasNext()) {
+            if (shellList.size() < granularAccessControlFetchSize) {
                 break;
             }
+            Shell lastShell = lastItemOf(shellList);
             ShellCursor shellCursor = new ShellCursor(pageSize, cursor.getEncodedCursorShell(
-                    lastItemOf(currentPage.getContent()).getCreatedDate(), currentPage.hasNext()));
+                    lastShell.getCreatedDate(), lastShell.getId(), true));
             specification = shellAccessHandler.shellFilterSpecification(SORT_FIELD_NAME_SHELL, shellCursor,
                     externalSubjectId, createdAfter);
         }
+        registryMetrics.recordGranularFetch(RegistryMetrics.OPERATION_FIND_ALL_SHELLS, iterations, fetchedShells, foundList.size());
         String nextCursor = null;
 
         final boolean hasNextPage = foundList.size() > pageSize;
         List<Shell> resultList = foundList.stream().limit(pageSize).toList();
         if (!resultList.isEmpty()) {
-            nextCursor = cursor.getEncodedCursorShell(resultList.get(resultList.size() - 1).getCreatedDate(),
-                    hasNextPage);
+            Shell lastShell = lastItemOf(resultList);
+            nextCursor = cursor.getEncodedCursorShell(lastShell.getCreatedDate(), lastShell.getId(), hasNextPage);
         }
 
         return ShellCollectionDto.builder().items(resultList).cursor(nextCursor).build();
@@ -289,79 +388,111 @@ public class ShellService {
         Instant cursorCreatedDate = cursor.hasCursorReceived()
                 ? cursor.getShellSearchCursor()
                 : Optional.ofNullable(createdAfter).map(OffsetDateTime::toInstant).orElse(MINIMUM_SQL_DATETIME);
-
-        String extSubId = null;
-        if (!externalSubjectId.isEmpty()) {
-            extSubId = externalSubjectId;
-        }
-
-        Page<Shell> shellPage = shellRepository.findAllByExternalSubjectId(extSubId, owningTenantId,
-                externalSubjectIdWildcardPrefix, externalSubjectIdWildcardAllowedTypes, cursorCreatedDate,
-                PageRequest.of(0, pageSize, Sort.by("created_date").ascending()));
-
-        // Page to List
-        List<Shell> shells = shellAccessHandler.filterListOfShellProperties(shellPage.stream().toList(),
-                externalSubjectId);
+        UUID cursorId = cursor.getShellSearchCursorId();
+
+        // fetch 1 more item to find out whether there is a next page without counting the shells
+        final int fetchSize = pageSize + 1;
+        List<Shell> foundShells = registryMetrics.timeQuery(RegistryMetrics.OPERATION_FIND_ALL_SHELLS,
+                () -> externalSubjectId.isEmpty() || owningTenantId.equals(externalSubjectId)
+                        ? shellRepository.findAllAfter(cursorCreatedDate, cursorId, fetchSize)
+                        : shellRepository.findAllVisibleForTenantAfter(externalSubjectId, externalSubjectIdWildcardPrefix,
+                                externalSubjectIdWildcardAllowedTypes, cursorCreatedDate, cursorId, fetchSize));
+        final boolean hasNextPage = foundShells.size() > pageSize;
+        List<Shell> pageOfShells = foundShells.stream().limit(pageSize).toList();
+        registryMetrics.timeQuery(RegistryMetrics.OPERATION_FIND_ALL_SHELLS, () -> {
+            shellAssociationLoader.loadAllAssociations(pageOfShells);
+            return pageOfShells;
+        });
+
+        List<Shell> shells = registryMetrics.timeAccessFiltering(RegistryMetrics.OPERATION_FIND_ALL_SHELLS,
+                () -> shellAccessHandler.filterListOfShellProperties(pageOfShells, externalSubjectId));
 
         String nextCursor = null;
-        if (!shells.isEmpty()) {
-            Instant lastDate = shells.get(shells.size() - 1).getCreatedDate();
-            nextCursor = cursor.getEncodedCursorShell(lastDate, shells.size() == pageSize);
+        if (!pageOfShells.isEmpty()) {
+            Shell lastShell = lastItemOf(pageOfShells);
+            nextCursor = cursor.getEncodedCursorShell(lastShell.getCreatedDate(), lastShell.getId(), hasNextPage);
         }
 
         return ShellCollectionDto.builder().items(shells).cursor(nextCursor).build();
     }
 
    /**
-    * Adds mandatory specific asset ID filters to the given JPA Specification.
-    *
-    * This method modifies the provided Specification to include filtering conditions
-    * based on specific asset IDs and their values. It ensures that only entities
-    * matching the specified criteria are included in the query results.
+    * Passes every shell visible to the externalSubjectId to the consumer, ordered by creation date. The shells are read page by page
+    * with the keyset cursor of {@link #findAllShells(Integer, String, String, OffsetDateTime)}. Every page is read within its own
+    * read-only transaction which is completed before the shells of the page are passed to the consumer. Therefore neither a transaction
+    * nor a database connection is held while the consumer writes the shells to a (possibly slow) client, and the memory consumption does
+    * not depend on the number of shells in the registry.
     *
-    * The filtering is applied only if granular access control is enabled and the
-    * `externalSubjectId` does not match the owning tenant ID.
+    * @param externalSubjectId The external subject ID of the user making the request.
+    * @param createdAfter      optional filter, only the shells created after this timestamp are returned
+    * @param consumer          receives the filtered shells one at a time
+    */
+   public void exportAllShells( final String externalSubjectId, final OffsetDateTime createdAfter, final Consumer<Shell> consumer ) {
+      // The EntityManager bound to the web request (open-in-view) would keep its connection until the export is completed,
+      // therefore every page is read with an EntityManager of its own.
+      final EntityManagerFactory entityManagerFactory = entityManager.getEntityManagerFactory();
+      final Object requestEntityManager = TransactionSynchronizationManager.unbindResourceIfPossible( entityManagerFactory );
+      try {
+         final TransactionTemplate readOnlyTransaction = new TransactionTemplate( transactionTemplate.getTransactionManager(), transactionTemplate );
+         readOnlyTransaction.setReadOnly( true );
+         String cursor = null;
+         do {
+            final String pageCursor = cursor;
+            final ShellCollectionDto page = readOnlyTransaction.execute(
+                  status -> findAllShells( DEFAULT_FETCH_SIZE, pageCursor, externalSubjectId, createdAfter ) );
+            page.getItems().forEach( consumer );
+            cursor = page.getCursor();
+         } while ( cursor != null );
+      } finally {
+         if ( requestEntityManager != null ) {
+            TransactionSynchronizationManager.bindResource( entityManagerFactory, requestEntityManager );
+         }
+      }
+   }
+
+   /**
+    * Determines the specificAssetIds of which a shell must have at least one to be visible for the externalSubjectId.
+    * These are derived from the compiled access rules, therefore the database can return only the candidates which may be
+    * visible instead of every shell. The Java side filter remains responsible for the exact evaluation of the rules.
     *
     * @param externalSubjectId The external subject ID of the user making the request.
+    * @return the candidate specificAssetId values grouped by name (an empty map means that no shell is visible), or an empty
+    *       Optional if the shells must not be pre-filtered (owning tenant)
+    */
+   private Optional<Map<String, Set<String>>> findCandidateSpecificAssetIds( String externalSubjectId ) {
+      if ( !isGranularAccessControlEnabled || owningTenantId.equals( externalSubjectId ) ) {
+         return Optional.empty();
+      }
+      return Optional.of( accessControlRuleService.findCandidateSpecificAssetIdsWithinValidityPeriod( externalSubjectId, Instant.now() ) );
+   }
+
+   /**
+    * Adds the candidate specificAssetId filter to the given JPA Specification. The shell matches if it has ANY of the
+    * candidate specificAssetIds. The digests of the candidates are bound as a single array parameter, therefore the filter is
+    * applied regardless of the number of candidates.
+    *
+    * @param candidateSpecificAssetIds The result of {@link #findCandidateSpecificAssetIds(String)}.
     * @param specification The existing JPA Specification to be modified.
     * @return Specification<Shell> The modified Specification with additional filtering conditions.
     */
-   private Specification<Shell> setMandatorySpecificIdsAndValues(String externalSubjectId, Specification<Shell> specification) {
-    if(isGranularAccessControlEnabled && !owningTenantId.equals( externalSubjectId )) {
-       var specificAssetIdNameAndNameSet =  accessControlRuleService.findAllByBpnWithinValidityPeriod(externalSubjectId,Instant.now());
-
-            // Add filtering by specific asset IDs to the specification
-           specification = specification.and((root, query, criteriaBuilder) -> {
-               // Skip if there are no identifiers to filter by
-               if (specificAssetIdNameAndNameSet == null || specificAssetIdNameAndNameSet.isEmpty()) {
-                   return criteriaBuilder.conjunction(); // always true
-               }
-
-               // Ensure distinct results to avoid duplicates
-               Optional.ofNullable( query ).ifPresent( queryDetails -> queryDetails.distinct(true));
-
-               // Join Shell with ShellIdentifier entities
-               var identifierJoin = root.join("identifiers", JoinType.LEFT);
-
-               // Create predicates for each key-value pair
-               var predicates =  specificAssetIdNameAndNameSet.entrySet().stream().filter( stringSetEntry -> CollectionUtils.isNotEmpty( stringSetEntry.getValue() ))
-               .map( stringSetEntry -> {
-                  Predicate keyPredicate = criteriaBuilder.equal(identifierJoin.get("key"), stringSetEntry.getKey());
-                  Predicate valuePredicate = identifierJoin.get("value").in(stringSetEntry.getValue());
-                  return criteriaBuilder.and(keyPredicate, valuePredicate);
-               }).toList();
-
-               // If no valid predicates were created, return always true
-               if (CollectionUtils.isEmpty( predicates )) {
-                   return criteriaBuilder.conjunction();
-               }
-
-               // Return OR of all key-value pair predicates (shell matches if it has ANY of the pairs)
-               return criteriaBuilder.or(predicates.toArray(new Predicate[0]));
-           });
+   private Specification<Shell> withCandidateSpecificAssetIds( Optional<Map<String, Set<String>>> candidateSpecificAssetIds,
+         Specification<Shell> specification ) {
+      return candidateSpecificAssetIds
+            .map( candidates -> specification.and( hasAnyOfSpecificAssetIds( candidates ) ) )
+            .orElse( specification );
+   }
 
-      }
-    return specification;
+   private Specification<Shell> hasAnyOfSpecificAssetIds( Map<String, Set<String>> specificAssetIdValuesByName ) {
+      final String[] keyValueDigests = toKeyValueDigests( specificAssetIdValuesByName );
+      return ( root, query, criteriaBuilder ) -> {
+         Subquery<Integer> subquery = query.subquery( Integer.class );
+         Root<ShellIdentifier> identifier = subquery.from( ShellIdentifier.class );
+         subquery.select( criteriaBuilder.literal( 1 ) )
+               .where( criteriaBuilder.equal( identifier.get( "shellId" ), root ),
+                     criteriaBuilder.isTrue( criteriaBuilder.function( ArrayFunctionContributor.EQUALS_ANY, Boolean.class,
+                           identifier.get( "keyValueDigest" ), ( (HibernateCriteriaBuilder) criteriaBuilder ).value( keyValueDigests ) ) ) );
+         return criteriaBuilder.exists( subquery );
+      };
    }
 
    @Transactional( readOnly = true )
@@ -498,6 +629,125 @@ public class ShellService {
         return response;
     }
 
+   /**
+    * Resolves multiple independent lookups by asset links. Every lookup has the semantics of
+    * {@link #findExternalShellIdsByAssetLinkByExactMatch(Set, Integer, String, String)} without paging, all lookups are matched
+    * against the shell identifiers with a single query. The access rules of the reader are evaluated once for the whole batch.
+    *
+    * @param lookups           the specificAssetIds of the lookups by the keys of the lookups
+    * @param limit             the maximum number of shell ids per lookup
+    * @param externalSubjectId the tenantId of the reader
+    * @return the external ids of the visible shells by the keys of the lookups, every key of the request is contained
+    */
+   @Transactional( readOnly = true )
+   public Map<String, List<String>> findExternalShellIdsByAssetLinksInBatch( Map<String, Set<ShellIdentifier>> lookups, Integer limit,
+         String externalSubjectId ) {
+      if ( lookups.size() > MAXIMUM_BATCH_LOOKUP_QUERIES ) {
+         throw new IllegalArgumentException( "A batch lookup must not contain more than " + MAXIMUM_BATCH_LOOKUP_QUERIES + " lookups." );
+      }
+      lookups.forEach( ( queryId, shellIdentifiers ) -> {
+         if ( shellIdentifiers.isEmpty() ) {
+            throw new IllegalArgumentException( "The lookup " + queryId + " must contain at least one asset link." );
+         }
+      } );
+      final int limitPerQuery = getPageSize( limit );
+      final Map<String, List<String>> results = new LinkedHashMap<>();
+      lookups.keySet().forEach( queryId -> results.put( queryId, new ArrayList<>() ) );
+      if ( lookups.isEmpty() ) {
+         return results;
+      }
+      if ( isGranularAccessControlEnabled ) {
+         findExternalShellIdsByAssetLinksInBatchGranularAccessControl( lookups, limitPerQuery, externalSubjectId, results );
+      } else {
+         findExternalShellIdsInBatch( lookups, externalSubjectId, limitPerQuery, null )
+               .forEach( match -> results.get( match.queryId() ).add( match.shellId() ) );
+      }
+      return results;
+   }
+
+   /**
+    * Fetches the matches of the lookups having at least one of the candidate specificAssetIds of the reader and filters them per lookup
+    * with the rules of the reader. The lookups are resolved in chunks, the identifiers of the matching shells of one chunk are loaded
+    * at once, therefore at most {@link #MAXIMUM_BATCH_LOOKUP_MATCHES} matches are kept in memory. Lookups which might have further
+    * visible matches beyond the fetched ones are resolved again one by one, paging through their matches.
+    */
+   private void findExternalShellIdsByAssetLinksInBatchGranularAccessControl( Map<String, Set<ShellIdentifier>> lookups, int limitPerQuery,
+         String externalSubjectId, Map<String, List<String>> results ) {
+      if ( owningTenantId.equals( externalSubjectId ) ) {
+         findExternalShellIdsInBatch( lookups, owningTenantId, limitPerQuery, null )
+               .forEach( match -> results.get( match.queryId() ).add( match.shellId() ) );
+         return;
+      }
+      final var candidateSpecificAssetIds = findCandidateSpecificAssetIds( externalSubjectId );
+      if ( candidateSpecificAssetIds.filter( Map::isEmpty ).isPresent() ) {
+         return;
+      }
+      final String[] candidateKeyValueDigests = candidateSpecificAssetIds.map( this::toKeyValueDigests ).orElse( null );
+      final int fetchSize = Math.max( limitPerQuery, granularAccessControlFetchSize );
+      final int lookupsPerChunk = Math.max( 1, MAXIMUM_BATCH_LOOKUP_MATCHES / fetchSize );
+      try {
+         for ( List<String> queryIds : Lists.partition( new ArrayList<>( lookups.keySet() ), lookupsPerChunk ) ) {
+            final Map<String, Set<ShellIdentifier>> chunk = new LinkedHashMap<>();
+            queryIds.forEach( queryId -> chunk.put( queryId, lookups.get( queryId ) ) );
+            filterBatchLookupMatches( chunk, limitPerQuery, fetchSize, candidateKeyValueDigests, externalSubjectId, results );
+         }
+      } catch ( DenyAccessException e ) {
+         results.values().forEach( List::clear );
+      }
+   }
+
+   private void filterBatchLookupMatches( Map<String, Set<ShellIdentifier>> lookups, int limitPerQuery, int fetchSize,
+         String[] candidateKeyValueDigests, String externalSubjectId, Map<String, List<String>> results ) throws DenyAccessException {
+      final Map<String, List<String>> matchesByQueryId = new LinkedHashMap<>();
+      registryMetrics.timeQuery( RegistryMetrics.OPERATION_BATCH_LOOKUP,
+                  () -> findExternalShellIdsInBatch( lookups, owningTenantId, fetchSize, candidateKeyValueDigests ) )
+            .forEach( match -> matchesByQueryId.computeIfAbsent( match.queryId(), queryId -> new ArrayList<>() ).add( match.shellId() ) );
+
+      final List<String> matchingShellIds = matchesByQueryId.values().stream().flatMap( List::stream ).distinct().toList();
+      final Map<String, List<ShellIdentifierMinimal>> identifiersByShellId = registryMetrics.timeQuery( RegistryMetrics.OPERATION_BATCH_LOOKUP,
+            () -> Lists.partition( matchingShellIds, MAXIMUM_RECORDS ).stream()
+                  .flatMap( shellIds -> shellIdentifierRepository.findMinimalShellIdsByExternalShellIds( shellIds ).stream() )
+                  .collect( Collectors.groupingBy( ShellIdentifierMinimal::shellId ) ) );
+      int visibleShells = 0;
+      for ( Map.Entry<String, List<String>> matches : matchesByQueryId.entrySet() ) {
+         final Set<ShellIdentifier> shellIdentifiers = lookups.get( matches.getKey() );
+         final Set<SpecificAssetId> userQuery = shellIdentifiers.stream()
+               .map( id -> new SpecificAssetId( id.getKey(), id.getValue() ) ).collect( Collectors.toSet() );
+         final List<ShellIdentifierMinimal> identifiers = matches.getValue().stream()
+               .flatMap( shellId -> identifiersByShellId.getOrDefault( shellId, List.of() ).stream() )
+               .toList();
+         List<String> visibleShellIds = registryMetrics.timeAccessFiltering( RegistryMetrics.OPERATION_BATCH_LOOKUP,
+               () -> shellAccessHandler.filterToVisibleShellIdsForLookup( userQuery, identifiers, externalSubjectId ) );
+         visibleShells += visibleShellIds.size();
+         if ( visibleShellIds.size() < limitPerQuery && matches.getValue().size() == fetchSize ) {
+            visibleShellIds = fetchAPageOfAasIdsUsingGranularAccessControl( shellIdentifiers, externalSubjectId, DEFAULT_EXTERNAL_ID,
+                  limitPerQuery, false, null );
+         }
+         visibleShellIds.stream().limit( limitPerQuery ).forEach( results.get( matches.getKey() )::add );
+      }
+      registryMetrics.recordGranularFetch( RegistryMetrics.OPERATION_BATCH_LOOKUP, 1, matchingShellIds.size(), visibleShells );
+   }
+
+   private List<ShellLookupMatch> findExternalShellIdsInBatch( Map<String, Set<ShellIdentifier>> lookups, String tenantId,
+         int limitPerQuery, String[] candidateKeyValueDigests ) {
+      final int pairCount = lookups.values().stream().mapToInt( Set::size ).sum();
+      final String[] queryIds = new String[pairCount];
+      final String[] namespaces = new String[pairCount];
+      final String[] identifiers = new String[pairCount];
+      int index = 0;
+      for ( Map.Entry<String, Set<ShellIdentifier>> lookup : lookups.entrySet() ) {
+         for ( ShellIdentifier shellIdentifier : lookup.getValue() ) {
+            queryIds[index] = lookup.getKey();
+            namespaces[index] = shellIdentifier.getKey();
+            identifiers[index] = shellIdentifier.getValue();
+            index++;
+         }
+      }
+      return shellIdentifierRepository.findExternalShellIdsByIdentifiersByExactMatchInBatch( queryIds, namespaces, identifiers, tenantId,
+            externalSubjectIdWildcardPrefix, externalSubjectIdWildcardAllowedTypes, owningTenantId, ShellIdentifier.GLOBAL_ASSET_ID_KEY,
+            MINIMUM_SQL_DATETIME, limitPerQuery, candidateKeyValueDigests );
+   }
+
 	private Pair<List<String>, Long> fetchAPageOfAasIdsUsingLegacyAccessControl(
 			final Set<ShellIdentifier> shellIdentifiers, final String externalSubjectId,
                                                                      final String cursorValue, final int pageSize, final boolean isCursorAvailable, final OffsetDateTime createdAfter ) {
@@ -556,41 +806,45 @@ public class ShellService {
             final boolean isCursorAvailable, final OffsetDateTime createdAfter) throws DenyAccessException {
         final Set<SpecificAssetId> userQuery = shellIdentifiers.stream()
                 .map(id -> new SpecificAssetId(id.getKey(), id.getValue())).collect(Collectors.toSet());
-        List<String> keyValueCombinations = toKeyValueCombinations(shellIdentifiers);
+        List<String> keyValueDigests = toKeyValueDigests(shellIdentifiers);
         final var fetchSize = granularAccessControlFetchSize;
+        final var candidateSpecificAssetIds = findCandidateSpecificAssetIds(externalSubjectId);
+        if (candidateSpecificAssetIds.filter(Map::isEmpty).isPresent()) {
+            return Collections.emptyList();
+        }
+        final String[] candidateKeyValueDigests = candidateSpecificAssetIds.map(this::toKeyValueDigests).orElse(null);
 
         String currentCursorValue = cursorValue;
         final List<String> visibleAssetIds = new ArrayList<>();
+        int iterations = 0;
+        int fetchedShells = 0;
         while (visibleAssetIds.size() < pageSize + 1) {
-            final Instant currentCutoffDate = getCreatedDate(currentCursorValue, isCursorAvailable, createdAfter);
-            List<UUID> shellIds = shellIdentifierRepository.findAPageOfShellIdsBySpecificAssetIdsGranularAccessControl(keyValueCombinations,
-                    keyValueCombinations.size(), currentCutoffDate, currentCursorValue, PageRequest.ofSize(fetchSize));
+            final String pageCursorValue = currentCursorValue;
+            final Instant currentCutoffDate = getCreatedDate(pageCursorValue, isCursorAvailable, createdAfter);
+            List<UUID> shellIds = registryMetrics.timeQuery(RegistryMetrics.OPERATION_LOOKUP, () -> candidateKeyValueDigests == null
+                    ? shellIdentifierRepository.findAPageOfShellIdsBySpecificAssetIdsGranularAccessControl(keyValueDigests,
+                            keyValueDigests.size(), currentCutoffDate, pageCursorValue, PageRequest.ofSize(fetchSize))
+                    : shellIdentifierRepository.findAPageOfCandidateShellIdsBySpecificAssetIdsGranularAccessControl(keyValueDigests,
+                            keyValueDigests.size(), candidateKeyValueDigests, currentCutoffDate, pageCursorValue,
+                            PageRequest.ofSize(fetchSize)));
             if (shellIds.isEmpty()) {
                 break;
             }
-            List<ShellIdentifierMinimal> queryResults = shellIdentifierRepository
-                    .findMinimalShellIdsByShellIdsGranularAccessControl(shellIds, currentCutoffDate, currentCursorValue);
-
-            shellAccessHandler.filterToVisibleShellIdsForLookup(userQuery, queryResults, externalSubjectId).stream()
+            iterations++;
+            fetchedShells += shellIds.size();
+            List<ShellIdentifierMinimal> queryResults = registryMetrics.timeQuery(RegistryMetrics.OPERATION_LOOKUP,
+                    () -> shellIdentifierRepository.findMinimalShellIdsByShellIdsGranularAccessControl(shellIds, currentCutoffDate,
+                            pageCursorValue));
+
+            registryMetrics.timeAccessFiltering(RegistryMetrics.OPERATION_LOOKUP,
+                            () -> shellAccessHandler.filterToVisibleShellIdsForLookup(userQuery, queryResults, externalSubjectId)).stream()
                     .limit((long) fetchSize - visibleAssetIds.size()).forEach(visibleAssetIds::add);
             currentCursorValue = lastItemOf(queryResults).shellId();
         }
+        registryMetrics.recordGranularFetch(RegistryMetrics.OPERATION_LOOKUP, iterations, fetchedShells, visibleAssetIds.size());
         return visibleAssetIds.stream().distinct().toList();
     }
 
-   @Transactional( readOnly = true )
-   public List<String> findExternalShellIdsByIdentifiersByAnyMatch( Set<ShellIdentifier> shellIdentifiers, String externalSubjectId ) {
-      List<String> keyValueCombinations = toKeyValueCombinations( shellIdentifiers );
-
-      return shellRepository.findExternalShellIdsByIdentifiersByAnyMatch(
-            keyValueCombinations,
-            externalSubjectId,
-            externalSubjectIdWildcardPrefix,
-            externalSubjectIdWildcardAllowedTypes,
-            owningTenantId,
-            ShellIdentifier.GLOBAL_ASSET_ID_KEY );
-   }
-
    // Not used in AAS3
    @Transactional( readOnly = true )
    public List<Shell> findShellsByExternalShellIds( Set<String> externalShellIds, String externalSubjectId ) {
@@ -599,22 +853,72 @@ public class ShellService {
             .collect( Collectors.toList() );
    }
 
+   /**
+    * Replaces the stored shell with the provided one by merging the differences into the stored aggregate, see {@link ShellMerger}.
+    * Only the changed rows are written, the unchanged parts of the shell keep their ids and the createdDate of the shell is preserved.
+    *
+    * @param shell         the shell as sent by the client
+    * @param aasIdentifier the idExternal of the stored shell
+    * @throws EntityNotFoundException if no shell with the idExternal exists
+    */
    @Transactional
    public void update( Shell shell, String aasIdentifier ) {
-      deleteShell( aasIdentifier );
+      final Shell storedShell = findShellWithAllAssociations( aasIdentifier )
+            .orElseThrow( () -> new EntityNotFoundException( String.format( "Shell for identifier %s not found", aasIdentifier ) ) );
+      shellCache.evict( aasIdentifier );
+      final Set<String> endpointAddresses = new HashSet<>( endpointAddressesOf( storedShell.getSubmodels() ) );
+      endpointAddresses.addAll( endpointAddressesOf( CollectionUtils.emptyIfNull( shell.getSubmodels() ) ) );
+      submodelAuthorizationCache.evict( endpointAddresses );
+
       mapShellCollection( shell );
       mapSubmodel( shell.getSubmodels() );
+      final ShellMerger.MergeResult mergeResult = shellMerger.merge( storedShell, shell );
+      if ( !mergeResult.changed() ) {
+         return;
+      }
+      // the auditing listener only updates the lastModifiedDate if a column of the shell itself changed
+      storedShell.setLastModifiedDate( Instant.now() );
       try {
-         save( shell );
+         entityManager.flush();
       } catch ( Exception e ) {
          throw new IllegalArgumentException( e.getMessage() );
       }
+      if ( mergeResult.identifiersChanged() ) {
+         refreshVisibility( List.of( storedShell.getId() ) );
+      }
    }
 
+   /**
+    * Deletes the shell with a single statement, its associations are deleted by the database, see
+    * {@link ShellRepository#deleteShellByIdExternal(String)}.
+    *
+    * @param externalShellId the idExternal of the shell
+    * @throws EntityNotFoundException if no shell with the idExternal exists
+    */
    @Transactional
    public void deleteShell( String externalShellId ) {
-      ShellMinimal shellFromDb = findShellMinimalByExternalId( externalShellId );
-      shellRepository.deleteById( shellFromDb.getId() );
+      evictShell( externalShellId, List.of() );
+      if ( shellRepository.deleteShellByIdExternal( externalShellId ) == 0 ) {
+         throw new EntityNotFoundException( String.format( "Shell for identifier %s not found", externalShellId ) );
+      }
+   }
+
+   /**
+    * Deletes the shells with a single statement, their associations are deleted by the database, see
+    * {@link ShellRepository#deleteShellsByIdExternalIn(String[])}. Reading the endpoints of all deleted shells to evict their
+    * decisions would cost more than the deletion itself, therefore all cached shells and submodel authorization decisions are evicted.
+    *
+    * @param externalShellIds the idExternals of the shells, unknown ones are ignored
+    * @return the number of deleted shells
+    */
+   @Transactional
+   public int deleteShells( Collection<String> externalShellIds ) {
+      if ( externalShellIds.isEmpty() ) {
+         return 0;
+      }
+      shellCache.evictAll();
+      submodelAuthorizationCache.evictAll();
+      return shellRepository.deleteShellsByIdExternalIn( externalShellIds.stream().distinct().toArray( String[]::new ) );
    }
 
    @Transactional( readOnly = true )
@@ -625,19 +929,33 @@ public class ShellService {
    @Transactional
    public void deleteAllIdentifiers( String externalShellId ) {
       ShellMinimal shellFromDb = findShellMinimalByExternalId( externalShellId );
+      evictShell( externalShellId, List.of() );
       shellIdentifierRepository.deleteShellIdentifiersByShellId( shellFromDb.getId(), ShellIdentifier.GLOBAL_ASSET_ID_KEY );
+      refreshVisibility( List.of( shellFromDb.getId() ) );
    }
 
    @Transactional
    public Set<ShellIdentifier> save( String externalShellId, Set<ShellIdentifier> shellIdentifiers, String externalSubjectId ) {
       Shell shellFromDb = doFindShellByExternalIdWithoutFiltering( externalShellId );
+      evictShell( externalShellId, List.of() );
 
       List<ShellIdentifier> identifiersToUpdate = shellIdentifiers.stream().map( identifier -> identifier.withShellId( shellFromDb ) )
             .collect( Collectors.toList() );
 
       mapShellIdentifier( identifiersToUpdate.stream() );
 
-      return ImmutableSet.copyOf( shellIdentifierRepository.saveAll( identifiersToUpdate ) );
+      Set<ShellIdentifier> savedIdentifiers = ImmutableSet.copyOf( shellIdentifierRepository.saveAll( identifiersToUpdate ) );
+      refreshVisibility( List.of( shellFromDb.getId() ) );
+      return savedIdentifiers;
+   }
+
+   /**
+    * Recreates the rows of SHELL_VISIBILITY of the shells from their identifiers. Must be called within the transaction which
+    * writes the identifiers, the rows are removed together with the shell by the foreign key.
+    */
+   private void refreshVisibility( Collection<UUID> shellIds ) {
+      shellRepository.deleteVisibilityByShellIdIn( shellIds );
+      shellRepository.insertVisibilityByShellIdIn( shellIds );
    }
 
    private void mapShellIdentifier( Stream<ShellIdentifier> identifiersToUpdate ) {
@@ -664,33 +982,104 @@ public class ShellService {
             } );
    }
 
+   /**
+    * Inserts the submodel into the shell, only the id of the shell is read. A duplicate idExternal is detected by the unique
+    * constraint on the idExternal of the submodels and rejected with a {@link DuplicateKeyException}.
+    */
    @Transactional
    public Submodel save( String externalShellId, Submodel submodel, String externalSubjectId ) {
-      Shell shellFromDb = doFindShellByExternalIdWithoutFiltering( externalShellId );
-      submodel.setShellId( shellFromDb );
+      final ShellMinimal shell = findShellMinimalByExternalId( externalShellId );
+      shellCache.evict( externalShellId );
+      submodelAuthorizationCache.evict( endpointAddressesOf( List.of( submodel ) ) );
+      submodel.setShellId( entityManager.getReference( Shell.class, shell.getId() ) );
 
       return saveSubmodel( submodel );
    }
 
    public Submodel saveSubmodel( Submodel submodel ) {
-      if ( submodelRepository.findByShellIdAndIdExternal( submodel.getShellId(), submodel.getIdExternal() ).isPresent() ) {
-         throw new DuplicateKeyException( DUPLICATE_SUBMODEL_EXCEPTION );
+      persistOrConflict( submodel );
+      return submodel;
+   }
+
+   /**
+    * Inserts the entity and flushes it right away, a violation of the unique constraints on the idExternal of the shells and submodels
+    * is reported as {@link DuplicateKeyException}. Unlike reading the entity upfront, the constraint also rejects concurrent inserts.
+    * The ids are assigned by the application, therefore persist is used, save would merge and select the entity first.
+    */
+   private void persistOrConflict( Object entity ) {
+      try {
+         entityManager.persist( entity );
+         entityManager.flush();
+      } catch ( PersistenceException e ) {
+         if ( isViolationOf( e, SHELL_ID_EXTERNAL_CONSTRAINT ) ) {
+            throw new DuplicateKeyException( DUPLICATE_SHELL_EXCEPTION, e );
+         }
+         if ( isViolationOf( e, SUBMODEL_ID_EXTERNAL_CONSTRAINT ) ) {
+            throw new DuplicateKeyException( DUPLICATE_SUBMODEL_EXCEPTION, e );
+         }
+         throw e;
+      }
+   }
+
+   private static boolean isViolationOf( Throwable exception, String constraintName ) {
+      for ( Throwable cause = exception; cause != null; cause = cause.getCause() ) {
+         if ( cause instanceof ConstraintViolationException violation ) {
+            return violation.getConstraintName() != null && constraintName.equalsIgnoreCase( unqualifiedConstraintName( violation.getConstraintName() ) );
+         }
       }
-      return submodelRepository.save( submodel );
+      return false;
    }
 
+   /**
+    * The extracted name depends on the database, it is lower case with PostgreSQL and the schema qualified name of the backing index with
+    * H2, e.g. {@code PUBLIC.SHELL_AK_01_INDEX_4}.
+    */
+   private static String unqualifiedConstraintName( String constraintName ) {
+      final String name = constraintName.trim();
+      return H2_CONSTRAINT_INDEX_SUFFIX.matcher( name.substring( name.lastIndexOf( '.' ) + 1 ) ).replaceFirst( "" );
+   }
+
+   /**
+    * Replaces the stored submodel having the idExternal of the provided one by merging the differences into it, see
+    * {@link ShellMerger#mergeSubmodel(Submodel, Submodel)}. Only the stored submodel and its associations are loaded, neither the
+    * shell nor its other submodels. An unchanged submodel is neither written nor evicted from the caches, the changes are flushed right
+    * away to report a violated constraint like the update of a shell.
+    *
+    * @param externalShellId   the idExternal of the shell
+    * @param submodel          the submodel as sent by the client
+    * @param externalSubjectId the tenant writing the submodel
+    * @return false if the shell has no submodel with the idExternal, nothing is written then
+    * @throws EntityNotFoundException if no shell with the idExternal exists
+    */
    @Transactional
-   public void update( String externalShellId, Submodel submodel, String externalSubjectId ) {
-      Shell shellFromDb = doFindShellByExternalIdWithoutFiltering( externalShellId );
-      shellFromDb.add( submodel );
-      submodel.setShellId( shellFromDb );
-      mapSubmodel( shellFromDb.getSubmodels() );
-      submodelRepository.save( submodel );
+   public boolean update( String externalShellId, Submodel submodel, String externalSubjectId ) {
+      final ShellMinimal shell = findShellMinimalByExternalId( externalShellId );
+      final Optional<Submodel> storedSubmodel = submodelRepository.findWithSemanticIdByShellIdAndIdExternal( shell.getId(), submodel.getIdExternal() );
+      if ( storedSubmodel.isEmpty() ) {
+         return false;
+      }
+      shellAssociationLoader.loadSubmodelAssociations( List.of( storedSubmodel.get() ) );
+      // the addresses are collected before the merge replaces the endpoints of the stored submodel
+      final Set<String> endpointAddresses = endpointAddressesOf( List.of( storedSubmodel.get(), submodel ) );
+
+      mapSubmodel( Set.of( submodel ) );
+      if ( !shellMerger.mergeSubmodel( storedSubmodel.get(), submodel ) ) {
+         return true;
+      }
+      shellCache.evict( externalShellId );
+      submodelAuthorizationCache.evict( endpointAddresses );
+      try {
+         entityManager.flush();
+      } catch ( Exception e ) {
+         throw new IllegalArgumentException( e.getMessage() );
+      }
+      return true;
    }
 
    @Transactional
    public void deleteSubmodel( String externalShellId, String externalSubModelId, String externalSubjectId ) {
       Shell shellFromDb = doFindShellByExternalIdWithoutFiltering( externalShellId );
+      evictShell( externalShellId, List.of() );
       Submodel submodelId = findSubmodelMinimalByExternalId( shellFromDb.getId(), externalSubModelId );
       shellFromDb.getSubmodels().remove( submodelId );
       submodelRepository.deleteById( submodelId.getId() );
@@ -710,44 +1099,165 @@ public class ShellService {
             .orElseThrow( () -> new EntityNotFoundException( String.format( "Submodel for identifier %s not found.", externalSubModelId ) ) );
    }
 
+   /**
+    * Evicts the shell and the decisions of the submodel authorization for the stored endpoints of the shell and the endpoints of the
+    * written submodels. Must be called within the transaction writing the shell, before the write.
+    */
+   private void evictShell( String externalShellId, Collection<Submodel> writtenSubmodels ) {
+      shellCache.evict( externalShellId );
+      final Set<String> endpointAddresses = new HashSet<>( submodelRepository.findEndpointAddressesByShellIdExternal( externalShellId ) );
+      endpointAddresses.addAll( endpointAddressesOf( writtenSubmodels ) );
+      submodelAuthorizationCache.evict( endpointAddresses );
+   }
+
+   private Set<String> endpointAddressesOf( Collection<Submodel> submodels ) {
+      return submodels.stream()
+            .filter( Objects::nonNull )
+            .flatMap( submodel -> CollectionUtils.emptyIfNull( submodel.getEndpoints() ).stream() )
+            .map( SubmodelEndpoint::getEndpointAddress )
+            .filter( Objects::nonNull )
+            .collect( Collectors.toSet() );
+   }
+
    private ShellMinimal findShellMinimalByExternalId( String externalShellId ) {
       return shellRepository.findMinimalRepresentationByIdExternal( externalShellId )
             .orElseThrow( () -> new EntityNotFoundException( String.format( "Shell for identifier %s not found", externalShellId ) ) );
    }
 
    /**
-    * Saves the provided shells. The transaction is scoped per shell. If saving of one shell fails others may succeed.
+    * Saves the provided shells. Shells whose identification already exists are rejected upfront using a single query per chunk.
+    * The remaining shells are persisted in chunks, every chunk is saved in its own transaction and its inserts are sent to the database
+    * in JDBC batches. If saving of a chunk fails, the shells of the chunk are saved one by one, therefore the failure of one shell
+    * does not prevent the others from being saved.
     *
     * @param shells the shells to save
-    * @return the result of each save operation
+    * @return the result of each save operation in the order of the provided shells
     */
    public List<BatchResultDto> saveBatch( List<Shell> shells ) {
-      return shells.stream().map( shell -> {
-         try {
-            shellRepository.save( shell );
-            return new BatchResultDto( "AssetAdministrationShell successfully created.",
-                  shell.getIdExternal(), HttpStatus.OK.value() );
-         } catch ( Exception e ) {
-            if ( e.getCause() instanceof DuplicateKeyException duplicateKeyException ) {
-               return new BatchResultDto( duplicateKeyException.getMessage(),
-                     shell.getIdExternal(),
-                     HttpStatus.BAD_REQUEST.value() );
+      return saveBatch( shells, results -> {} );
+   }
+
+   /**
+    * Saves the provided shells like {@link #saveBatch(List)} and calls the listener within every transaction before it is committed.
+    * The listener receives the results decided so far in the order of the provided shells, the results of the shells which are not
+    * decided yet are null. Its writes are committed together with the shells of the transaction, e.g. the progress of an import.
+    *
+    * @param shells       the shells to save
+    * @param beforeCommit called within every transaction writing shells before it is committed
+    * @return the result of each save operation in the order of the provided shells
+    */
+   public List<BatchResultDto> saveBatch( List<Shell> shells, Consumer<List<BatchResultDto>> beforeCommit ) {
+      final BatchResultDto[] results = new BatchResultDto[shells.size()];
+      final List<BatchResultDto> decidedResults = Collections.unmodifiableList( Arrays.asList( results ) );
+      final List<Integer> indicesToSave = new ArrayList<>();
+      final Set<String> requestedIdExternals = new HashSet<>();
+      for ( List<Integer> chunk : Lists.partition( IntStream.range( 0, shells.size() ).boxed().toList(), BATCH_INSERT_CHUNK_SIZE ) ) {
+         final Set<String> existingIdExternals = shellRepository.findIdExternalsByIdExternalIsIn(
+               chunk.stream().map( index -> shells.get( index ).getIdExternal() ).collect( Collectors.toSet() ) );
+         for ( Integer index : chunk ) {
+            final String idExternal = shells.get( index ).getIdExternal();
+            if ( existingIdExternals.contains( idExternal ) || !requestedIdExternals.add( idExternal ) ) {
+               results[index] = new BatchResultDto( DUPLICATE_SHELL_EXCEPTION, idExternal, HttpStatus.BAD_REQUEST.value() );
+            } else {
+               indicesToSave.add( index );
             }
-            return new BatchResultDto( String.format( "Failed to create AssetAdministrationShell %s",
-                  e.getMessage() ), shell.getIdExternal(), HttpStatus.BAD_REQUEST.value() );
          }
-      } ).collect( Collectors.toList() );
+      }
+
+      for ( List<Integer> chunk : Lists.partition( indicesToSave, BATCH_INSERT_CHUNK_SIZE ) ) {
+         try {
+            persistInNewTransaction( chunk.stream().map( shells::get ).toList(), () -> {
+               chunk.forEach( index -> results[index] = createdResult( shells.get( index ) ) );
+               beforeCommit.accept( decidedResults );
+            } );
+         } catch ( RuntimeException e ) {
+            log.debug( "Failed to save a chunk of {} shells, saving them one by one.", chunk.size(), e );
+            // the results were decided by the transaction which was rolled back
+            chunk.forEach( index -> results[index] = null );
+            chunk.forEach( index -> results[index] = saveSingleOfBatch( shells.get( index ), () -> {
+               results[index] = createdResult( shells.get( index ) );
+               beforeCommit.accept( decidedResults );
+            } ) );
+         }
+      }
+      return Arrays.asList( results );
    }
 
-   @Transactional( readOnly = true )
+   private BatchResultDto saveSingleOfBatch( Shell shell, Runnable beforeCommit ) {
+      try {
+         persistInNewTransaction( List.of( shell ), beforeCommit );
+         return createdResult( shell );
+      } catch ( RuntimeException e ) {
+         return new BatchResultDto( String.format( "Failed to create AssetAdministrationShell %s",
+               e.getMessage() ), shell.getIdExternal(), HttpStatus.BAD_REQUEST.value() );
+      }
+   }
+
+   private void persistInNewTransaction( List<Shell> shells, Runnable beforeCommit ) {
+      // persist instead of save, the ids are assigned by the application and save would merge and select every entity first
+      transactionTemplate.executeWithoutResult( status -> {
+         submodelAuthorizationCache.evict( endpointAddressesOf(
+               shells.stream().flatMap( shell -> CollectionUtils.emptyIfNull( shell.getSubmodels() ).stream() ).toList() ) );
+         shells.forEach( entityManager::persist );
+         entityManager.flush();
+         shellRepository.insertVisibilityByShellIdIn( shells.stream().map( Shell::getId ).toList() );
+         beforeCommit.run();
+         entityManager.flush();
+         // the entity manager bound to the request (open-in-view) outlives the transaction, without clearing it every later flush
+         // would dirty-check the shells of all previous chunks
+         entityManager.clear();
+      } );
+   }
+
+   private BatchResultDto createdResult( Shell shell ) {
+      return new BatchResultDto( "AssetAdministrationShell successfully created.", shell.getIdExternal(), HttpStatus.OK.value() );
+   }
+
+   /**
+    * Decides whether the tenant may access one of the submodels having an endpoint with the given address.
+    *
+    * @see #findAuthorizedSubmodelEndpoints(Collection, String)
+    */
    public boolean hasAccessToShellWithVisibleSubmodelEndpoint( String endpointAddress, String externalSubjectId ) {
-      List<Shell> shells = shellRepository.findAllBySubmodelEndpointAddress( endpointAddress );
-      List<Shell> filtered = shellAccessHandler.filterListOfShellProperties( shells, externalSubjectId );
-      return filtered.stream()
-            .filter( Objects::nonNull )
-            .anyMatch( shell -> shell.getSubmodels().stream()
-                  .anyMatch( submodel -> submodel.getEndpoints().stream()
-                        .anyMatch( endpoint -> Objects.equals( endpointAddress, endpoint.getEndpointAddress() ) ) ) );
+      return findAuthorizedSubmodelEndpoints( List.of( endpointAddress ), externalSubjectId ).contains( endpointAddress );
+   }
+
+   /**
+    * Returns the endpoint addresses having a submodel which the tenant may access. Only the endpoint addresses, shells and semanticIds
+    * of the matching submodels are loaded with a single query, the specificAssetIds of the shells only for the granular access control.
+    * Repeated decisions are answered by the {@link SubmodelAuthorizationCache} without starting a transaction.
+    *
+    * @param endpointAddresses the requested endpoint addresses
+    * @param externalSubjectId the tenantId of the caller
+    * @return the requested endpoint addresses the tenant may access
+    */
+   public Set<String> findAuthorizedSubmodelEndpoints( Collection<String> endpointAddresses, String externalSubjectId ) {
+      if ( endpointAddresses.size() > MAXIMUM_BATCH_AUTHORIZATION_ENDPOINTS ) {
+         throw new IllegalArgumentException(
+               "A batch authorization must not contain more than " + MAXIMUM_BATCH_AUTHORIZATION_ENDPOINTS + " submodel endpoint URLs." );
+      }
+      return submodelAuthorizationCache.filterAuthorized( endpointAddresses, externalSubjectId, undecided -> {
+         final TransactionTemplate readOnlyTransaction = new TransactionTemplate( transactionTemplate.getTransactionManager(), transactionTemplate );
+         readOnlyTransaction.setReadOnly( true );
+         return readOnlyTransaction.execute( status -> filterVisibleEndpointAddresses( undecided, externalSubjectId ) );
+      } );
+   }
+
+   private Set<String> filterVisibleEndpointAddresses( Set<String> endpointAddresses, String externalSubjectId ) {
+      final String operation = endpointAddresses.size() == 1
+            ? RegistryMetrics.OPERATION_SUBMODEL_AUTHORIZATION
+            : RegistryMetrics.OPERATION_BATCH_SUBMODEL_AUTHORIZATION;
+      final List<SubmodelEndpointMatch> submodels = registryMetrics.timeQuery( operation, () -> submodelRepository.findAllByEndpointAddressIn(
+            endpointAddresses.stream().map( SubmodelEndpoint::digestOf ).collect( Collectors.toSet() ), endpointAddresses ) );
+      if ( submodels.isEmpty() ) {
+         return Set.of();
+      }
+      final List<ShellIdentifierMinimal> shellIdentifiers = shellAccessHandler.supportsGranularAccessControl() && !owningTenantId.equals( externalSubjectId )
+            ? registryMetrics.timeQuery( operation, () -> shellIdentifierRepository.findMinimalShellIdsByExternalShellIds(
+                  submodels.stream().map( SubmodelEndpointMatch::shellId ).collect( Collectors.toSet() ) ) )
+            : List.of();
+      return registryMetrics.timeAccessFiltering( operation,
+            () -> shellAccessHandler.filterVisibleEndpointAddresses( submodels, shellIdentifiers, externalSubjectId ) );
    }
 
    private Shell doFindShellByExternalIdWithoutFiltering( String externalShellId ) {
@@ -759,12 +1269,18 @@ public class ShellService {
       return list.get( list.size() - 1 );
    }
 
-   private List<String> toKeyValueCombinations( Set<ShellIdentifier> shellIdentifiers ) {
+   private List<String> toKeyValueDigests( Set<ShellIdentifier> shellIdentifiers ) {
       return shellIdentifiers.stream()
-            .map( shellIdentifier -> shellIdentifier.getKey() + shellIdentifier.getValue() )
+            .map( shellIdentifier -> ShellIdentifier.digestOf( shellIdentifier.getKey(), shellIdentifier.getValue() ) )
             .toList();
    }
 
+   private String[] toKeyValueDigests( Map<String, Set<String>> specificAssetIdValuesByName ) {
+      return specificAssetIdValuesByName.entrySet().stream()
+            .flatMap( entry -> entry.getValue().stream().map( value -> ShellIdentifier.digestOf( entry.getKey(), value ) ) )
+            .toArray( String[]::new );
+   }
+
    private String getCursorEncoded( List<String> queryResult, List<String> assetIdList ) {
       if ( !queryResult.isEmpty() && !lastItemOf( assetIdList ).equals( lastItemOf( queryResult ) ) ) {
          return Base64.getEncoder().encodeToString( lastItemOf( assetIdList ).getBytes() );
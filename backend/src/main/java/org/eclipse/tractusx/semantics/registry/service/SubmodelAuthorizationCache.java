@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.eclipse.tractusx.semantics.RegistryProperties;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.service.AccessRuleIndex;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache of the decisions of the submodel authorization ({@code /submodel-descriptor/authorized}) grouped by the endpoint address and
+ * keyed by the tenant within the group. The data planes of a tenant check the same endpoints repeatedly, the cache answers the repeated
+ * checks without a transaction.
+ * <p>
+ * Every write of a shell has to evict the endpoint addresses of the shell before and after the write (see {@link #evict(Collection)}),
+ * the eviction is repeated after the surrounding transaction is completed. A decision made concurrently is added to the decisions of
+ * the evicted group and therefore dropped together with it. Changes of the access rules drop all decisions through the invalidation of
+ * the {@link AccessRuleIndex}. With PostgreSQL, the evictions are sent to the other instances of the registry through the
+ * {@link PostgreSqlCacheInvalidationChannel}. Changes made directly in the database are only picked up once the group expires. A
+ * maximum size of zero disables the cache. The hits and misses of the endpoint addresses are published as the cache metrics of the
+ * cache {@code submodelAuthorizations}.
+ */
+@Component
+public class SubmodelAuthorizationCache {
+
+   private final Cache<String, ConcurrentMap<String, Boolean>> cache;
+   private final ObjectProvider<PostgreSqlCacheInvalidationChannel> invalidationChannel;
+
+   public SubmodelAuthorizationCache( RegistryProperties registryProperties, ObjectProvider<PostgreSqlCacheInvalidationChannel> invalidationChannel,
+         ObjectProvider<AccessRuleIndex> accessRuleIndex, MeterRegistry meterRegistry ) {
+      this.invalidationChannel = invalidationChannel;
+      final long maximumSize = registryProperties.getSubmodelAuthorizationCacheMaximumSize();
+      final Duration expireAfterWrite = registryProperties.getSubmodelAuthorizationCacheExpireAfterWrite();
+      this.cache = maximumSize > 0 && !expireAfterWrite.isZero() && !expireAfterWrite.isNegative()
+            ? Caffeine.newBuilder().maximumSize( maximumSize ).expireAfterWrite( expireAfterWrite ).recordStats().build()
+            : null;
+      if ( cache != null ) {
+         CaffeineCacheMetrics.monitor( meterRegistry, cache, "submodelAuthorizations" );
+         accessRuleIndex.ifAvailable( index -> index.addInvalidationListener( this::evictAllLocally ) );
+      }
+   }
+
+   /**
+    * Returns the endpoints the tenant may access, the endpoints without cached decision are decided at once and their decisions are
+    * cached. The decision is made outside of any lock of the cache, concurrent requests for the same endpoint and tenant may decide both.
+    *
+    * @param endpointAddresses the addresses of the submodel endpoints
+    * @param externalSubjectId the tenant requesting the access
+    * @param decision          returns the addresses the tenant may access out of the addresses without cached decision
+    * @return the addresses of the endpoints the tenant may access
+    */
+   public Set<String> filterAuthorized( Collection<String> endpointAddresses, String externalSubjectId,
+         Function<Set<String>, Set<String>> decision ) {
+      // the decisions of a tenant are keyed by its id, a request without tenant is decided without the cache
+      if ( cache == null || externalSubjectId == null ) {
+         return decision.apply( Set.copyOf( endpointAddresses ) );
+      }
+      final Set<String> authorized = new HashSet<>();
+      // the groups are taken before deciding, a group evicted meanwhile takes the decision with it
+      final Map<String, ConcurrentMap<String, Boolean>> undecided = new HashMap<>();
+      for ( String endpointAddress : endpointAddresses ) {
+         final ConcurrentMap<String, Boolean> decisions = cache.get( endpointAddress, address -> new ConcurrentHashMap<>() );
+         final Boolean cached = decisions.get( externalSubjectId );
+         if ( cached == null ) {
+            undecided.put( endpointAddress, decisions );
+         } else if ( cached ) {
+            authorized.add( endpointAddress );
+         }
+      }
+      if ( !undecided.isEmpty() ) {
+         final Set<String> decided = decision.apply( undecided.keySet() );
+         undecided.forEach( ( endpointAddress, decisions ) -> decisions.putIfAbsent( externalSubjectId, decided.contains( endpointAddress ) ) );
+         authorized.addAll( decided );
+      }
+      return authorized;
+   }
+
+   /**
+    * Evicts the decisions of the endpoint addresses immediately and once more after the completion of the current transaction. The other
+    * instances of the registry are notified once the transaction is committed.
+    *
+    * @param endpointAddresses the addresses of the written endpoints, including the endpoints of the written shell which are kept
+    */
+   public void evict( Collection<String> endpointAddresses ) {
+      if ( cache == null || endpointAddresses.isEmpty() ) {
+         return;
+      }
+      invalidationChannel.ifAvailable( channel -> channel.publishEndpointsChanged( endpointAddresses ) );
+      evictLocally( endpointAddresses );
+   }
+
+   /**
+    * Evicts all decisions immediately and once more after the completion of the current transaction. The other instances of the registry
+    * are notified once the transaction is committed.
+    */
+   public void evictAll() {
+      if ( cache == null ) {
+         return;
+      }
+      invalidationChannel.ifAvailable( PostgreSqlCacheInvalidationChannel::publishAllEndpointsChanged );
+      cache.invalidateAll();
+      if ( TransactionSynchronizationManager.isSynchronizationActive() ) {
+         TransactionSynchronizationManager.registerSynchronization( new TransactionSynchronization() {
+            @Override
+            public void afterCompletion( int status ) {
+               cache.invalidateAll();
+            }
+         } );
+      }
+   }
+
+   /**
+    * Evicts the decisions of the endpoint addresses from the cache of this instance only.
+    *
+    * @param endpointAddresses the addresses of the changed endpoints
+    */
+   void evictLocally( Collection<String> endpointAddresses ) {
+      if ( cache == null ) {
+         return;
+      }
+      final Set<String> evicted = Set.copyOf( endpointAddresses );
+      cache.invalidateAll( evicted );
+      if ( TransactionSynchronizationManager.isSynchronizationActive() ) {
+         TransactionSynchronizationManager.registerSynchronization( new TransactionSynchronization() {
+            @Override
+            public void afterCompletion( int status ) {
+               cache.invalidateAll( evicted );
+            }
+         } );
+      }
+   }
+
+   /**
+    * Evicts all decisions from the cache of this instance.
+    */
+   void evictAllLocally() {
+      if ( cache != null ) {
+         cache.invalidateAll();
+      }
+   }
+}
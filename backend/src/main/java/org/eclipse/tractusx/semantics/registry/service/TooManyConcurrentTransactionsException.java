@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.service;
+
+import org.springframework.transaction.CannotCreateTransactionException;
+
+/**
+ * Thrown when a transaction could not be started, because the limit of concurrent transactions was reached and no transaction
+ * completed within the acquire timeout.
+ */
+public class TooManyConcurrentTransactionsException extends CannotCreateTransactionException {
+   public TooManyConcurrentTransactionsException( String message ) {
+      super( message );
+   }
+}
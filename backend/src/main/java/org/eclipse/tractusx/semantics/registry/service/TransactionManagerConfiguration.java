@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.service;
+
+import java.sql.SQLException;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.eclipse.tractusx.semantics.RegistryProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Replaces the transaction manager of Spring Boot with one limiting the concurrent transactions to the size of the connection pool.
+ * The limit matters most when the requests are executed on virtual threads ({@code spring.threads.virtual.enabled}), as the number of
+ * concurrent requests is then no longer bounded by the thread pool of Tomcat.
+ */
+@Configuration
+public class TransactionManagerConfiguration {
+
+   private static final int DEFAULT_MAXIMUM_POOL_SIZE = 10;
+
+   @Bean
+   public PlatformTransactionManager transactionManager( final EntityManagerFactory entityManagerFactory, final DataSource dataSource,
+         final ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers, final RegistryProperties registryProperties,
+         final MeterRegistry meterRegistry ) {
+      final JpaTransactionManager jpaTransactionManager = new JpaTransactionManager( entityManagerFactory );
+      transactionManagerCustomizers.ifAvailable( customizers -> customizers.customize( jpaTransactionManager ) );
+      // the wrapped transaction manager is no bean, it must detect the data source of the entity manager factory itself
+      jpaTransactionManager.afterPropertiesSet();
+
+      final int maxConcurrentTransactions = Optional.ofNullable( registryProperties.getMaxConcurrentTransactions() )
+            .orElseGet( () -> maximumPoolSizeOf( dataSource ) );
+      if ( maxConcurrentTransactions <= 0 ) {
+         return jpaTransactionManager;
+      }
+      return new ConcurrencyLimitingTransactionManager( jpaTransactionManager, maxConcurrentTransactions,
+            registryProperties.getConcurrentTransactionAcquireTimeout(), meterRegistry );
+   }
+
+   private static int maximumPoolSizeOf( final DataSource dataSource ) {
+      try {
+         if ( dataSource.isWrapperFor( HikariDataSource.class ) ) {
+            return dataSource.unwrap( HikariDataSource.class ).getMaximumPoolSize();
+         }
+      } catch ( SQLException e ) {
+         throw new IllegalStateException( "The connection pool could not be inspected.", e );
+      }
+      return DEFAULT_MAXIMUM_POOL_SIZE;
+   }
+}
@@ -22,11 +22,14 @@ package org.eclipse.tractusx.semantics.registry.utils;
 
 import static java.util.Objects.requireNonNull;
 import static org.apache.commons.lang3.StringUtils.substringBetween;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.util.Base64;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -34,6 +37,14 @@ import lombok.Data;
 @AllArgsConstructor
 @Data
 public class ShellCursor {
+   /**
+    * Sorts after every shell id, used when only the created date of the position is known (e.g. cursors of the previous
+    * format or the createdAfter filter), therefore all shells with the same created date are skipped.
+    */
+   public static final UUID MAXIMUM_SHELL_ID = new UUID( -1L, -1L );
+   private static final String KEYSET_CURSOR_VERSION = "2";
+   private static final String KEYSET_CURSOR_SEPARATOR = "|";
+
    private int recordSize;
    private final String nextPageCursor;
 
@@ -57,12 +68,17 @@ public class ShellCursor {
       return substringBetween( decodedValue, "*" );
    }
 
-   public String getEncodedCursorShell( Instant field, boolean hasNextElements ) {
-      requireNonNull( field );
+   /**
+    * Encodes the position of the last returned shell using its (createdDate, id) keyset. The cursor is opaque for the clients,
+    * the version prefix allows changing the format later while cursors of the previous format are still accepted.
+    */
+   public String getEncodedCursorShell( Instant createdDate, UUID id, boolean hasNextElements ) {
+      requireNonNull( createdDate );
+      requireNonNull( id );
       if ( !hasNextElements )
          return null;
-      var valueToEncode = "*" + field + "* - " + LocalDateTime.now();
-      return Base64.getEncoder().encodeToString( valueToEncode.getBytes() );
+      var valueToEncode = String.join( KEYSET_CURSOR_SEPARATOR, KEYSET_CURSOR_VERSION, createdDate.toString(), id.toString() );
+      return Base64.getUrlEncoder().withoutPadding().encodeToString( valueToEncode.getBytes( StandardCharsets.UTF_8 ) );
    }
 
    public String getEncodedCursorSubmodel( UUID field, boolean hasNextElements ) {
@@ -77,7 +93,51 @@ public class ShellCursor {
       if ( !hasCursorReceived() )
          return ZonedDateTime.now().minusYears( 5 ).toInstant();
 
-      return getDecodedInstant( nextPageCursor );
+      return decodeKeyset( nextPageCursor )
+            .map( keyset -> keyset[0] )
+            .map( ShellCursor::parseInstant )
+            .orElseGet( () -> getDecodedInstant( nextPageCursor ) );
+   }
+
+   /**
+    * @return the id of the last shell returned on the previous page, or {@link #MAXIMUM_SHELL_ID} if the cursor does not contain it
+    */
+   public UUID getShellSearchCursorId() {
+      if ( !hasCursorReceived() )
+         return MAXIMUM_SHELL_ID;
+
+      return decodeKeyset( nextPageCursor )
+            .map( keyset -> {
+               try {
+                  return UUID.fromString( keyset[1] );
+               } catch ( IllegalArgumentException e ) {
+                  throw new IllegalArgumentException( "Invalid cursor value" );
+               }
+            } )
+            .orElse( MAXIMUM_SHELL_ID );
+   }
+
+   private static Optional<String[]> decodeKeyset( String encodedCursorValue ) {
+      final String decodedValue;
+      try {
+         decodedValue = new String( Base64.getUrlDecoder().decode( encodedCursorValue ), StandardCharsets.UTF_8 );
+      } catch ( IllegalArgumentException e ) {
+         // cursors of the previous format use the standard Base64 alphabet
+         return Optional.empty();
+      }
+      final String[] parts = decodedValue.split( Pattern.quote( KEYSET_CURSOR_SEPARATOR ) );
+      if ( parts.length != 3 || !KEYSET_CURSOR_VERSION.equals( parts[0] ) ) {
+         return Optional.empty();
+      }
+      return Optional.of( new String[] { parts[1], parts[2] } );
+   }
+
+   private static Instant parseInstant( String value ) {
+      try {
+         return Instant.parse( value );
+      } catch ( Exception e ) {
+         throw new IllegalArgumentException( "Invalid cursor value" );
+      }
    }
 
    public UUID getSubmodelSearchCursor() {
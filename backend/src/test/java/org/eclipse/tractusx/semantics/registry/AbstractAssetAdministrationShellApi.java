@@ -50,6 +50,7 @@ public abstract class AbstractAssetAdministrationShellApi {
     protected static final String SINGLE_SHELL_BASE_PATH = "/api/v3/shell-descriptors/{aasIdentifier}";
     protected static final String LOOKUP_SHELL_BASE_PATH = "/api/v3/lookup/shells";
     protected static final String LOOKUP_SHELL_BASE_PATH_POST = "/api/v3/lookup/shellsByAssetLink";
+    protected static final String LOOKUP_SHELL_BASE_PATH_BATCH = "/api/v3/lookup/shellsByAssetLink/batch";
     protected static final String SINGLE_LOOKUP_SHELL_BASE_PATH = "/api/v3/lookup/shells/{aasIdentifier}";
     protected static final String SUB_MODEL_BASE_PATH = "/api/v3/shell-descriptors/{aasIdentifier}/submodel-descriptors";
     protected static final String SINGLE_SUB_MODEL_BASE_PATH = "/api/v3/shell-descriptors/{aasIdentifier}/submodel-descriptors/{submodelIdentifier}";
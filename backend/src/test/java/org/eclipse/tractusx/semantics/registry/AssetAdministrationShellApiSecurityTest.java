@@ -20,22 +20,32 @@
 
 package org.eclipse.tractusx.semantics.registry;
 
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.github.f4b6a3.uuid.UuidCreator;
 import org.eclipse.tractusx.semantics.aas.registry.model.*;
+import org.eclipse.tractusx.semantics.registry.service.ShellService;
 import org.junit.jupiter.api.*;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 
 import static org.eclipse.tractusx.semantics.registry.TestUtil.getEncodedValue;
 import static org.eclipse.tractusx.semantics.registry.TestUtil.serialize;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
@@ -491,6 +501,38 @@ public class AssetAdministrationShellApiSecurityTest extends AbstractAssetAdmini
                .andDo( MockMvcResultHandlers.print() )
                .andExpect( status().isNoContent() );
       }
+      @Test
+      public void testGetShellAfterDeletingSpecificAssetIdsExpectCachedShellEvicted() throws Exception {
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .get( SINGLE_SHELL_BASE_PATH, getEncodedValue( shellId ) )
+                           .header( EXTERNAL_SUBJECT_ID_HEADER, jwtTokenFactory.tenantOne().getTenantId() )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .with( jwtTokenFactory.readTwin() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isOk() )
+               .andExpect( jsonPath( "$.specificAssetIds", not( empty() ) ) );
+
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .delete( SINGLE_LOOKUP_SHELL_BASE_PATH, getEncodedValue( shellId ) )
+                           .with( jwtTokenFactory.deleteTwin() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isNoContent() );
+
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .get( SINGLE_SHELL_BASE_PATH, getEncodedValue( shellId ) )
+                           .header( EXTERNAL_SUBJECT_ID_HEADER, jwtTokenFactory.tenantOne().getTenantId() )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .with( jwtTokenFactory.readTwin() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isOk() )
+               .andExpect( jsonPath( "$.specificAssetIds", empty() ) );
+      }
    }
 
    @Nested
@@ -561,6 +603,43 @@ public class AssetAdministrationShellApiSecurityTest extends AbstractAssetAdmini
                .andDo( MockMvcResultHandlers.print() )
                .andExpect( status().isOk() );
       }
+
+      @Test
+      public void testRbacForBatchLookupShellsByAssetLink() throws Exception {
+         ObjectNode lookups = mapper.createObjectNode()
+               .set( "first", emptyArrayNode().add( specificAssetId( "key1", "value1" ) ) );
+
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .post( LOOKUP_SHELL_BASE_PATH_BATCH )
+                           .contentType( MediaType.APPLICATION_JSON )
+                           .content( toJson( lookups ) )
+                           .with( jwtTokenFactory.deleteTwin() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isForbidden() );
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .post( LOOKUP_SHELL_BASE_PATH_BATCH )
+                           .contentType( MediaType.APPLICATION_JSON )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .content( toJson( lookups ) )
+                           .with( jwtTokenFactory.addTwin() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isOk() );
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .post( LOOKUP_SHELL_BASE_PATH_BATCH )
+                           .contentType( MediaType.APPLICATION_JSON )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .content( toJson( lookups ) )
+                           .with( jwtTokenFactory.readTwin() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isOk() )
+               .andExpect( jsonPath( "$.first", hasSize( 0 ) ) );
+      }
    }
 
    @Nested
@@ -568,17 +647,17 @@ public class AssetAdministrationShellApiSecurityTest extends AbstractAssetAdmini
    class CustomAASApiTest {
 
       @Test
-      @Disabled( "Test will be ignored, because the new api does not provided batch, fetch and query. This will be come later in version 0.3.1" )
       void testRbacCreateShellInBatch() throws Exception {
-         ObjectNode shell = createShell();
-         ArrayNode batchShellBody = emptyArrayNode().add( shell );
+         AssetAdministrationShellDescriptor shell = TestUtil.createCompleteAasDescriptor();
+         shell.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+         String batchShellBody = mapper.writeValueAsString( List.of( shell ) );
 
          mvc.perform(
                      MockMvcRequestBuilders
                            .post( SHELL_BASE_PATH + "/batch" )
                            .accept( MediaType.APPLICATION_JSON )
                            .contentType( MediaType.APPLICATION_JSON )
-                           .content( toJson( batchShellBody ) )
+                           .content( batchShellBody )
                            .with( jwtTokenFactory.readTwin() )
                )
                .andDo( MockMvcResultHandlers.print() )
@@ -589,11 +668,275 @@ public class AssetAdministrationShellApiSecurityTest extends AbstractAssetAdmini
                            .post( SHELL_BASE_PATH + "/batch" )
                            .accept( MediaType.APPLICATION_JSON )
                            .contentType( MediaType.APPLICATION_JSON )
-                           .content( toJson( batchShellBody ) )
+                           .content( batchShellBody )
                            .with( jwtTokenFactory.addTwin() )
                )
                .andDo( MockMvcResultHandlers.print() )
-               .andExpect( status().isCreated() );
+               .andExpect( status().isCreated() )
+               .andExpect( jsonPath( "$[0].idExternal", equalTo( shell.getId() ) ) )
+               .andExpect( jsonPath( "$[0].status", equalTo( 200 ) ) );
+      }
+
+      @Test
+      void testRbacDeleteShellsInBatch() throws Exception {
+         AssetAdministrationShellDescriptor shell = TestUtil.createCompleteAasDescriptor();
+         shell.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+         performShellCreateRequest( mapper.writeValueAsString( shell ) );
+         AssetAdministrationShellDescriptor otherShell = TestUtil.createCompleteAasDescriptor();
+         otherShell.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+         performShellCreateRequest( mapper.writeValueAsString( otherShell ) );
+         String batchDeleteBody = mapper.writeValueAsString( List.of( shell.getId(), otherShell.getId(), UuidCreator.getTimeOrderedEpoch().toString() ) );
+
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .post( SHELL_BASE_PATH + "/batch/delete" )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .contentType( MediaType.APPLICATION_JSON )
+                           .content( batchDeleteBody )
+                           .with( jwtTokenFactory.addTwin() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isForbidden() );
+
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .post( SHELL_BASE_PATH + "/batch/delete" )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .contentType( MediaType.APPLICATION_JSON )
+                           .content( batchDeleteBody )
+                           .with( jwtTokenFactory.deleteTwin() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isOk() )
+               .andExpect( jsonPath( "$.deletedCount", equalTo( 2 ) ) );
+
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .get( SINGLE_SHELL_BASE_PATH, getEncodedValue( shell.getId() ) )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .with( jwtTokenFactory.readTwin() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isNotFound() );
+      }
+
+      @Test
+      void testRbacImportShellsExpectInvalidAndDuplicateRecordsReported() throws Exception {
+         AssetAdministrationShellDescriptor existingShell = TestUtil.createCompleteAasDescriptor();
+         existingShell.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+         performShellCreateRequest( mapper.writeValueAsString( existingShell ) );
+         AssetAdministrationShellDescriptor newShell = TestUtil.createCompleteAasDescriptor();
+         newShell.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+         ObjectWriter lineWriter = mapper.writer().without( SerializationFeature.INDENT_OUTPUT );
+         String ndjson = lineWriter.writeValueAsString( newShell ) + "\n"
+               + lineWriter.writeValueAsString( existingShell ) + "\n"
+               + "{\"idShort\":\"withoutId\"}\n";
+         MockMultipartFile file = new MockMultipartFile( "file", "shells.ndjson", "application/x-ndjson", ndjson.getBytes( StandardCharsets.UTF_8 ) );
+
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .multipart( SHELL_BASE_PATH + "/imports" )
+                           .file( file )
+                           .header( EXTERNAL_SUBJECT_ID_HEADER, jwtTokenFactory.tenantOne().getTenantId() )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .with( jwtTokenFactory.readTwin() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isForbidden() );
+
+         String importJob = mvc.perform(
+                     MockMvcRequestBuilders
+                           .multipart( SHELL_BASE_PATH + "/imports" )
+                           .file( file )
+                           .header( EXTERNAL_SUBJECT_ID_HEADER, jwtTokenFactory.tenantOne().getTenantId() )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .with( jwtTokenFactory.addTwin() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isAccepted() )
+               .andExpect( jsonPath( "$.fileName", equalTo( "shells.ndjson" ) ) )
+               .andReturn().getResponse().getContentAsString();
+         String jobId = mapper.readTree( importJob ).get( "id" ).asText();
+
+         // the descriptors are imported asynchronously
+         String jobStatus = "QUEUED";
+         for ( int attempt = 0; attempt < 300 && !"COMPLETED".equals( jobStatus ); attempt++ ) {
+            Thread.sleep( 100 );
+            String job = mvc.perform(
+                        MockMvcRequestBuilders
+                              .get( SHELL_BASE_PATH + "/imports/{jobId}", jobId )
+                              .header( EXTERNAL_SUBJECT_ID_HEADER, jwtTokenFactory.tenantOne().getTenantId() )
+                              .accept( MediaType.APPLICATION_JSON )
+                              .with( jwtTokenFactory.addTwin() )
+                  )
+                  .andExpect( status().isOk() )
+                  .andReturn().getResponse().getContentAsString();
+            jobStatus = mapper.readTree( job ).get( "status" ).asText();
+         }
+
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .get( SHELL_BASE_PATH + "/imports/{jobId}", jobId )
+                           .header( EXTERNAL_SUBJECT_ID_HEADER, jwtTokenFactory.tenantOne().getTenantId() )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .with( jwtTokenFactory.readTwin() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isForbidden() );
+
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .get( SHELL_BASE_PATH + "/imports/{jobId}", jobId )
+                           .header( EXTERNAL_SUBJECT_ID_HEADER, jwtTokenFactory.tenantOne().getTenantId() )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .with( jwtTokenFactory.addTwin() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isOk() )
+               .andExpect( jsonPath( "$.status", equalTo( "COMPLETED" ) ) )
+               .andExpect( jsonPath( "$.processedRecords", equalTo( 3 ) ) )
+               .andExpect( jsonPath( "$.createdRecords", equalTo( 1 ) ) )
+               .andExpect( jsonPath( "$.failedRecords", equalTo( 2 ) ) )
+               .andExpect( jsonPath( "$.errors[*].recordNumber", contains( 2, 3 ) ) )
+               .andExpect( jsonPath( "$.errors[*].lineNumber", contains( 2, 3 ) ) )
+               .andExpect( jsonPath( "$.errors[0].idExternal", equalTo( existingShell.getId() ) ) )
+               .andExpect( jsonPath( "$.errors[0].message", equalTo( ShellService.DUPLICATE_SHELL_EXCEPTION ) ) );
+
+         // the job isn't returned to other tenants
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .get( SHELL_BASE_PATH + "/imports/{jobId}", jobId )
+                           .header( EXTERNAL_SUBJECT_ID_HEADER, jwtTokenFactory.tenantTwo().getTenantId() )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .with( jwtTokenFactory.addTwin() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isNotFound() );
+
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .get( SINGLE_SHELL_BASE_PATH, getEncodedValue( newShell.getId() ) )
+                           .header( EXTERNAL_SUBJECT_ID_HEADER, jwtTokenFactory.tenantOne().getTenantId() )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .with( jwtTokenFactory.readTwin() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isOk() )
+               .andExpect( jsonPath( "$.id", equalTo( newShell.getId() ) ) );
+      }
+
+      @Test
+      void testGetUnknownImportJobExpectNotFound() throws Exception {
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .get( SHELL_BASE_PATH + "/imports/{jobId}", UuidCreator.getTimeOrderedEpoch().toString() )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .with( jwtTokenFactory.addTwin() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isNotFound() );
+      }
+
+      @Test
+      void testCreateShellsInBatchWithExistingAndRepeatedIdsExpectOnlyDuplicatesRejected() throws Exception {
+         AssetAdministrationShellDescriptor existingShell = TestUtil.createCompleteAasDescriptor();
+         existingShell.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+         performShellCreateRequest( mapper.writeValueAsString( existingShell ) );
+         AssetAdministrationShellDescriptor newShell = TestUtil.createCompleteAasDescriptor();
+         newShell.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .post( SHELL_BASE_PATH + "/batch" )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .contentType( MediaType.APPLICATION_JSON )
+                           .content( mapper.writeValueAsString( List.of( existingShell, newShell, newShell ) ) )
+                           .with( jwtTokenFactory.addTwin() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isCreated() )
+               .andExpect( jsonPath( "$[*].idExternal", contains( existingShell.getId(), newShell.getId(), newShell.getId() ) ) )
+               .andExpect( jsonPath( "$[*].status", contains( 400, 200, 400 ) ) )
+               .andExpect( jsonPath( "$[0].message", equalTo( ShellService.DUPLICATE_SHELL_EXCEPTION ) ) );
+
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .get( SINGLE_SHELL_BASE_PATH, getEncodedValue( newShell.getId() ) )
+                           .header( EXTERNAL_SUBJECT_ID_HEADER, jwtTokenFactory.tenantOne().getTenantId() )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .with( jwtTokenFactory.readTwin() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isOk() )
+               .andExpect( jsonPath( "$.id", equalTo( newShell.getId() ) ) );
+      }
+
+      @Test
+      void testRbacForExportShells() throws Exception {
+         AssetAdministrationShellDescriptor shell = TestUtil.createCompleteAasDescriptor();
+         shell.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+         performShellCreateRequest( mapper.writeValueAsString( shell ) );
+
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .get( SHELL_BASE_PATH + "/export" )
+                           .with( jwtTokenFactory.addTwin() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isForbidden() );
+
+         MvcResult exportResult = mvc.perform(
+                     MockMvcRequestBuilders
+                           .get( SHELL_BASE_PATH + "/export" )
+                           .with( jwtTokenFactory.readTwin() )
+               )
+               .andExpect( request().asyncStarted() )
+               .andReturn();
+
+         // the body is written asynchronously
+         String body = mvc.perform( asyncDispatch( exportResult ) )
+               .andExpect( status().isOk() )
+               .andExpect( content().contentTypeCompatibleWith( "application/x-ndjson" ) )
+               .andReturn().getResponse().getContentAsString();
+
+         // the visible shells depend on the access control implementation, every line must contain a complete descriptor
+         List<String> exportedIds = new ArrayList<>();
+         for ( String line : body.lines().toList() ) {
+            exportedIds.add( mapper.readValue( line, AssetAdministrationShellDescriptor.class ).getId() );
+         }
+         assertThat( body ).satisfiesAnyOf( content -> assertThat( content ).isEmpty(), content -> assertThat( content ).endsWith( "\n" ) );
+         assertThat( exportedIds ).doesNotContainNull().doesNotHaveDuplicates();
+      }
+
+      @Test
+      void testExportShellsExpectShellsOrderedByCreatedDateWithAssociations() throws Exception {
+         OffsetDateTime createdAfter = OffsetDateTime.now( ZoneOffset.UTC ).minusSeconds( 1 );
+         List<String> createdIds = new ArrayList<>();
+         for ( int i = 0; i < 3; i++ ) {
+            AssetAdministrationShellDescriptor shell = TestUtil.createCompleteAasDescriptor();
+            shell.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+            performShellCreateRequest( mapper.writeValueAsString( shell ) );
+            createdIds.add( shell.getId() );
+         }
+
+         List<AssetAdministrationShellDescriptor> exported = exportShells( createdAfter.toString() );
+
+         assertThat( exported ).extracting( AssetAdministrationShellDescriptor::getId ).filteredOn( createdIds::contains )
+               .containsExactlyElementsOf( createdIds );
+         assertThat( exported ).filteredOn( shell -> createdIds.contains( shell.getId() ) )
+               .allSatisfy( shell -> {
+                  assertThat( shell.getSpecificAssetIds() ).isNotEmpty();
+                  assertThat( shell.getSubmodelDescriptors() ).isNotEmpty();
+               } );
+      }
+
+      @Test
+      void testExportShellsCreatedAfterLastShellExpectNoShells() throws Exception {
+         AssetAdministrationShellDescriptor shell = TestUtil.createCompleteAasDescriptor();
+         shell.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+         performShellCreateRequest( mapper.writeValueAsString( shell ) );
+
+         assertThat( exportShells( "9999-01-01T00:00:00Z" ) ).isEmpty();
       }
 
       @Test
@@ -620,6 +963,28 @@ public class AssetAdministrationShellApiSecurityTest extends AbstractAssetAdmini
                .andExpect( status().isOk() )
                .andExpect( jsonPath( "$.items", hasSize( 0 ) ) );
       }
+
+      private List<AssetAdministrationShellDescriptor> exportShells( String createdAfter ) throws Exception {
+         MvcResult exportResult = mvc.perform(
+                     MockMvcRequestBuilders
+                           .get( SHELL_BASE_PATH + "/export" )
+                           .queryParam( "createdAfter", createdAfter )
+                           .header( EXTERNAL_SUBJECT_ID_HEADER, jwtTokenFactory.tenantOne().getTenantId() )
+                           .with( jwtTokenFactory.readTwin() )
+               )
+               .andExpect( request().asyncStarted() )
+               .andReturn();
+
+         String body = mvc.perform( asyncDispatch( exportResult ) )
+               .andExpect( status().isOk() )
+               .andReturn().getResponse().getContentAsString();
+
+         List<AssetAdministrationShellDescriptor> exported = new ArrayList<>();
+         for ( String line : body.lines().toList() ) {
+            exported.add( mapper.readValue( line, AssetAdministrationShellDescriptor.class ) );
+         }
+         return exported;
+      }
    }
 
    /**
@@ -751,6 +1116,19 @@ public class AssetAdministrationShellApiSecurityTest extends AbstractAssetAdmini
                .andExpect( jsonPath( "$.specificAssetIds[*].value", hasItems( expectedSpecificAssetIds.stream().map( SpecificAssetId::getValue ).toArray() ) ) )
                .andExpect(
                      jsonPath( "$.specificAssetIds[*].value", not( hasItems( hiddenSpecificAssetIds.stream().map( SpecificAssetId::getValue ).toArray() ) ) ) );
+
+         // the filtering for tenant two does not modify the shell cached for the owner
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .get( SINGLE_SHELL_BASE_PATH, encodedShellId )
+                           .header( EXTERNAL_SUBJECT_ID_HEADER, jwtTokenFactory.tenantOne().getTenantId() )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .with( jwtTokenFactory.allRoles() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isOk() )
+               .andExpect( jsonPath( "$.specificAssetIds[*].name", hasItems( specificAssetIds.stream().map( SpecificAssetId::getName ).toArray() ) ) )
+               .andExpect( jsonPath( "$.specificAssetIds[*].value", hasItems( specificAssetIds.stream().map( SpecificAssetId::getValue ).toArray() ) ) );
       }
 
       @Test
@@ -1087,6 +1465,102 @@ public class AssetAdministrationShellApiSecurityTest extends AbstractAssetAdmini
                .andExpect( status().isOk() )
                .andExpect( jsonPath( "$.result", hasSize( 0 ) ) );
       }
+
+      @Test
+      public void testFindExternalShellIdsByAssetLinksInBatchWithTenantBasedVisibilityExpectSuccess() throws Exception {
+         AssetAdministrationShellDescriptor firstShellPayload = TestUtil.createCompleteAasDescriptor( keyPrefix + "semanticId", "http://example.com/" );
+         firstShellPayload.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+         firstShellPayload.setSpecificAssetIds( List.of(
+               TestUtil.createSpecificAssetId( keyPrefix + "batch_1", "value_1", List.of( jwtTokenFactory.tenantTwo().getTenantId() ) ),
+               TestUtil.createSpecificAssetId( keyPrefix + "batch_common", "value_common", null ) ) );
+         performShellCreateRequest( mapper.writeValueAsString( firstShellPayload ) );
+
+         AssetAdministrationShellDescriptor secondShellPayload = TestUtil.createCompleteAasDescriptor( keyPrefix + "semanticId", "http://example.com/" );
+         secondShellPayload.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+         secondShellPayload.setSpecificAssetIds( List.of(
+               TestUtil.createSpecificAssetId( keyPrefix + "batch_2", "value_2", List.of( jwtTokenFactory.tenantThree().getTenantId() ) ),
+               TestUtil.createSpecificAssetId( keyPrefix + "batch_common", "value_common", null ) ) );
+         performShellCreateRequest( mapper.writeValueAsString( secondShellPayload ) );
+
+         ObjectNode lookups = mapper.createObjectNode();
+         lookups.set( "first", emptyArrayNode().add( specificAssetId( keyPrefix + "batch_1", "value_1" ) ) );
+         lookups.set( "second", emptyArrayNode().add( specificAssetId( keyPrefix + "batch_2", "value_2" ) ) );
+         lookups.set( "common", emptyArrayNode().add( specificAssetId( keyPrefix + "batch_common", "value_common" ) ) );
+         lookups.set( "both", emptyArrayNode()
+               .add( specificAssetId( keyPrefix + "batch_1", "value_1" ) )
+               .add( specificAssetId( keyPrefix + "batch_2", "value_2" ) ) );
+         lookups.set( "unknown", emptyArrayNode().add( specificAssetId( keyPrefix + "batch_1", "unknown" ) ) );
+
+         // the owner sees all shells
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .post( LOOKUP_SHELL_BASE_PATH_BATCH )
+                           .header( EXTERNAL_SUBJECT_ID_HEADER, jwtTokenFactory.tenantOne().getTenantId() )
+                           .contentType( MediaType.APPLICATION_JSON )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .content( toJson( lookups ) )
+                           .with( jwtTokenFactory.allRoles() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isOk() )
+               .andExpect( jsonPath( "$.first", contains( firstShellPayload.getId() ) ) )
+               .andExpect( jsonPath( "$.second", contains( secondShellPayload.getId() ) ) )
+               .andExpect( jsonPath( "$.common", contains( firstShellPayload.getId(), secondShellPayload.getId() ) ) )
+               .andExpect( jsonPath( "$.both", hasSize( 0 ) ) )
+               .andExpect( jsonPath( "$.unknown", hasSize( 0 ) ) );
+
+         // the limit is applied per lookup
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .post( LOOKUP_SHELL_BASE_PATH_BATCH )
+                           .header( EXTERNAL_SUBJECT_ID_HEADER, jwtTokenFactory.tenantOne().getTenantId() )
+                           .queryParam( "limit", "1" )
+                           .contentType( MediaType.APPLICATION_JSON )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .content( toJson( lookups ) )
+                           .with( jwtTokenFactory.allRoles() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isOk() )
+               .andExpect( jsonPath( "$.first", contains( firstShellPayload.getId() ) ) )
+               .andExpect( jsonPath( "$.second", contains( secondShellPayload.getId() ) ) )
+               .andExpect( jsonPath( "$.common", contains( firstShellPayload.getId() ) ) );
+
+         // tenantTwo only sees the first shell and only by the specificAssetId visible for tenantTwo
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .post( LOOKUP_SHELL_BASE_PATH_BATCH )
+                           .header( EXTERNAL_SUBJECT_ID_HEADER, jwtTokenFactory.tenantTwo().getTenantId() )
+                           .contentType( MediaType.APPLICATION_JSON )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .content( toJson( lookups ) )
+                           .with( jwtTokenFactory.tenantTwo().allRoles() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isOk() )
+               .andExpect( jsonPath( "$.first", contains( firstShellPayload.getId() ) ) )
+               .andExpect( jsonPath( "$.second", hasSize( 0 ) ) )
+               .andExpect( jsonPath( "$.common", hasSize( 0 ) ) )
+               .andExpect( jsonPath( "$.both", hasSize( 0 ) ) )
+               .andExpect( jsonPath( "$.unknown", hasSize( 0 ) ) );
+      }
+
+      @Test
+      public void testFindExternalShellIdsByAssetLinksInBatchWithEmptyLookupExpectBadRequest() throws Exception {
+         ObjectNode lookups = mapper.createObjectNode().set( "empty", emptyArrayNode() );
+
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .post( LOOKUP_SHELL_BASE_PATH_BATCH )
+                           .header( EXTERNAL_SUBJECT_ID_HEADER, jwtTokenFactory.tenantOne().getTenantId() )
+                           .contentType( MediaType.APPLICATION_JSON )
+                           .accept( MediaType.APPLICATION_JSON )
+                           .content( toJson( lookups ) )
+                           .with( jwtTokenFactory.allRoles() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isBadRequest() );
+      }
    }
 
    /**
@@ -31,6 +31,8 @@ import org.eclipse.tractusx.semantics.accesscontrol.sql.model.policy.AccessRuleP
 import org.eclipse.tractusx.semantics.accesscontrol.sql.model.policy.PolicyOperator;
 import org.eclipse.tractusx.semantics.accesscontrol.sql.repository.AccessControlRuleRepository;
 import org.eclipse.tractusx.semantics.accesscontrol.sql.rest.model.*;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.service.AccessRuleIndex;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -63,6 +65,18 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @EnableConfigurationProperties( RegistryProperties.class )
 public class GranularAssetAdministrationShellApiSecurityTest extends AssetAdministrationShellApiSecurityTest {
 
+   @Autowired
+   private AccessRuleIndex accessRuleIndex;
+
+   /**
+    * The test classes start separate application contexts using the same database, the rules cached by this context may have been
+    * changed by another one. Rules changed by the tests themselves invalidate the index using the JPA listener.
+    */
+   @BeforeEach
+   void invalidateAccessRuleIndex() {
+      accessRuleIndex.invalidate();
+   }
+
    @Nested
    @DisplayName( "Authentication Tests" )
    class SecurityTests extends AssetAdministrationShellApiSecurityTest.SecurityTests {
@@ -160,6 +174,11 @@ public class GranularAssetAdministrationShellApiSecurityTest extends AssetAdmini
       public void testRbacForDelete() throws Exception {
          super.testRbacForDelete();
       }
+
+      @Test
+      public void testGetShellAfterDeletingSpecificAssetIdsExpectCachedShellEvicted() throws Exception {
+         super.testGetShellAfterDeletingSpecificAssetIdsExpectCachedShellEvicted();
+      }
    }
 
    @Nested
@@ -177,11 +196,25 @@ public class GranularAssetAdministrationShellApiSecurityTest extends AssetAdmini
    class CustomAASApiTest extends AssetAdministrationShellApiSecurityTest.CustomAASApiTest {
 
       @Test
-      @Disabled( "Test will be ignored, because the new api does not provided batch, fetch and query. This will be come later in version 0.3.1" )
       public void testRbacCreateShellInBatch() throws Exception {
          super.testRbacCreateShellInBatch();
       }
 
+      @Test
+      public void testCreateShellsInBatchWithExistingAndRepeatedIdsExpectOnlyDuplicatesRejected() throws Exception {
+         super.testCreateShellsInBatchWithExistingAndRepeatedIdsExpectOnlyDuplicatesRejected();
+      }
+
+      @Test
+      public void testExportShellsExpectShellsOrderedByCreatedDateWithAssociations() throws Exception {
+         super.testExportShellsExpectShellsOrderedByCreatedDateWithAssociations();
+      }
+
+      @Test
+      public void testExportShellsCreatedAfterLastShellExpectNoShells() throws Exception {
+         super.testExportShellsCreatedAfterLastShellExpectNoShells();
+      }
+
       @Test
       @Disabled( "Don't have /fetch" )
       public void testRbacForFetchShellsByIds() throws Exception {
@@ -428,6 +461,16 @@ public class GranularAssetAdministrationShellApiSecurityTest extends AssetAdmini
       public void testFindExternalShellIdsBySpecificAssetIdsWithDefaultClosedTenantBasedVisibilityExpectSuccess() throws Exception {
          super.testFindExternalShellIdsBySpecificAssetIdsWithDefaultClosedTenantBasedVisibilityExpectSuccess();
       }
+
+      @Test
+      public void testFindExternalShellIdsByAssetLinksInBatchWithTenantBasedVisibilityExpectSuccess() throws Exception {
+         accessControlRuleRepository.saveAllAndFlush( List.of(
+               TestUtil.createAccessRule( jwtTokenFactory.tenantTwo().getTenantId(),
+                     Map.of( keyPrefix + "batch_1", "value_1" ),
+                     Set.of( keyPrefix + "batch_1" ), Set.of( keyPrefix + "semanticId" ) )
+         ) );
+         super.testFindExternalShellIdsByAssetLinksInBatchWithTenantBasedVisibilityExpectSuccess();
+      }
    }
 
    @Nested
@@ -506,6 +549,7 @@ public class GranularAssetAdministrationShellApiSecurityTest extends AssetAdmini
       private static final String HTTP_EDC_DATA_PLANE_URL_REQUEST = "{\"submodelEndpointUrl\": \"http://edc-data-plane/url\"}";
       private static final String EXISTING_URL = "http://endpoint-address";
       private static final String EXISTING_URL_REQUEST_FORMAT = "{\"submodelEndpointUrl\": \"%s\"}";
+      private static final String BATCH_REQUEST_FORMAT = "{\"submodelEndpointUrls\": [\"%s\"]}";
 
       @Autowired
       private AccessControlRuleRepository accessControlRuleRepository;
@@ -679,6 +723,54 @@ public class GranularAssetAdministrationShellApiSecurityTest extends AssetAdmini
                .andExpect( status().isForbidden() );
       }
 
+      @Test
+      void testPostSubmodelDescriptorsAuthorizedInBatchWithoutAppropriateRoleExpectForbidden() throws Exception {
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .post( "/api/v3/submodel-descriptor/authorized/batch" )
+                           .contentType( MediaType.APPLICATION_JSON )
+                           .with( jwtTokenFactory.readTwin() )
+                           .content( String.format( BATCH_REQUEST_FORMAT, "http://edc-data-plane/url" ) )
+                           .header( EXTERNAL_SUBJECT_ID_HEADER, jwtTokenFactory.tenantOne().getTenantId() )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isForbidden() );
+      }
+
+      @Test
+      void testPostSubmodelDescriptorsAuthorizedInBatchWithMatchingAndUnknownEndpointsExpectOnlyMatchingAuthorized() throws Exception {
+         String randomId = UuidCreator.getTimeOrderedEpoch().toString();
+         AssetAdministrationShellDescriptor shellPayload = TestUtil
+               .createCompleteAasDescriptor( randomId + "semanticIdExample", EXISTING_URL + randomId );
+         shellPayload.setId( randomId );
+
+         String tenantTwoBpn = jwtTokenFactory.tenantTwo().getTenantId();
+         SpecificAssetId asset = TestUtil.createSpecificAssetId( randomId + "tenantTwo", randomId + "value_2", List.of( tenantTwoBpn ) );
+         shellPayload.setSpecificAssetIds( List.of( asset ) );
+         performShellCreateRequest( mapper.writeValueAsString( shellPayload ) );
+
+         final var accessRule = TestUtil.createAccessRule(
+               tenantTwoBpn,
+               Map.of( randomId + "tenantTwo", randomId + "value_2" ),
+               Set.of( randomId + "tenantTwo" ),
+               Set.of( randomId + "semanticIdExample" )
+         );
+         accessControlRuleRepository.saveAndFlush( accessRule );
+
+         mvc.perform(
+                     MockMvcRequestBuilders
+                           .post( "/api/v3/submodel-descriptor/authorized/batch" )
+                           .contentType( MediaType.APPLICATION_JSON )
+                           .with( jwtTokenFactory.tenantTwo().submodelAccessControl() )
+                           .content( String.format( BATCH_REQUEST_FORMAT, EXISTING_URL + randomId + "\", \"" + EXISTING_URL + randomId + "-unknown" ) )
+                           .header( EXTERNAL_SUBJECT_ID_HEADER, tenantTwoBpn )
+               )
+               .andDo( MockMvcResultHandlers.print() )
+               .andExpect( status().isOk() )
+               .andExpect( jsonPath( "$.authorizedSubmodelEndpointUrls.length()" ).value( 1 ) )
+               .andExpect( jsonPath( "$.authorizedSubmodelEndpointUrls[0]" ).value( EXISTING_URL + randomId ) );
+      }
+
       private String getRequestForUrl( String url ) {
          return String.format( EXISTING_URL_REQUEST_FORMAT, url );
       }
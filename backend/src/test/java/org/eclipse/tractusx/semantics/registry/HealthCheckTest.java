@@ -20,13 +20,17 @@
 
 package org.eclipse.tractusx.semantics.registry;
 
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.web.servlet.MockMvc;
@@ -34,6 +38,8 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 @SpringBootTest
 @AutoConfigureMockMvc
+// the metrics are only exported in tests requesting it
+@AutoConfigureObservability( tracing = false )
 public class HealthCheckTest {
     private static final String HEALTH_ENDPOINT = "/actuator/health";
     private static final String LIVENESS_ENDPOINT = HEALTH_ENDPOINT + "/liveness";
@@ -69,4 +75,15 @@ public class HealthCheckTest {
                 .andExpect(jsonPath("$.git.commit.id", notNullValue()))
                 .andExpect(status().is2xxSuccessful());
     }
+
+    @Test
+    public void testPrometheusEndpointExpectRegistryMetricsPublished() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+                .andExpect(status().is2xxSuccessful())
+                .andExpect(content().string(allOf(
+                        containsString("registry_access_rules_evaluated_count{evaluation=\"lookup\""),
+                        containsString("cache_gets_total{cache=\"shells\""),
+                        containsString("hibernate_query_executions_total"),
+                        containsString("hikaricp_connections_active"))));
+    }
 }
@@ -192,11 +192,11 @@ public class ShellMapperTest {
               ReferenceType.EXTERNALREFERENCE,
               Set.of(shellIdentifierSupplemSemanticReferenceKey),
               null );
-        ShellIdentifier shellIdentifier1 = new ShellIdentifier( UuidCreator.getTimeOrderedEpoch(), "key1", "value1", externalSubjectReference, null, identifierSemanticReference , Set.of(shellIdentifierSupplemSemanticReference));
+        ShellIdentifier shellIdentifier1 = new ShellIdentifier( UuidCreator.getTimeOrderedEpoch(), "key1", "value1", externalSubjectReference, null, identifierSemanticReference , Set.of(shellIdentifierSupplemSemanticReference), null);
         ShellIdentifier shellIdentifier2 = new ShellIdentifier( UuidCreator.getTimeOrderedEpoch(), "key1", "value2", externalSubjectReference,
-              null, identifierSemanticReference , Set.of(shellIdentifierSupplemSemanticReference));
+              null, identifierSemanticReference , Set.of(shellIdentifierSupplemSemanticReference), null);
 
-        ShellIdentifier shellIdentifier3 = new ShellIdentifier( UuidCreator.getTimeOrderedEpoch(), ShellIdentifier.GLOBAL_ASSET_ID_KEY, "exampleGlobalAssetId", null, null, identifierSemanticReference, Set.of(shellIdentifierSupplemSemanticReference));
+        ShellIdentifier shellIdentifier3 = new ShellIdentifier( UuidCreator.getTimeOrderedEpoch(), ShellIdentifier.GLOBAL_ASSET_ID_KEY, "exampleGlobalAssetId", null, null, identifierSemanticReference, Set.of(shellIdentifierSupplemSemanticReference), null);
 
         Set<ShellIdentifier> shellIdentifiers = Set.of(shellIdentifier1, shellIdentifier2, shellIdentifier3);
 
@@ -225,7 +225,7 @@ public class ShellMapperTest {
                         "endpointAddressExample", "endpointProtocolExample",
                         "endpointProtocolVersionExample", "subProtocolExample"
                         , "subProtocolBodyExample", "subProtocolEncodingExample",
-                      Set.of(submodelSecurityAttribute),null
+                      Set.of(submodelSecurityAttribute),null, null
                 )), null, Set.of(submodelDisplayName), Set.of(submodelSupplemSemanticIdReference) );
 
         ShellDisplayName shellDisplayName = new ShellDisplayName( UuidCreator.getTimeOrderedEpoch(), "de", "Display name",null );
@@ -0,0 +1,343 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.eclipse.tractusx.semantics.RegistryProperties;
+import org.eclipse.tractusx.semantics.aas.registry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.tractusx.semantics.registry.TestUtil;
+import org.eclipse.tractusx.semantics.registry.mapper.ShellMapper;
+import org.eclipse.tractusx.semantics.registry.model.Shell;
+import org.eclipse.tractusx.semantics.registry.model.ShellIdentifier;
+import org.eclipse.tractusx.semantics.registry.model.projection.ShellLookupMatch;
+import org.eclipse.tractusx.semantics.registry.service.ShellService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Verifies the lookup queries of the active {@link ShellIdentifierRepository} against a reference implementation of the lookup
+ * semantics. The tests use the configured database, running them with a PostgreSQL datasource verifies the
+ * {@link PostgreSqlShellIdentifierRepository}, otherwise the {@link ShellIdentifierRepositoryImpl} is verified. Both must return the
+ * same results for the same data.
+ */
+@SpringBootTest
+class ShellIdentifierRepositoryLookupTest {
+
+   private static final Instant MINIMUM_CUTOFF_DATE = OffsetDateTime.of( 1800, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC ).toInstant();
+   private static final String MINIMUM_CURSOR = "00000000-0000-0000-0000-000000000000";
+   private static final String TENANT_TWO = "TENANT_TWO";
+   private static final String TENANT_THREE = "TENANT_THREE";
+   private static final String MANUFACTURER_PART_ID = "manufacturerPartId";
+
+   @Autowired
+   private ShellIdentifierRepository shellIdentifierRepository;
+   @Autowired
+   private ShellRepository shellRepository;
+   @Autowired
+   private ShellService shellService;
+   @Autowired
+   private ShellMapper shellMapper;
+   @Autowired
+   private RegistryProperties registryProperties;
+   @Autowired
+   private JdbcTemplate jdbcTemplate;
+   @Autowired
+   private TransactionTemplate transactionTemplate;
+   @Autowired
+   private EntityManager entityManager;
+
+   private String keyPrefix;
+   private final List<FixtureShell> fixture = new ArrayList<>();
+   private final Map<String, List<Pair>> queries = new LinkedHashMap<>();
+
+   @BeforeEach
+   void setUp() {
+      keyPrefix = UuidCreator.getTimeOrderedEpoch().toString();
+      final String wildcard = registryProperties.getExternalSubjectIdWildcardPrefix();
+      fixture.clear();
+      queries.clear();
+
+      // shells are created in this order, the lookups return them ordered by their creation date
+      createShell( "global-1",
+            new Identifier( keyPrefix + "a", "1", List.of( TENANT_TWO ) ),
+            new Identifier( keyPrefix + "b", "2", List.of( wildcard ) ),
+            new Identifier( MANUFACTURER_PART_ID, keyPrefix + "mpn", List.of( wildcard ) ) );
+      createShell( "global-2",
+            new Identifier( keyPrefix + "a", "1", List.of() ),
+            new Identifier( keyPrefix + "c", "3", List.of( TENANT_TWO, TENANT_THREE ) ) );
+      createShell( "global-3",
+            new Identifier( keyPrefix + "a", "1", List.of( TENANT_TWO ) ),
+            new Identifier( keyPrefix + "c", "3", List.of( TENANT_THREE ) ),
+            new Identifier( MANUFACTURER_PART_ID, keyPrefix + "mpn", List.of( TENANT_THREE ) ) );
+      // the concatenations of key and value are equal to the ones of the first shell
+      createShell( "global-4",
+            new Identifier( keyPrefix + "a1", "", List.of( TENANT_TWO ) ),
+            new Identifier( keyPrefix, "b2", List.of( TENANT_TWO ) ) );
+
+      queries.put( "a", List.of( new Pair( keyPrefix + "a", "1" ) ) );
+      queries.put( "b", List.of( new Pair( keyPrefix + "b", "2" ) ) );
+      queries.put( "ab", List.of( new Pair( keyPrefix + "a", "1" ), new Pair( keyPrefix + "b", "2" ) ) );
+      queries.put( "ac", List.of( new Pair( keyPrefix + "a", "1" ), new Pair( keyPrefix + "c", "3" ) ) );
+      queries.put( "mpn", List.of( new Pair( MANUFACTURER_PART_ID, keyPrefix + "mpn" ) ) );
+      queries.put( "global", List.of( new Pair( ShellIdentifier.GLOBAL_ASSET_ID_KEY, keyPrefix + "global-2" ) ) );
+      queries.put( "global-c", List.of( new Pair( ShellIdentifier.GLOBAL_ASSET_ID_KEY, keyPrefix + "global-2" ),
+            new Pair( keyPrefix + "c", "3" ) ) );
+      queries.put( "concatenated", List.of( new Pair( keyPrefix + "a", "1" ), new Pair( keyPrefix + "b2", "" ) ) );
+      queries.put( "unknown", List.of( new Pair( keyPrefix + "a", "unknown" ) ) );
+   }
+
+   @Test
+   void testExactMatchLookupExpectSameResultsAsReference() {
+      for ( String tenantId : tenants() ) {
+         queries.forEach( ( queryId, pairs ) -> assertThat( findByExactMatch( pairs, tenantId, MINIMUM_CURSOR, 100 ) )
+               .as( "query %s of %s", queryId, tenantId )
+               .containsExactlyElementsOf( expectedShellIds( pairs, tenantId ) ) );
+      }
+   }
+
+   @Test
+   void testExactMatchLookupPagedExpectSameResultsAsUnpaged() {
+      for ( String tenantId : tenants() ) {
+         List<Pair> pairs = queries.get( "a" );
+         List<String> paged = new ArrayList<>();
+         String cursor = MINIMUM_CURSOR;
+         Instant cutoffDate = MINIMUM_CUTOFF_DATE;
+         List<String> page;
+         // bounded to fail instead of looping if the cursor does not advance
+         while ( paged.size() <= fixture.size() && !( page = findByExactMatch( pairs, tenantId, cutoffDate, cursor, 1 ) ).isEmpty() ) {
+            paged.addAll( page );
+            final String lastShellId = page.get( 0 );
+            cursor = lastShellId;
+            cutoffDate = shellRepository.getCreatedDateByIdExternal( lastShellId ).orElseThrow();
+         }
+         assertThat( paged ).as( "paging of %s", tenantId ).containsExactlyElementsOf( expectedShellIds( pairs, tenantId ) );
+      }
+   }
+
+   @Test
+   void testBatchLookupExpectSameResultsAsExactMatchLookups() {
+      for ( String tenantId : tenants() ) {
+         Map<String, List<String>> expected = new LinkedHashMap<>();
+         queries.forEach( ( queryId, pairs ) -> {
+            List<String> shellIds = findByExactMatch( pairs, tenantId, MINIMUM_CURSOR, 100 );
+            if ( !shellIds.isEmpty() ) {
+               expected.put( queryId, shellIds );
+            }
+         } );
+
+         assertThat( findInBatch( tenantId, 100 ) ).as( "batch of %s", tenantId ).isEqualTo( expected );
+      }
+   }
+
+   @Test
+   void testBatchLookupWithLimitExpectFirstShellsOfEveryQuery() {
+      Map<String, List<String>> expected = new LinkedHashMap<>();
+      queries.forEach( ( queryId, pairs ) -> {
+         List<String> shellIds = findByExactMatch( pairs, owningTenantId(), MINIMUM_CURSOR, 1 );
+         if ( !shellIds.isEmpty() ) {
+            expected.put( queryId, shellIds );
+         }
+      } );
+
+      assertThat( findInBatch( owningTenantId(), 1 ) ).isEqualTo( expected );
+   }
+
+   @Test
+   void testCandidateLookupWithMoreCandidatesThanBindParametersExpectCandidateFilterApplied() {
+      List<String> keyValueDigests = List.of( ShellIdentifier.digestOf( keyPrefix + "a", "1" ) );
+      // the candidates are bound as one array, the number of candidates exceeds the bind parameter limits of the JDBC drivers
+      List<String> candidates = new ArrayList<>( IntStream.range( 0, 40000 )
+            .mapToObj( i -> ShellIdentifier.digestOf( keyPrefix + "unknown", String.valueOf( i ) ) )
+            .toList() );
+      candidates.add( ShellIdentifier.digestOf( keyPrefix + "c", "3" ) );
+
+      List<UUID> shellIds = shellIdentifierRepository.findAPageOfCandidateShellIdsBySpecificAssetIdsGranularAccessControl( keyValueDigests,
+            keyValueDigests.size(), candidates.toArray( String[]::new ), MINIMUM_CUTOFF_DATE, MINIMUM_CURSOR, PageRequest.ofSize( 100 ) );
+
+      assertThat( shellIds ).map( shellId -> shellRepository.findById( shellId ).orElseThrow().getIdExternal() )
+            .containsExactly( fixture.get( 1 ).id(), fixture.get( 2 ).id() );
+   }
+
+   @Test
+   void testBatchLookupWithCandidatesExpectOnlyShellsHavingACandidate() {
+      // only the second and third shell have the specificAssetId c:3
+      List<String> shellsWithCandidate = List.of( fixture.get( 1 ).id(), fixture.get( 2 ).id() );
+      Map<String, List<String>> expected = new LinkedHashMap<>();
+      findInBatch( owningTenantId(), 100 ).forEach( ( queryId, shellIds ) -> {
+         List<String> candidates = shellIds.stream().filter( shellsWithCandidate::contains ).toList();
+         if ( !candidates.isEmpty() ) {
+            expected.put( queryId, candidates );
+         }
+      } );
+
+      assertThat( findInBatch( owningTenantId(), 100, new String[] { ShellIdentifier.digestOf( keyPrefix + "c", "3" ) } ) )
+            .isEqualTo( expected )
+            .containsKey( "a" );
+   }
+
+   @Test
+   void testExactMatchLookupWithKeyAndValueSplitDifferentlyExpectOnlyTheExactPair() {
+      // the concatenation of key and value is equal for both pairs
+      assertThat( findByExactMatch( List.of( new Pair( keyPrefix + "a1", "" ) ), owningTenantId(), MINIMUM_CURSOR, 100 ) )
+            .containsExactly( fixture.get( 3 ).id() );
+      assertThat( findByExactMatch( List.of( new Pair( keyPrefix + "a", "1" ) ), owningTenantId(), MINIMUM_CURSOR, 100 ) )
+            .containsExactly( fixture.get( 0 ).id(), fixture.get( 1 ).id(), fixture.get( 2 ).id() );
+   }
+
+   @Test
+   void testSaveShellExpectKeyValueDigestStoredForEveryIdentifier() {
+      for ( FixtureShell shell : fixture ) {
+         List<String> storedDigests = jdbcTemplate.queryForList(
+               "SELECT si.key_value_digest FROM shell_identifier si JOIN shell s ON s.id = si.fk_shell_id WHERE s.id_external = ?",
+               String.class, shell.id() );
+
+         assertThat( storedDigests ).as( "digests of %s", shell.id() ).containsExactlyInAnyOrderElementsOf( shell.identifiers().stream()
+               .map( identifier -> ShellIdentifier.digestOf( identifier.key(), identifier.value() ) )
+               .toList() );
+      }
+   }
+
+   @Test
+   void testUpdateIdentifierValueExpectKeyValueDigestUpdated() {
+      transactionTemplate.executeWithoutResult( status -> entityManager
+            .createQuery( "SELECT si FROM ShellIdentifier si WHERE si.shellId.idExternal = :id AND si.key = :key", ShellIdentifier.class )
+            .setParameter( "id", fixture.get( 3 ).id() )
+            .setParameter( "key", keyPrefix )
+            .getSingleResult()
+            .setValue( "changed" ) );
+
+      assertThat( findByExactMatch( List.of( new Pair( keyPrefix, "changed" ) ), owningTenantId(), MINIMUM_CURSOR, 100 ) )
+            .containsExactly( fixture.get( 3 ).id() );
+      assertThat( findByExactMatch( List.of( new Pair( keyPrefix, "b2" ) ), owningTenantId(), MINIMUM_CURSOR, 100 ) ).isEmpty();
+   }
+
+   private List<String> tenants() {
+      return List.of( owningTenantId(), TENANT_TWO, TENANT_THREE );
+   }
+
+   private String owningTenantId() {
+      return registryProperties.getIdm().getOwningTenantId();
+   }
+
+   private List<String> findByExactMatch( List<Pair> pairs, String tenantId, String cursor, int pageSize ) {
+      return findByExactMatch( pairs, tenantId, MINIMUM_CUTOFF_DATE, cursor, pageSize );
+   }
+
+   private List<String> findByExactMatch( List<Pair> pairs, String tenantId, Instant cutoffDate, String cursor, int pageSize ) {
+      return shellIdentifierRepository.findExternalShellIdsByIdentifiersByExactMatch(
+            pairs.stream().map( Pair::key ).toArray( String[]::new ),
+            pairs.stream().map( Pair::value ).toArray( String[]::new ),
+            pairs.size(), tenantId, registryProperties.getExternalSubjectIdWildcardPrefix(),
+            registryProperties.getExternalSubjectIdWildcardAllowedTypes(), owningTenantId(), ShellIdentifier.GLOBAL_ASSET_ID_KEY,
+            cutoffDate, cursor, pageSize );
+   }
+
+   private Map<String, List<String>> findInBatch( String tenantId, int limitPerQuery ) {
+      return findInBatch( tenantId, limitPerQuery, null );
+   }
+
+   private Map<String, List<String>> findInBatch( String tenantId, int limitPerQuery, String[] candidateKeyValueDigests ) {
+      List<String> queryIds = new ArrayList<>();
+      List<Pair> pairs = new ArrayList<>();
+      queries.forEach( ( queryId, queryPairs ) -> queryPairs.forEach( pair -> {
+         queryIds.add( queryId );
+         pairs.add( pair );
+      } ) );
+      List<ShellLookupMatch> matches = shellIdentifierRepository.findExternalShellIdsByIdentifiersByExactMatchInBatch(
+            queryIds.toArray( String[]::new ),
+            pairs.stream().map( Pair::key ).toArray( String[]::new ),
+            pairs.stream().map( Pair::value ).toArray( String[]::new ),
+            tenantId, registryProperties.getExternalSubjectIdWildcardPrefix(), registryProperties.getExternalSubjectIdWildcardAllowedTypes(),
+            owningTenantId(), ShellIdentifier.GLOBAL_ASSET_ID_KEY, MINIMUM_CUTOFF_DATE, limitPerQuery, candidateKeyValueDigests );
+
+      // ordered by the queries of the request to compare with the expectation
+      Map<String, List<String>> matchesByQueryId = new LinkedHashMap<>();
+      queries.keySet().forEach( queryId -> matches.stream().filter( match -> match.queryId().equals( queryId ) )
+            .forEach( match -> matchesByQueryId.computeIfAbsent( queryId, key -> new ArrayList<>() ).add( match.shellId() ) ) );
+      return matchesByQueryId;
+   }
+
+   /**
+    * The lookup semantics: a shell matches if it has every pair of the query and every matching identifier is visible to the
+    * tenant. The owner sees every identifier, the globalAssetId is visible to everyone, other identifiers are visible to the tenants
+    * listed as their externalSubjectIds and to everyone if they are public and of an allowed type.
+    */
+   private List<String> expectedShellIds( List<Pair> pairs, String tenantId ) {
+      final String wildcard = registryProperties.getExternalSubjectIdWildcardPrefix();
+      final List<String> allowedTypes = registryProperties.getExternalSubjectIdWildcardAllowedTypes();
+      return fixture.stream()
+            .filter( shell -> pairs.stream().allMatch( pair -> shell.identifiers().stream()
+                  .filter( identifier -> identifier.key().equals( pair.key() ) && identifier.value().equals( pair.value() ) )
+                  .anyMatch( identifier -> tenantId.equals( owningTenantId() )
+                        || identifier.key().equals( ShellIdentifier.GLOBAL_ASSET_ID_KEY )
+                        || identifier.tenants().contains( tenantId )
+                        || identifier.tenants().contains( wildcard ) && allowedTypes.contains( identifier.key() ) ) ) )
+            .map( FixtureShell::id )
+            .toList();
+   }
+
+   private void createShell( String globalAssetIdSuffix, Identifier... identifiers ) {
+      AssetAdministrationShellDescriptor descriptor = TestUtil.createCompleteAasDescriptor();
+      descriptor.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+      descriptor.setGlobalAssetId( keyPrefix + globalAssetIdSuffix );
+      descriptor.setSpecificAssetIds( Arrays.stream( identifiers )
+            .map( identifier -> TestUtil.createSpecificAssetId( identifier.key(), identifier.value(), identifier.tenants() ) )
+            .toList() );
+      Shell shell = shellMapper.fromApiDto( descriptor );
+      shellService.mapShellCollection( shell );
+      shellService.mapSubmodel( shell.getSubmodels() );
+      Shell saved = shellService.save( shell );
+
+      List<Identifier> all = new ArrayList<>( List.of( identifiers ) );
+      all.add( new Identifier( ShellIdentifier.GLOBAL_ASSET_ID_KEY, keyPrefix + globalAssetIdSuffix, List.of() ) );
+      fixture.add( new FixtureShell( saved.getIdExternal(), all ) );
+   }
+
+   private record Pair(String key, String value) {
+   }
+
+   private record Identifier(String key, String value, List<String> tenants) {
+   }
+
+   private record FixtureShell(String id, List<Identifier> identifiers) {
+   }
+}
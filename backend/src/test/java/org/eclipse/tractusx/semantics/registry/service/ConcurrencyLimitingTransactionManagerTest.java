@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConcurrencyLimitingTransactionManagerTest {
+
+   private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+   private PlatformTransactionManager delegate;
+   private ConcurrencyLimitingTransactionManager transactionManager;
+
+   @BeforeEach
+   void setUp() {
+      delegate = mock( PlatformTransactionManager.class );
+      when( delegate.getTransaction( any() ) ).thenAnswer( invocation -> new SimpleTransactionStatus() );
+      transactionManager = new ConcurrencyLimitingTransactionManager( delegate, 1, Duration.ofMillis( 10 ), meterRegistry );
+   }
+
+   @AfterEach
+   void tearDown() {
+      TransactionSynchronizationManager.clear();
+   }
+
+   @Test
+   void testGetTransactionWhenLimitReachedExpectRejected() {
+      transactionManager.getTransaction( new DefaultTransactionDefinition() );
+
+      assertThatThrownBy( () -> transactionManager.getTransaction( new DefaultTransactionDefinition() ) )
+            .isInstanceOf( TooManyConcurrentTransactionsException.class );
+      assertThat( meterRegistry.get( ConcurrencyLimitingTransactionManager.REJECTED_TRANSACTIONS_METRIC ).counter().count() ).isEqualTo( 1 );
+      assertThat( meterRegistry.get( ConcurrencyLimitingTransactionManager.ACTIVE_TRANSACTIONS_METRIC ).gauge().value() ).isEqualTo( 1 );
+   }
+
+   @Test
+   void testGetTransactionWhenPreviousCommittedExpectStarted() {
+      transactionManager.commit( transactionManager.getTransaction( new DefaultTransactionDefinition() ) );
+
+      assertThat( transactionManager.getTransaction( new DefaultTransactionDefinition() ) ).isNotNull();
+   }
+
+   @Test
+   void testGetTransactionWhenPreviousRolledBackExpectStarted() {
+      transactionManager.rollback( transactionManager.getTransaction( new DefaultTransactionDefinition() ) );
+
+      assertThat( transactionManager.getTransaction( new DefaultTransactionDefinition() ) ).isNotNull();
+   }
+
+   @Test
+   void testGetTransactionWhenDelegateFailsExpectPermitReleased() {
+      when( delegate.getTransaction( any() ) ).thenThrow( new CannotCreateTransactionException( "no connection" ) )
+            .thenAnswer( invocation -> new SimpleTransactionStatus() );
+
+      assertThatThrownBy( () -> transactionManager.getTransaction( new DefaultTransactionDefinition() ) )
+            .isInstanceOf( CannotCreateTransactionException.class );
+      assertThat( transactionManager.getTransaction( new DefaultTransactionDefinition() ) ).isNotNull();
+   }
+
+   @Test
+   void testGetTransactionWhenTransactionActiveExpectCoveredByOutermostTransaction() {
+      final TransactionStatus outermost = transactionManager.getTransaction( new DefaultTransactionDefinition() );
+      TransactionSynchronizationManager.setActualTransactionActive( true );
+
+      final TransactionStatus inner = transactionManager.getTransaction(
+            new DefaultTransactionDefinition( TransactionDefinition.PROPAGATION_REQUIRES_NEW ) );
+      transactionManager.commit( inner );
+
+      assertThat( meterRegistry.get( ConcurrencyLimitingTransactionManager.ACTIVE_TRANSACTIONS_METRIC ).gauge().value() ).isEqualTo( 1 );
+      TransactionSynchronizationManager.setActualTransactionActive( false );
+      transactionManager.commit( outermost );
+      assertThat( meterRegistry.get( ConcurrencyLimitingTransactionManager.ACTIVE_TRANSACTIONS_METRIC ).gauge().value() ).isZero();
+   }
+
+   @Test
+   void testGetTransactionWhenNotTransactionalExpectNoPermitRequired() {
+      transactionManager.getTransaction( new DefaultTransactionDefinition() );
+
+      assertThat( transactionManager.getTransaction( new DefaultTransactionDefinition( TransactionDefinition.PROPAGATION_SUPPORTS ) ) )
+            .isNotNull();
+   }
+}
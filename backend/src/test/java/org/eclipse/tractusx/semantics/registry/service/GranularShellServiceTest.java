@@ -20,7 +20,12 @@
 
 package org.eclipse.tractusx.semantics.registry.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.eclipse.tractusx.semantics.RegistryProperties;
 import org.eclipse.tractusx.semantics.accesscontrol.sql.model.AccessRule;
@@ -28,6 +33,11 @@ import org.eclipse.tractusx.semantics.accesscontrol.sql.model.AccessRulePolicy;
 import org.eclipse.tractusx.semantics.accesscontrol.sql.model.policy.AccessRulePolicyValue;
 import org.eclipse.tractusx.semantics.accesscontrol.sql.model.policy.PolicyOperator;
 import org.eclipse.tractusx.semantics.accesscontrol.sql.repository.AccessControlRuleRepository;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.service.AccessRuleIndex;
+import org.eclipse.tractusx.semantics.registry.dto.ShellCollectionDto;
+import org.eclipse.tractusx.semantics.registry.model.Shell;
+import org.eclipse.tractusx.semantics.registry.model.ShellIdentifier;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -35,6 +45,8 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.github.f4b6a3.uuid.UuidCreator;
+
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles( profiles = { "granular", "test" } )
@@ -42,9 +54,21 @@ import org.springframework.test.context.ActiveProfiles;
 class GranularShellServiceTest extends LegacyShellServiceTest {
 
    private static final String TENANT_ONE = "TENANT_ONE";
+   private static final String TENANT_WITHOUT_RULES = "TENANT_WITHOUT_RULES";
 
    @Autowired
    private AccessControlRuleRepository accessControlRuleRepository;
+   @Autowired
+   private AccessRuleIndex accessRuleIndex;
+
+   /**
+    * The test classes start separate application contexts using the same database, the rules cached by this context may have been
+    * changed by another one. Rules changed by the tests themselves invalidate the index using the JPA listener.
+    */
+   @BeforeEach
+   void invalidateAccessRuleIndex() {
+      accessRuleIndex.invalidate();
+   }
 
    @Test
    void testsLookupWithNoMatchingRecordsExpectEmptyListAndNoCursor() {
@@ -111,7 +135,73 @@ class GranularShellServiceTest extends LegacyShellServiceTest {
       super.testsFindAllShellsCursorPagination();
    }
 
+   @Test
+   void testsFindAllShellsAfterDeletingAllIdentifiersExpectShellNoLongerListedForReferencedTenant() {
+      createRule();
+      super.testsFindAllShellsAfterDeletingAllIdentifiersExpectShellNoLongerListedForReferencedTenant();
+   }
+
+   @Test
+   void testsSubmodelAuthorizationWithExistingEndpointExpectVisibleAndEndpointAddressDigestStored() {
+      createRule( Set.of( keyPrefix + "semanticId" ) );
+      super.testsSubmodelAuthorizationWithExistingEndpointExpectVisibleAndEndpointAddressDigestStored();
+   }
+
+   @Test
+   void testsSubmodelAuthorizationWithCachedDecisionExpectDecisionEvictedOnCreateAndDelete() {
+      createRule( Set.of( keyPrefix + "semanticId" ) );
+      super.testsSubmodelAuthorizationWithCachedDecisionExpectDecisionEvictedOnCreateAndDelete();
+   }
+
+   @Test
+   void testsUpdateShellWithChangedDescriptorExpectOnlyChangedRowsWritten() {
+      createRule();
+      super.testsUpdateShellWithChangedDescriptorExpectOnlyChangedRowsWritten();
+   }
+
+   @Test
+   void testsFindAllShellsWithoutActiveRulesExpectShellNotListed() {
+      String id = UuidCreator.getTimeOrderedEpoch().toString();
+      createShellWithIdAndSpecificAssetIds( id, keyPrefix + "key", "value" );
+
+      ShellCollectionDto actual = shellService.findAllShells( 1000, null, TENANT_WITHOUT_RULES, null );
+
+      assertThat( actual.getItems() ).extracting( Shell::getIdExternal ).doesNotContain( id );
+   }
+
+   @Test
+   void testsLookupWithoutActiveRulesExpectEmptyListAndNoCursor() {
+      createShellWithIdAndSpecificAssetIds( UuidCreator.getTimeOrderedEpoch().toString(), keyPrefix + "key", "value" );
+      Set<ShellIdentifier> criteria = Set.of( new ShellIdentifier().withKey( keyPrefix + "key" ).withValue( "value" ) );
+
+      final var actual = shellService.findExternalShellIdsByIdentifiersByExactMatch( criteria, 5, null, TENANT_WITHOUT_RULES, null );
+
+      assertThat( actual.getResult() ).isEmpty();
+      assertThat( actual.getPagingMetadata().getCursor() ).isNull();
+   }
+
+   @Test
+   void testsFindAllShellsWithShellsNotMatchingTheRulesExpectOnlyMatchingShells() {
+      createRule();
+      String visibleId = UuidCreator.getTimeOrderedEpoch().toString();
+      createShellWithIdAndSpecificAssetIds( visibleId, keyPrefix + "key", "value" );
+      List<String> hiddenIds = IntStream.range( 0, 3 )
+            .mapToObj( i -> UuidCreator.getTimeOrderedEpoch().toString() )
+            .toList();
+      hiddenIds.forEach( id -> createShellWithIdAndSpecificAssetIds( id, keyPrefix + "key", "otherValue" ) );
+
+      ShellCollectionDto actual = shellService.findAllShells( 1000, null, TENANT_TWO, null );
+
+      assertThat( actual.getItems() ).extracting( Shell::getIdExternal )
+            .contains( visibleId )
+            .doesNotContainAnyElementsOf( hiddenIds );
+   }
+
    private void createRule() {
+      createRule( Set.of() );
+   }
+
+   private void createRule( Set<String> visibleSemanticIds ) {
       String specificAssetIdName = keyPrefix + "key";
       String specificAssetIdValue = "value";
       AccessRulePolicy policy = new AccessRulePolicy();
@@ -123,7 +213,9 @@ class GranularShellServiceTest extends LegacyShellServiceTest {
             new AccessRulePolicyValue( AccessRulePolicy.VISIBLE_SPECIFIC_ASSET_ID_NAMES_RULE_NAME, PolicyOperator.INCLUDES, null, Set.of(
                   new AccessRulePolicyValue( "name", PolicyOperator.EQUALS, specificAssetIdName, null )
             ) ),
-            new AccessRulePolicyValue( AccessRulePolicy.VISIBLE_SEMANTIC_IDS_RULE_NAME, PolicyOperator.INCLUDES, null, Set.of() )
+            new AccessRulePolicyValue( AccessRulePolicy.VISIBLE_SEMANTIC_IDS_RULE_NAME, PolicyOperator.INCLUDES, null, visibleSemanticIds.stream()
+                  .map( semanticId -> new AccessRulePolicyValue( "modelUrn", PolicyOperator.EQUALS, semanticId, null ) )
+                  .collect( Collectors.toSet() ) )
       ) );
       AccessRule accessRule = new AccessRule();
       accessRule.setPolicyType( AccessRule.PolicyType.AAS );
@@ -25,26 +25,40 @@ import org.eclipse.tractusx.semantics.RegistryProperties;
 import org.eclipse.tractusx.semantics.aas.registry.model.AssetAdministrationShellDescriptor;
 import org.eclipse.tractusx.semantics.aas.registry.model.InlineResponse200;
 import org.eclipse.tractusx.semantics.aas.registry.model.PagedResultPagingMetadata;
+import org.eclipse.tractusx.semantics.aas.registry.model.SubmodelDescriptor;
 import org.eclipse.tractusx.semantics.registry.TestUtil;
 import org.eclipse.tractusx.semantics.registry.mapper.ShellMapper;
+import org.eclipse.tractusx.semantics.registry.mapper.SubmodelMapper;
 import org.eclipse.tractusx.semantics.registry.model.Shell;
 import org.eclipse.tractusx.semantics.registry.model.ShellIdentifier;
+import org.eclipse.tractusx.semantics.registry.model.Submodel;
+import org.eclipse.tractusx.semantics.registry.model.SubmodelEndpoint;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import org.eclipse.tractusx.semantics.registry.dto.BatchResultDto;
 import org.eclipse.tractusx.semantics.registry.dto.ShellCollectionDto;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -52,11 +66,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 class LegacyShellServiceTest {
 
    protected static final String TENANT_TWO = "TENANT_TWO";
+   private static final String OWNING_TENANT = "TENANT_ONE";
 
    @Autowired
-   private ShellService shellService;
+   protected ShellService shellService;
    @Autowired
    private ShellMapper shellMapper;
+   @Autowired
+   private SubmodelMapper submodelMapper;
+   @Autowired
+   private JdbcTemplate jdbcTemplate;
    protected String keyPrefix;
 
    @BeforeEach
@@ -202,20 +221,6 @@ class LegacyShellServiceTest {
       assertThat( actual.getPagingMetadata().getCursor() ).isNull();
    }
 
-   private String toCursor( List<String> expectedIds, int indexOfLastVisibleId ) {
-      return new String( Base64.getUrlEncoder().encode( expectedIds.get( indexOfLastVisibleId ).getBytes() ) );
-   }
-
-   private void createShellWithIdAndSpecificAssetIds( String id, String specificAssetIdName, String specificAssetIdValue ) {
-      AssetAdministrationShellDescriptor shellDescriptor = TestUtil.createCompleteAasDescriptor();
-      shellDescriptor.setId( id );
-      shellDescriptor.setSpecificAssetIds( List.of( TestUtil.createSpecificAssetId( specificAssetIdName, specificAssetIdValue, List.of( TENANT_TWO ) ) ) );
-      Shell shell = shellMapper.fromApiDto( shellDescriptor );
-      shellService.mapShellCollection( shell );
-      if ( !shell.getSubmodels().isEmpty() )
-         shellService.mapSubmodel( shell.getSubmodels() );
-      shellService.save( shell );
-   }
    
    
    @Test
@@ -292,6 +297,45 @@ class LegacyShellServiceTest {
       assertThat( page1Ids ).doesNotContainAnyElementsOf( page2Ids );
    }
 
+   @Test
+   void testsFindAllShellsWithIdenticalCreatedDatesExpectEveryShellListedExactlyOnce() {
+      Instant createdDate = Instant.parse( "2200-01-01T00:00:00Z" ).plusSeconds( ThreadLocalRandom.current().nextLong( 1_000_000_000L ) );
+      List<String> createdIds = IntStream.range( 0, 5 )
+            .mapToObj( i -> UuidCreator.getTimeOrderedEpoch().toString() )
+            .toList();
+      createdIds.forEach( id -> {
+         createShellWithIdAndSpecificAssetIds( id, keyPrefix + "key", "value" );
+         jdbcTemplate.update( "UPDATE shell SET created_date = ? WHERE id_external = ?", Timestamp.from( createdDate ), id );
+         // the materialized visibility carries the created date of the shell for paging the shells of a tenant
+         jdbcTemplate.update( "UPDATE shell_visibility SET created_date = ? WHERE fk_shell_id = (SELECT s.id FROM shell s WHERE s.id_external = ?)",
+               Timestamp.from( createdDate ), id );
+      } );
+
+      List<String> listedIds = new ArrayList<>();
+      String cursor = null;
+      do {
+         ShellCollectionDto page = shellService.findAllShells( 2, cursor, OWNING_TENANT,
+               createdDate.minusSeconds( 1 ).atOffset( ZoneOffset.UTC ) );
+         page.getItems().forEach( shell -> listedIds.add( shell.getIdExternal() ) );
+         cursor = page.getCursor();
+      } while ( cursor != null );
+
+      assertThat( listedIds.stream().filter( createdIds::contains ).toList() ).containsExactlyInAnyOrderElementsOf( createdIds );
+   }
+
+   @Test
+   void testsFindAllShellsAfterDeletingAllIdentifiersExpectShellNoLongerListedForReferencedTenant() {
+      OffsetDateTime createdAfter = OffsetDateTime.now( ZoneOffset.UTC ).minusSeconds( 1 );
+      String id = UuidCreator.getTimeOrderedEpoch().toString();
+      createShellWithIdAndSpecificAssetIds( id, keyPrefix + "key", "value" );
+      assertThat( findAllShellIds( TENANT_TWO, createdAfter ) ).contains( id );
+
+      shellService.deleteAllIdentifiers( id );
+
+      assertThat( findAllShellIds( TENANT_TWO, createdAfter ) ).doesNotContain( id );
+      assertThat( findAllShellIds( OWNING_TENANT, createdAfter ) ).contains( id );
+   }
+
    @Test
    void testsLookupWithLessThanAPageOfMatchingRecordsExpectPartialListAndNoCursorAndInValidCreatedDate() {
       final String specificAssetIdName = keyPrefix + "key";
@@ -307,5 +351,219 @@ class LegacyShellServiceTest {
       assertThat( actual.getResult() ).isNotNull().isEmpty();
       assertThat( actual.getPagingMetadata() ).isNotNull();
       assertThat( actual.getPagingMetadata().getCursor() ).isNull();
-   }  
-}
\ No newline at end of file
+   }
+
+   @Test
+   void testsSubmodelAuthorizationWithExistingEndpointExpectVisibleAndEndpointAddressDigestStored() {
+      final String endpointAddress = "http://endpoint-address/" + keyPrefix;
+      final AssetAdministrationShellDescriptor shellDescriptor = TestUtil.createCompleteAasDescriptor( keyPrefix + "semanticId", endpointAddress );
+      shellDescriptor.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+      shellDescriptor.setSpecificAssetIds( List.of( TestUtil.createSpecificAssetId( keyPrefix + "key", "value", List.of( TENANT_TWO ) ) ) );
+      final Shell shell = shellMapper.fromApiDto( shellDescriptor );
+      shellService.mapShellCollection( shell );
+      shellService.mapSubmodel( shell.getSubmodels() );
+      shellService.save( shell );
+
+      final List<String> storedDigests = jdbcTemplate.queryForList(
+            "SELECT endpoint_address_digest FROM submodel_endpoint WHERE endpoint_address = ?", String.class, endpointAddress );
+      assertThat( storedDigests ).containsExactly( SubmodelEndpoint.digestOf( endpointAddress ) );
+      assertThat( shellService.hasAccessToShellWithVisibleSubmodelEndpoint( endpointAddress, TENANT_TWO ) ).isTrue();
+   }
+
+   @Test
+   void testsSubmodelAuthorizationWithUnknownEndpointExpectNotVisible() {
+      createShellWithIdAndSpecificAssetIds( UuidCreator.getTimeOrderedEpoch().toString(), keyPrefix + "key", "value" );
+
+      assertThat( shellService.hasAccessToShellWithVisibleSubmodelEndpoint( "http://endpoint-address/" + keyPrefix, TENANT_TWO ) ).isFalse();
+   }
+
+   @Test
+   void testsSubmodelAuthorizationWithCachedDecisionExpectDecisionEvictedOnCreateAndDelete() {
+      final String endpointAddress = "http://endpoint-address/" + keyPrefix;
+      final AssetAdministrationShellDescriptor shellDescriptor = TestUtil.createCompleteAasDescriptor( keyPrefix + "semanticId", endpointAddress );
+      shellDescriptor.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+      shellDescriptor.setSpecificAssetIds( List.of( TestUtil.createSpecificAssetId( keyPrefix + "key", "value", List.of( TENANT_TWO ) ) ) );
+      assertThat( shellService.hasAccessToShellWithVisibleSubmodelEndpoint( endpointAddress, TENANT_TWO ) ).isFalse();
+
+      final Shell shell = shellMapper.fromApiDto( shellDescriptor );
+      shellService.mapShellCollection( shell );
+      shellService.mapSubmodel( shell.getSubmodels() );
+      shellService.save( shell );
+      assertThat( shellService.hasAccessToShellWithVisibleSubmodelEndpoint( endpointAddress, TENANT_TWO ) ).isTrue();
+
+      shellService.deleteShell( shellDescriptor.getId() );
+      assertThat( shellService.hasAccessToShellWithVisibleSubmodelEndpoint( endpointAddress, TENANT_TWO ) ).isFalse();
+   }
+
+   @Test
+   void testsUpdateShellWithUnchangedDescriptorExpectStoredRowsKept() {
+      final AssetAdministrationShellDescriptor shellDescriptor = TestUtil.createCompleteAasDescriptor( keyPrefix + "semanticId", "http://endpoint-address/" + keyPrefix );
+      shellDescriptor.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+      saveShell( shellDescriptor );
+      final List<Object> submodelIds = findIdsOfShell( "SELECT s.id FROM submodel s", shellDescriptor.getId() );
+      final List<Object> identifierIds = findIdsOfShell( "SELECT s.id FROM shell_identifier s", shellDescriptor.getId() );
+      final List<Object> descriptionIds = findIdsOfShell( "SELECT s.id FROM shell_description s", shellDescriptor.getId() );
+      final Timestamp createdDate = jdbcTemplate.queryForObject( "SELECT created_date FROM shell WHERE id_external = ?", Timestamp.class,
+            shellDescriptor.getId() );
+
+      shellService.update( shellMapper.fromApiDto( shellDescriptor ), shellDescriptor.getId() );
+
+      assertThat( findIdsOfShell( "SELECT s.id FROM submodel s", shellDescriptor.getId() ) ).containsExactlyInAnyOrderElementsOf( submodelIds );
+      assertThat( findIdsOfShell( "SELECT s.id FROM shell_identifier s", shellDescriptor.getId() ) ).containsExactlyInAnyOrderElementsOf( identifierIds );
+      assertThat( findIdsOfShell( "SELECT s.id FROM shell_description s", shellDescriptor.getId() ) ).containsExactlyInAnyOrderElementsOf( descriptionIds );
+      assertThat( jdbcTemplate.queryForObject( "SELECT created_date FROM shell WHERE id_external = ?", Timestamp.class, shellDescriptor.getId() ) )
+            .isEqualTo( createdDate );
+   }
+
+   @Test
+   void testsUpdateShellWithChangedDescriptorExpectOnlyChangedRowsWritten() {
+      final AssetAdministrationShellDescriptor shellDescriptor = TestUtil.createCompleteAasDescriptor( keyPrefix + "semanticId", "http://endpoint-address/" + keyPrefix );
+      shellDescriptor.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+      shellDescriptor.setSpecificAssetIds( List.of( TestUtil.createSpecificAssetId( keyPrefix + "key", "value", List.of( TENANT_TWO ) ),
+            TestUtil.createSpecificAssetId( keyPrefix + "otherKey", "value", List.of( TENANT_TWO ) ) ) );
+      final OffsetDateTime createdAfter = OffsetDateTime.now( ZoneOffset.UTC ).minusSeconds( 1 );
+      saveShell( shellDescriptor );
+      final List<Object> submodelIds = findIdsOfShell( "SELECT s.id FROM submodel s", shellDescriptor.getId() );
+      assertThat( findAllShellIds( TENANT_TWO, createdAfter ) ).contains( shellDescriptor.getId() );
+
+      shellDescriptor.getDescription().get( 1 ).setText( "changed text" );
+      // the changed value no longer matches the access rules of the granular access control either
+      shellDescriptor.setSpecificAssetIds( List.of( TestUtil.createSpecificAssetId( keyPrefix + "key", "otherValue", List.of( OWNING_TENANT ) ) ) );
+      shellDescriptor.getSubmodelDescriptors().add( TestUtil.createSubmodel( keyPrefix + "otherSemanticId", "http://other-endpoint-address/" + keyPrefix ) );
+      shellService.update( shellMapper.fromApiDto( shellDescriptor ), shellDescriptor.getId() );
+
+      assertThat( findIdsOfShell( "SELECT s.id FROM submodel s", shellDescriptor.getId() ) ).hasSize( 2 ).containsAll( submodelIds );
+      assertThat( jdbcTemplate.queryForList( "SELECT d.text FROM shell_description d JOIN shell s ON s.id = d.fk_shell_id "
+            + "WHERE s.id_external = ? AND d.language = 'en'", String.class, shellDescriptor.getId() ) ).containsExactly( "changed text" );
+      assertThat( jdbcTemplate.queryForList( "SELECT i.namespace FROM shell_identifier i JOIN shell s ON s.id = i.fk_shell_id "
+            + "WHERE s.id_external = ?", String.class, shellDescriptor.getId() ) ).contains( keyPrefix + "key" ).doesNotContain( keyPrefix + "otherKey" );
+      assertThat( findAllShellIds( TENANT_TWO, createdAfter ) ).doesNotContain( shellDescriptor.getId() );
+   }
+
+   @Test
+   void testsUpdateSubmodelWithChangedEndpointExpectSubmodelKeptAndEndpointReplaced() {
+      final AssetAdministrationShellDescriptor shellDescriptor = TestUtil.createCompleteAasDescriptor( keyPrefix + "semanticId", "http://endpoint-address/" + keyPrefix );
+      shellDescriptor.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+      saveShell( shellDescriptor );
+      final SubmodelDescriptor submodelDescriptor = shellDescriptor.getSubmodelDescriptors().get( 0 );
+      final List<Object> submodelIds = findIdsOfShell( "SELECT s.id FROM submodel s", shellDescriptor.getId() );
+      final String changedEndpointAddress = "http://changed-endpoint-address/" + keyPrefix;
+
+      submodelDescriptor.getEndpoints().get( 0 ).getProtocolInformation().setHref( changedEndpointAddress );
+      final Submodel submodel = submodelMapper.fromApiDto( submodelDescriptor );
+      submodel.setIdExternal( submodelDescriptor.getId() );
+      final boolean updated = shellService.update( shellDescriptor.getId(), submodel, OWNING_TENANT );
+
+      assertThat( updated ).isTrue();
+      assertThat( findIdsOfShell( "SELECT s.id FROM submodel s", shellDescriptor.getId() ) ).containsExactlyInAnyOrderElementsOf( submodelIds );
+      assertThat( jdbcTemplate.queryForList( "SELECT e.endpoint_address FROM submodel_endpoint e WHERE e.fk_submodel_id = ?", String.class,
+            submodelIds.get( 0 ) ) ).containsExactly( changedEndpointAddress );
+      assertThat( shellService.hasAccessToShellWithVisibleSubmodelEndpoint( changedEndpointAddress, OWNING_TENANT ) ).isTrue();
+   }
+
+   @Test
+   void testsUpdateSubmodelWithUnknownSubmodelExpectNothingWritten() {
+      final AssetAdministrationShellDescriptor shellDescriptor = TestUtil.createCompleteAasDescriptor( keyPrefix + "semanticId", "http://endpoint-address/" + keyPrefix );
+      shellDescriptor.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+      saveShell( shellDescriptor );
+      final SubmodelDescriptor submodelDescriptor = TestUtil.createSubmodel();
+      final Submodel submodel = submodelMapper.fromApiDto( submodelDescriptor );
+      submodel.setIdExternal( submodelDescriptor.getId() );
+
+      final boolean updated = shellService.update( shellDescriptor.getId(), submodel, OWNING_TENANT );
+
+      assertThat( updated ).isFalse();
+      assertThat( findIdsOfShell( "SELECT s.id FROM submodel s", shellDescriptor.getId() ) ).hasSize( 1 );
+   }
+
+   @Test
+   void testsSaveShellWithExistingIdExpectDuplicateKeyException() {
+      final AssetAdministrationShellDescriptor shellDescriptor = TestUtil.createCompleteAasDescriptor();
+      shellDescriptor.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+      saveShell( shellDescriptor );
+      shellDescriptor.getSubmodelDescriptors().get( 0 ).setId( UuidCreator.getTimeOrderedEpoch().toString() );
+
+      assertThatExceptionOfType( DuplicateKeyException.class )
+            .isThrownBy( () -> saveShell( shellDescriptor ) )
+            .withMessage( ShellService.DUPLICATE_SHELL_EXCEPTION );
+      assertThat( findIdsOfShell( "SELECT s.id FROM submodel s", shellDescriptor.getId() ) ).hasSize( 1 );
+   }
+
+   @Test
+   void testsSaveSubmodelWithExistingIdExpectDuplicateKeyException() {
+      final AssetAdministrationShellDescriptor shellDescriptor = TestUtil.createCompleteAasDescriptor();
+      shellDescriptor.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+      saveShell( shellDescriptor );
+      final SubmodelDescriptor submodelDescriptor = shellDescriptor.getSubmodelDescriptors().get( 0 );
+      final Submodel submodel = submodelMapper.fromApiDto( submodelDescriptor );
+      submodel.setIdExternal( submodelDescriptor.getId() );
+      shellService.mapSubmodel( Set.of( submodel ) );
+
+      assertThatExceptionOfType( DuplicateKeyException.class )
+            .isThrownBy( () -> shellService.save( shellDescriptor.getId(), submodel, OWNING_TENANT ) )
+            .withMessage( ShellService.DUPLICATE_SUBMODEL_EXCEPTION );
+   }
+
+   @Test
+   void testsSaveBatchWithSubmodelIdRepeatedInChunkExpectOnlyConflictingShellRejected() {
+      final List<AssetAdministrationShellDescriptor> shellDescriptors = IntStream.range( 0, 3 ).mapToObj( index -> {
+         final AssetAdministrationShellDescriptor shellDescriptor = TestUtil.createCompleteAasDescriptor();
+         shellDescriptor.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+         return shellDescriptor;
+      } ).toList();
+      // the second shell repeats the submodel id of the first one, the chunk fails and its shells are saved one by one
+      shellDescriptors.get( 1 ).getSubmodelDescriptors().get( 0 ).setId( shellDescriptors.get( 0 ).getSubmodelDescriptors().get( 0 ).getId() );
+
+      final List<BatchResultDto> results = shellService.saveBatch( shellDescriptors.stream().map( this::toShell ).toList() );
+
+      assertThat( results ).extracting( BatchResultDto::getIdExternal )
+            .containsExactly( shellDescriptors.stream().map( AssetAdministrationShellDescriptor::getId ).toArray( String[]::new ) );
+      assertThat( results ).extracting( BatchResultDto::getStatus )
+            .containsExactly( HttpStatus.OK.value(), HttpStatus.BAD_REQUEST.value(), HttpStatus.OK.value() );
+      assertThat( findIdsOfShell( "SELECT s.id FROM submodel s", shellDescriptors.get( 0 ).getId() ) ).hasSize( 1 );
+      assertThat( findIdsOfShell( "SELECT s.id FROM submodel s", shellDescriptors.get( 2 ).getId() ) ).hasSize( 1 );
+      assertThat( jdbcTemplate.queryForObject( "SELECT COUNT(*) FROM shell WHERE id_external = ?", Integer.class,
+            shellDescriptors.get( 1 ).getId() ) ).isZero();
+   }
+
+   private List<String> findAllShellIds( String externalSubjectId, OffsetDateTime createdAfter ) {
+      List<String> listedIds = new ArrayList<>();
+      String cursor = null;
+      do {
+         ShellCollectionDto page = shellService.findAllShells( 100, cursor, externalSubjectId, createdAfter );
+         page.getItems().forEach( shell -> listedIds.add( shell.getIdExternal() ) );
+         cursor = page.getCursor();
+      } while ( cursor != null );
+      return listedIds;
+   }
+
+   private List<Object> findIdsOfShell( String selectIds, String idExternal ) {
+      return jdbcTemplate.queryForList( selectIds + " JOIN shell sh ON sh.id = s.fk_shell_id WHERE sh.id_external = ?", Object.class, idExternal );
+   }
+
+   private void saveShell( AssetAdministrationShellDescriptor shellDescriptor ) {
+      shellService.save( toShell( shellDescriptor ) );
+   }
+
+   private Shell toShell( AssetAdministrationShellDescriptor shellDescriptor ) {
+      final Shell shell = shellMapper.fromApiDto( shellDescriptor );
+      shellService.mapShellCollection( shell );
+      shellService.mapSubmodel( shell.getSubmodels() );
+      return shell;
+   }
+
+   private String toCursor( List<String> expectedIds, int indexOfLastVisibleId ) {
+      return new String( Base64.getUrlEncoder().encode( expectedIds.get( indexOfLastVisibleId ).getBytes() ) );
+   }
+
+   protected void createShellWithIdAndSpecificAssetIds( String id, String specificAssetIdName, String specificAssetIdValue ) {
+      AssetAdministrationShellDescriptor shellDescriptor = TestUtil.createCompleteAasDescriptor();
+      shellDescriptor.setId( id );
+      shellDescriptor.setSpecificAssetIds( List.of( TestUtil.createSpecificAssetId( specificAssetIdName, specificAssetIdValue, List.of( TENANT_TWO ) ) ) );
+      Shell shell = shellMapper.fromApiDto( shellDescriptor );
+      shellService.mapShellCollection( shell );
+      if ( !shell.getSubmodels().isEmpty() )
+         shellService.mapSubmodel( shell.getSubmodels() );
+      shellService.save( shell );
+   }
+}
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.tractusx.semantics.RegistryProperties;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.service.AccessRuleIndex;
+import org.eclipse.tractusx.semantics.registry.model.Shell;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PostgreSqlCacheInvalidationChannelTest {
+
+   private static final String SHELL_ID = "shell-id";
+   private static final String OTHER_SHELL_ID = "other-shell-id";
+
+   private static final String ENDPOINT_ADDRESS = "https://edc.data.plane/shells/1/submodel";
+   private static final String OTHER_ENDPOINT_ADDRESS = "https://edc.data.plane/shells/2/submodel";
+   private static final String THIRD_ENDPOINT_ADDRESS = "https://edc.data.plane/shells/3/submodel";
+
+   private final AtomicInteger loadCount = new AtomicInteger();
+   private final AtomicInteger decisionCount = new AtomicInteger();
+   private ShellCache shellCache;
+   private SubmodelAuthorizationCache submodelAuthorizationCache;
+   private AccessRuleIndex accessRuleIndex;
+   private PostgreSqlCacheInvalidationChannel channel;
+
+   @BeforeEach
+   void setUp() {
+      final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+      accessRuleIndex = mock( AccessRuleIndex.class );
+      beanFactory.addBean( "accessRuleIndex", accessRuleIndex );
+      shellCache = new ShellCache( new RegistryProperties(), beanFactory.getBeanProvider( PostgreSqlCacheInvalidationChannel.class ),
+            new SimpleMeterRegistry() );
+      submodelAuthorizationCache = new SubmodelAuthorizationCache( new RegistryProperties(),
+            beanFactory.getBeanProvider( PostgreSqlCacheInvalidationChannel.class ), beanFactory.getBeanProvider( AccessRuleIndex.class ),
+            new SimpleMeterRegistry() );
+      channel = new PostgreSqlCacheInvalidationChannel( null, null, shellCache, submodelAuthorizationCache,
+            beanFactory.getBeanProvider( AccessRuleIndex.class ) );
+      // the cache registers itself as invalidation listener of the index
+      clearInvocations( accessRuleIndex );
+   }
+
+   @Test
+   void testHandleShellChangedExpectOnlyThisShellEvicted() {
+      load( SHELL_ID );
+      load( OTHER_SHELL_ID );
+
+      channel.handle( PostgreSqlCacheInvalidationChannel.SHELL_PREFIX + SHELL_ID );
+      load( SHELL_ID );
+      load( OTHER_SHELL_ID );
+
+      assertThat( loadCount ).hasValue( 3 );
+      verifyNoInteractions( accessRuleIndex );
+   }
+
+   @Test
+   void testHandleAllShellsChangedExpectAllShellsEvicted() {
+      load( SHELL_ID );
+      load( OTHER_SHELL_ID );
+
+      channel.handle( PostgreSqlCacheInvalidationChannel.ALL_SHELLS );
+      load( SHELL_ID );
+      load( OTHER_SHELL_ID );
+
+      assertThat( loadCount ).hasValue( 4 );
+   }
+
+   @Test
+   void testHandleRuleChangedExpectAccessRuleIndexInvalidated() {
+      load( SHELL_ID );
+
+      channel.handle( PostgreSqlCacheInvalidationChannel.RULE_PREFIX + 1 );
+      load( SHELL_ID );
+
+      verify( accessRuleIndex ).invalidate();
+      assertThat( loadCount ).hasValue( 1 );
+   }
+
+   @Test
+   void testHandleEndpointsChangedExpectOnlyTheseEndpointsEvicted() {
+      authorize( ENDPOINT_ADDRESS );
+      authorize( OTHER_ENDPOINT_ADDRESS );
+      authorize( THIRD_ENDPOINT_ADDRESS );
+
+      channel.handle( PostgreSqlCacheInvalidationChannel.ENDPOINTS_PREFIX + ENDPOINT_ADDRESS + "\n" + OTHER_ENDPOINT_ADDRESS );
+      authorize( ENDPOINT_ADDRESS );
+      authorize( OTHER_ENDPOINT_ADDRESS );
+      authorize( THIRD_ENDPOINT_ADDRESS );
+
+      assertThat( decisionCount ).hasValue( 5 );
+   }
+
+   @Test
+   void testHandleAllEndpointsChangedExpectAllEndpointsEvicted() {
+      authorize( ENDPOINT_ADDRESS );
+      authorize( OTHER_ENDPOINT_ADDRESS );
+
+      channel.handle( PostgreSqlCacheInvalidationChannel.ALL_ENDPOINTS );
+      authorize( ENDPOINT_ADDRESS );
+      authorize( OTHER_ENDPOINT_ADDRESS );
+
+      assertThat( decisionCount ).hasValue( 4 );
+      verifyNoInteractions( accessRuleIndex );
+   }
+
+   private void authorize( String endpointAddress ) {
+      submodelAuthorizationCache.filterAuthorized( List.of( endpointAddress ), "tenant", undecided -> {
+         decisionCount.addAndGet( undecided.size() );
+         return undecided;
+      } );
+   }
+
+   private void load( String idExternal ) {
+      shellCache.get( idExternal, key -> {
+         loadCount.incrementAndGet();
+         return Optional.of( new Shell().withIdExternal( key ) );
+      } );
+   }
+}
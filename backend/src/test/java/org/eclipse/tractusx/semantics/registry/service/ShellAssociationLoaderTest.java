@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.tractusx.semantics.aas.registry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.tractusx.semantics.registry.TestUtil;
+import org.eclipse.tractusx.semantics.registry.mapper.ShellMapper;
+import org.eclipse.tractusx.semantics.registry.model.Shell;
+import org.eclipse.tractusx.semantics.registry.repository.ShellRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class ShellAssociationLoaderTest {
+
+   @Autowired
+   private ShellAssociationLoader shellAssociationLoader;
+   @Autowired
+   private ShellService shellService;
+   @Autowired
+   private ShellRepository shellRepository;
+   @Autowired
+   private ShellMapper shellMapper;
+   @Autowired
+   private TransactionTemplate transactionTemplate;
+   @Autowired
+   private EntityManagerFactory entityManagerFactory;
+   private Statistics statistics;
+
+   @BeforeEach
+   void setUp() {
+      statistics = entityManagerFactory.unwrap( SessionFactory.class ).getStatistics();
+      statistics.setStatisticsEnabled( true );
+   }
+
+   @AfterEach
+   void tearDown() {
+      statistics.setStatisticsEnabled( false );
+   }
+
+   @Test
+   void testLoadAllAssociationsExpectSameNumberOfQueriesForOneAndManyShells() {
+      List<String> singleShell = createShells( 1 );
+      List<String> manyShells = createShells( 5 );
+
+      assertThat( countStatementsOfLoadAllAssociations( manyShells ) ).isEqualTo( countStatementsOfLoadAllAssociations( singleShell ) );
+   }
+
+   @Test
+   void testLoadAllAssociationsExpectNoFurtherQueriesWhenMappingTheShells() {
+      List<String> idExternals = createShells( 3 );
+
+      List<AssetAdministrationShellDescriptor> descriptors = transactionTemplate.execute( status -> {
+         List<Shell> shells = findShells( idExternals );
+         shellAssociationLoader.loadAllAssociations( shells );
+         statistics.clear();
+         List<AssetAdministrationShellDescriptor> mapped = shells.stream().map( shellMapper::toApiDto ).toList();
+         assertThat( statistics.getPrepareStatementCount() ).isZero();
+         return mapped;
+      } );
+
+      assertThat( descriptors ).hasSize( idExternals.size() ).allSatisfy( descriptor -> {
+         assertThat( descriptor.getSpecificAssetIds() ).isNotEmpty();
+         assertThat( descriptor.getSubmodelDescriptors() ).singleElement().satisfies( submodel -> {
+            assertThat( submodel.getSemanticId().getKeys() ).isNotEmpty();
+            assertThat( submodel.getEndpoints() ).singleElement()
+                  .satisfies( endpoint -> assertThat( endpoint.getProtocolInformation().getSecurityAttributes() ).isNotEmpty() );
+         } );
+      } );
+   }
+
+   private long countStatementsOfLoadAllAssociations( List<String> idExternals ) {
+      return transactionTemplate.execute( status -> {
+         List<Shell> shells = findShells( idExternals );
+         statistics.clear();
+         shellAssociationLoader.loadAllAssociations( shells );
+         return statistics.getPrepareStatementCount();
+      } );
+   }
+
+   private List<Shell> findShells( List<String> idExternals ) {
+      return idExternals.stream().map( idExternal -> shellRepository.findByIdExternal( idExternal ).orElseThrow() ).toList();
+   }
+
+   private List<String> createShells( int count ) {
+      return IntStream.range( 0, count ).mapToObj( i -> {
+         AssetAdministrationShellDescriptor descriptor = TestUtil.createCompleteAasDescriptor();
+         descriptor.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+         Shell shell = shellMapper.fromApiDto( descriptor );
+         shellService.mapShellCollection( shell );
+         shellService.mapSubmodel( shell.getSubmodels() );
+         return shellService.save( shell ).getIdExternal();
+      } ).toList();
+   }
+}
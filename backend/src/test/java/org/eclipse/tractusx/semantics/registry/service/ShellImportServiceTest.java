@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.eclipse.tractusx.semantics.RegistryProperties;
+import org.eclipse.tractusx.semantics.aas.registry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.tractusx.semantics.registry.TestUtil;
+import org.eclipse.tractusx.semantics.registry.dto.BatchResultDto;
+import org.eclipse.tractusx.semantics.registry.mapper.ShellMapper;
+import org.eclipse.tractusx.semantics.registry.model.ImportJob;
+import org.eclipse.tractusx.semantics.registry.model.ImportJobError;
+import org.eclipse.tractusx.semantics.registry.model.ImportJobStatus;
+import org.eclipse.tractusx.semantics.registry.repository.ImportJobErrorRepository;
+import org.eclipse.tractusx.semantics.registry.repository.ImportJobRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.f4b6a3.uuid.UuidCreator;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@EnableConfigurationProperties( RegistryProperties.class )
+class ShellImportServiceTest {
+
+   private static final String TENANT_ONE = "TENANT_ONE";
+
+   @Autowired
+   private ShellImportService shellImportService;
+   @Autowired
+   private ShellService shellService;
+   @Autowired
+   private ObjectMapper objectMapper;
+   @Autowired
+   private EntityManager entityManager;
+   @Autowired
+   private TransactionTemplate transactionTemplate;
+   @Autowired
+   private RegistryProperties registryProperties;
+   @Autowired
+   private ShellMapper shellMapper;
+   @Autowired
+   private ImportJobRepository importJobRepository;
+   @Autowired
+   private ImportJobErrorRepository importJobErrorRepository;
+   @Autowired
+   private Validator validator;
+   @Autowired
+   private JdbcTemplate jdbcTemplate;
+
+   @Test
+   void testsResumeInterruptedImportJobExpectProcessedRecordsSkippedAndArrayUnwrapped() throws Exception {
+      List<AssetAdministrationShellDescriptor> descriptors = List.of( createDescriptor(), createDescriptor(), createDescriptor() );
+      // the array is written over several lines, the skipped records are nested objects which have to be skipped as a whole
+      String file = objectMapper.writer().with( SerializationFeature.INDENT_OUTPUT ).writeValueAsString( descriptors );
+      file = file.substring( 0, file.lastIndexOf( ']' ) ) + ",\n{\"idShort\":\"withoutId\"}\n]";
+
+      // the job was interrupted after the first two records, one of them was created and one was reported as error
+      ImportJob interruptedJob = new ImportJob();
+      interruptedJob.setFileName( "shells.json" );
+      interruptedJob.setTenantId( TENANT_ONE );
+      interruptedJob.setStatus( ImportJobStatus.RUNNING );
+      interruptedJob.setProcessedRecords( 2 );
+      interruptedJob.setCreatedRecords( 1 );
+      interruptedJob.setFailedRecords( 1 );
+      Path importDirectory = registryProperties.getImportDirectory();
+      Files.createDirectories( importDirectory );
+      Files.writeString( importDirectory.resolve( interruptedJob.getId() + ".json" ), file );
+      transactionTemplate.executeWithoutResult( status -> entityManager.persist( interruptedJob ) );
+
+      shellImportService.resumeInterruptedImportJobs();
+
+      ImportJob importJob = awaitCompletion( interruptedJob.getId() );
+
+      assertThat( importJob.getStatus() ).isEqualTo( ImportJobStatus.COMPLETED );
+      assertThat( importJob.getProcessedRecords() ).isEqualTo( 4 );
+      assertThat( importJob.getCreatedRecords() ).isEqualTo( 2 );
+      assertThat( importJob.getFailedRecords() ).isEqualTo( 2 );
+      assertThat( importJob.getCreatedRecords() + importJob.getFailedRecords() ).isEqualTo( importJob.getProcessedRecords() );
+      assertThat( Files.exists( importDirectory.resolve( interruptedJob.getId() + ".json" ) ) ).isFalse();
+
+      // the processed records aren't imported again
+      for ( AssetAdministrationShellDescriptor skipped : descriptors.subList( 0, 2 ) ) {
+         assertThatExceptionOfType( EntityNotFoundException.class )
+               .isThrownBy( () -> shellService.findShellByExternalIdWithoutFiltering( skipped.getId() ) );
+      }
+      assertThat( shellService.findShellByExternalIdWithoutFiltering( descriptors.get( 2 ).getId() ) ).isNotNull();
+
+      // the error of the resumed part is numbered by its position in the file
+      List<ImportJobError> errors = shellImportService.findImportJobErrors( interruptedJob.getId() );
+      assertThat( errors ).hasSize( 1 );
+      assertThat( errors.get( 0 ).getRecordNumber() ).isEqualTo( 4 );
+      assertThat( errors.get( 0 ).getIdExternal() ).isNull();
+   }
+
+   @Test
+   void testsImportInterruptedRightAfterCommitExpectResumedWithoutDuplicates() throws Exception {
+      List<AssetAdministrationShellDescriptor> descriptors = List.of( createDescriptor(), createDescriptor() );
+      ObjectWriter lineWriter = objectMapper.writer().without( SerializationFeature.INDENT_OUTPUT );
+      String file = lineWriter.writeValueAsString( descriptors.get( 0 ) ) + "\n{\"idShort\":\"withoutId\"}\n"
+            + lineWriter.writeValueAsString( descriptors.get( 1 ) ) + "\n";
+
+      // the registry is killed right after the transaction creating the shells was committed
+      ShellService crashingShellService = mock( ShellService.class, delegatesTo( shellService ) );
+      doAnswer( invocation -> {
+         Consumer<List<BatchResultDto>> beforeCommit = invocation.getArgument( 1 );
+         return shellService.saveBatch( invocation.getArgument( 0 ), results -> {
+            beforeCommit.accept( results );
+            TransactionSynchronizationManager.registerSynchronization( new TransactionSynchronization() {
+               @Override
+               public void afterCommit() {
+                  throw new SimulatedCrash();
+               }
+            } );
+         } );
+      } ).when( crashingShellService ).saveBatch( anyList(), any() );
+      ShellImportService crashingImportService = new ShellImportService( crashingShellService, shellMapper, importJobRepository,
+            importJobErrorRepository, objectMapper, validator, entityManager, transactionTemplate, registryProperties );
+
+      UUID importJobId = crashingImportService.submit(
+            new MockMultipartFile( "file", "shells.ndjson", "application/x-ndjson", file.getBytes( StandardCharsets.UTF_8 ) ), TENANT_ONE ).getId();
+      ImportJob crashedJob = shellImportService.findImportJob( importJobId, TENANT_ONE );
+      for ( int attempt = 0; attempt < 300 && crashedJob.getProcessedRecords() < 3; attempt++ ) {
+         Thread.sleep( 100 );
+         crashedJob = shellImportService.findImportJob( importJobId, TENANT_ONE );
+      }
+      crashingImportService.stop();
+
+      // the progress was committed together with the shells
+      assertThat( crashedJob.getStatus() ).isEqualTo( ImportJobStatus.RUNNING );
+      assertThat( crashedJob.getProcessedRecords() ).isEqualTo( 3 );
+      assertThat( crashedJob.getCreatedRecords() ).isEqualTo( 2 );
+      assertThat( crashedJob.getFailedRecords() ).isEqualTo( 1 );
+
+      shellImportService.resumeInterruptedImportJobs();
+      ImportJob importJob = awaitCompletion( importJobId );
+
+      assertThat( importJob.getStatus() ).isEqualTo( ImportJobStatus.COMPLETED );
+      assertThat( importJob.getProcessedRecords() ).isEqualTo( 3 );
+      assertThat( importJob.getCreatedRecords() ).isEqualTo( 2 );
+      assertThat( importJob.getFailedRecords() ).isEqualTo( 1 );
+      // the created shells aren't reported as duplicates of themselves
+      assertThat( shellImportService.findImportJobErrors( importJobId ) ).extracting( ImportJobError::getRecordNumber ).containsExactly( 2L );
+      for ( AssetAdministrationShellDescriptor descriptor : descriptors ) {
+         assertThat( shellService.findShellByExternalIdWithoutFiltering( descriptor.getId() ) ).isNotNull();
+      }
+   }
+
+   @Test
+   void testsImportJobWithoutFileExpectFailedAfterTimeout() {
+      // the files were stored on another instance which is gone
+      ImportJob abandonedJob = createJobWithoutFile();
+      ImportJob recentJob = createJobWithoutFile();
+      setLastModifiedDate( abandonedJob.getId(), Instant.now().minus( registryProperties.getImportJobTimeout() ).minusSeconds( 60 ) );
+
+      shellImportService.resumeInterruptedImportJobs();
+
+      ImportJob failedJob = shellImportService.findImportJob( abandonedJob.getId(), TENANT_ONE );
+      assertThat( failedJob.getStatus() ).isEqualTo( ImportJobStatus.FAILED );
+      assertThat( failedJob.getMessage() ).contains( "file is not available", "after record 1 " );
+      // the job may still be processed by the instance holding its file
+      assertThat( shellImportService.findImportJob( recentJob.getId(), TENANT_ONE ).getStatus() ).isEqualTo( ImportJobStatus.RUNNING );
+
+      setLastModifiedDate( recentJob.getId(), Instant.now().minus( registryProperties.getImportJobTimeout() ).minusSeconds( 60 ) );
+
+      assertThat( shellImportService.findImportJob( recentJob.getId(), TENANT_ONE ).getStatus() ).isEqualTo( ImportJobStatus.FAILED );
+   }
+
+   private ImportJob createJobWithoutFile() {
+      ImportJob importJob = new ImportJob();
+      importJob.setFileName( "shells.json" );
+      importJob.setTenantId( TENANT_ONE );
+      importJob.setStatus( ImportJobStatus.RUNNING );
+      importJob.setProcessedRecords( 1 );
+      importJob.setCreatedRecords( 1 );
+      transactionTemplate.executeWithoutResult( status -> entityManager.persist( importJob ) );
+      return importJob;
+   }
+
+   private void setLastModifiedDate( UUID importJobId, Instant lastModifiedDate ) {
+      jdbcTemplate.update( "UPDATE IMPORT_JOB SET LAST_MODIFIED_DATE = ? WHERE ID = ?", Timestamp.from( lastModifiedDate ), importJobId );
+   }
+
+   private ImportJob awaitCompletion( UUID importJobId ) throws InterruptedException {
+      ImportJob importJob = shellImportService.findImportJob( importJobId, TENANT_ONE );
+      for ( int attempt = 0; attempt < 300 && importJob.getStatus() != ImportJobStatus.COMPLETED; attempt++ ) {
+         Thread.sleep( 100 );
+         importJob = shellImportService.findImportJob( importJobId, TENANT_ONE );
+      }
+      return importJob;
+   }
+
+   private static AssetAdministrationShellDescriptor createDescriptor() {
+      AssetAdministrationShellDescriptor descriptor = TestUtil.createCompleteAasDescriptor();
+      descriptor.setId( UuidCreator.getTimeOrderedEpoch().toString() );
+      return descriptor;
+   }
+
+   private static class SimulatedCrash extends Error {
+   }
+}
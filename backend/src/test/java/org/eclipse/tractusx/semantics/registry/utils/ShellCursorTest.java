@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.registry.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class ShellCursorTest {
+
+   private static final Instant CREATED_DATE = Instant.parse( "2025-01-01T12:00:00.123456Z" );
+   private static final UUID ID = UUID.fromString( "01a149a6-05b5-7cae-a744-91af5730f084" );
+
+   @Test
+   void testEncodedCursorShellWhenDecodedExpectSameKeyset() {
+      final String encoded = new ShellCursor( 10, null ).getEncodedCursorShell( CREATED_DATE, ID, true );
+
+      final ShellCursor underTest = new ShellCursor( 10, encoded );
+
+      assertThat( underTest.getShellSearchCursor() ).isEqualTo( CREATED_DATE );
+      assertThat( underTest.getShellSearchCursorId() ).isEqualTo( ID );
+   }
+
+   @Test
+   void testEncodedCursorShellWhenNoNextElementsExpectNull() {
+      assertThat( new ShellCursor( 10, null ).getEncodedCursorShell( CREATED_DATE, ID, false ) ).isNull();
+   }
+
+   @Test
+   void testShellSearchCursorWhenPreviousFormatReceivedExpectCreatedDateAndMaximumId() {
+      final String previousFormat = Base64.getEncoder()
+            .encodeToString( ( "*" + CREATED_DATE + "* - 2025-01-01T12:00:01" ).getBytes( StandardCharsets.UTF_8 ) );
+
+      final ShellCursor underTest = new ShellCursor( 10, previousFormat );
+
+      assertThat( underTest.getShellSearchCursor() ).isEqualTo( CREATED_DATE );
+      assertThat( underTest.getShellSearchCursorId() ).isEqualTo( ShellCursor.MAXIMUM_SHELL_ID );
+   }
+
+   @Test
+   void testShellSearchCursorIdWhenNoCursorReceivedExpectMaximumId() {
+      assertThat( new ShellCursor( 10, null ).getShellSearchCursorId() ).isEqualTo( ShellCursor.MAXIMUM_SHELL_ID );
+   }
+
+   @Test
+   void testShellSearchCursorWhenInvalidKeysetReceivedExpectException() {
+      final String invalid = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString( ( "2|" + CREATED_DATE + "|not-a-uuid" ).getBytes( StandardCharsets.UTF_8 ) );
+
+      assertThatThrownBy( () -> new ShellCursor( 10, invalid ).getShellSearchCursorId() ).isInstanceOf( IllegalArgumentException.class );
+   }
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+
+package org.eclipse.tractusx.semantics.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.semantics.accesscontrol.api.exception.DenyAccessException;
+import org.eclipse.tractusx.semantics.accesscontrol.api.model.ShellVisibilityContext;
+import org.eclipse.tractusx.semantics.accesscontrol.api.model.ShellVisibilityCriteria;
+import org.eclipse.tractusx.semantics.accesscontrol.api.model.SpecificAssetId;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.service.SqlBackedAccessControlRuleService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluates the access rules of the reader for a page of shells, as done for every page fetched by the granular access control.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class AccessControlRuleServiceBenchmark {
+
+   @Param( { "1", "10", "100", "1000" } )
+   public int rulesPerBpn;
+
+   @Param( { "3", "10", "50" } )
+   public int identifiersPerShell;
+
+   @Param( { "500" } )
+   public int shellsPerPage;
+
+   private SqlBackedAccessControlRuleService accessControlRuleService;
+   private List<ShellVisibilityContext> shellContexts;
+   private Set<SpecificAssetId> userQuery;
+
+   @Setup
+   public void setUp() {
+      accessControlRuleService = new SqlBackedAccessControlRuleService( SyntheticData.accessRuleIndex( rulesPerBpn ) );
+      shellContexts = SyntheticData.shells( shellsPerPage, rulesPerBpn, identifiersPerShell, 0 ).stream()
+            .map( SyntheticData::visibilityContext )
+            .toList();
+      userQuery = Set.of( new SpecificAssetId( SyntheticData.MANUFACTURER_PART_ID, SyntheticData.manufacturerPartIdOf( 0, rulesPerBpn ) ) );
+   }
+
+   @Benchmark
+   public Map<String, ShellVisibilityCriteria> fetchVisibilityCriteriaForShells() {
+      return accessControlRuleService.fetchVisibilityCriteriaForShells( shellContexts, SyntheticData.READER );
+   }
+
+   @Benchmark
+   public List<String> filterValidSpecificAssetIdsForLookup() throws DenyAccessException {
+      return accessControlRuleService.filterValidSpecificAssetIdsForLookup( userQuery, shellContexts, SyntheticData.READER );
+   }
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+
+package org.eclipse.tractusx.semantics.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.semantics.RegistryProperties;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.service.SqlBackedAccessControlRuleService;
+import org.eclipse.tractusx.semantics.registry.model.Shell;
+import org.eclipse.tractusx.semantics.registry.service.DefaultShellAccessHandler;
+import org.eclipse.tractusx.semantics.registry.service.GranularShellAccessHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Filters the properties of loaded shells for a reader which is not the owner, with the granular and the classic access control.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class ShellAccessHandlerBenchmark {
+
+   @Param( { "1", "10", "100" } )
+   public int rulesPerBpn;
+
+   @Param( { "3", "10", "50" } )
+   public int identifiersPerShell;
+
+   @Param( { "1", "10" } )
+   public int submodelsPerShell;
+
+   @Param( { "500" } )
+   public int shellsPerPage;
+
+   private GranularShellAccessHandler granularShellAccessHandler;
+   private DefaultShellAccessHandler defaultShellAccessHandler;
+   private List<Shell> shells;
+   private Shell shell;
+
+   @Setup
+   public void setUp() {
+      final RegistryProperties registryProperties = SyntheticData.registryProperties();
+      granularShellAccessHandler = new GranularShellAccessHandler( registryProperties,
+            new SqlBackedAccessControlRuleService( SyntheticData.accessRuleIndex( rulesPerBpn ) ) );
+      defaultShellAccessHandler = new DefaultShellAccessHandler( registryProperties );
+      shells = SyntheticData.shells( shellsPerPage, rulesPerBpn, identifiersPerShell, submodelsPerShell );
+      shell = shells.get( 0 );
+   }
+
+   @Benchmark
+   public List<Shell> granularFilterListOfShellProperties() {
+      return granularShellAccessHandler.filterListOfShellProperties( shells, SyntheticData.READER );
+   }
+
+   @Benchmark
+   public Shell defaultFilterShellProperties() {
+      return defaultShellAccessHandler.filterShellProperties( shell, SyntheticData.READER );
+   }
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+
+package org.eclipse.tractusx.semantics.benchmarks;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.semantics.registry.utils.ShellCursor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Encodes and decodes the keyset cursor of a page of shells, done once per page.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class ShellCursorBenchmark {
+
+   private static final int PAGE_SIZE = 100;
+
+   private final Instant createdDate = Instant.parse( "2025-01-02T03:04:05.123456Z" );
+   private final UUID shellId = UUID.fromString( "0190b6a5-6d5c-7e2f-9a1b-3c4d5e6f7a8b" );
+   private ShellCursor cursor;
+   private String encodedCursor;
+
+   @Setup
+   public void setUp() {
+      cursor = new ShellCursor( PAGE_SIZE, null );
+      encodedCursor = cursor.getEncodedCursorShell( createdDate, shellId, true );
+   }
+
+   @Benchmark
+   public String encode() {
+      return cursor.getEncodedCursorShell( createdDate, shellId, true );
+   }
+
+   @Benchmark
+   public void decode( Blackhole blackhole ) {
+      final ShellCursor received = new ShellCursor( PAGE_SIZE, encodedCursor );
+      blackhole.consume( received.getShellSearchCursor() );
+      blackhole.consume( received.getShellSearchCursorId() );
+   }
+}
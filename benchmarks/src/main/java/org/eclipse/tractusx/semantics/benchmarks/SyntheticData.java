@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.tractusx.semantics.RegistryProperties;
+import org.eclipse.tractusx.semantics.aas.registry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.tractusx.semantics.aas.registry.model.AssetKind;
+import org.eclipse.tractusx.semantics.aas.registry.model.Endpoint;
+import org.eclipse.tractusx.semantics.aas.registry.model.Key;
+import org.eclipse.tractusx.semantics.aas.registry.model.KeyTypes;
+import org.eclipse.tractusx.semantics.aas.registry.model.ProtocolInformation;
+import org.eclipse.tractusx.semantics.aas.registry.model.Reference;
+import org.eclipse.tractusx.semantics.aas.registry.model.ReferenceTypes;
+import org.eclipse.tractusx.semantics.aas.registry.model.SpecificAssetId;
+import org.eclipse.tractusx.semantics.aas.registry.model.SubmodelDescriptor;
+import org.eclipse.tractusx.semantics.accesscontrol.api.model.ShellVisibilityContext;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.model.AccessRule;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.model.AccessRulePolicy;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.model.policy.AccessRulePolicyValue;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.model.policy.PolicyOperator;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.repository.AccessControlRuleRepository;
+import org.eclipse.tractusx.semantics.accesscontrol.sql.service.AccessRuleIndex;
+import org.eclipse.tractusx.semantics.registry.mapper.ShellMapper;
+import org.eclipse.tractusx.semantics.registry.mapper.ShellMapperImpl;
+import org.eclipse.tractusx.semantics.registry.mapper.SubmodelMapperImpl;
+import org.eclipse.tractusx.semantics.registry.model.Shell;
+
+/**
+ * Generates the access rules and shells used by the benchmarks. The cardinalities are chosen by the benchmarks, the data itself is
+ * deterministic so that the results of different runs are comparable.
+ * <p>
+ * Every tenant has {@code rulesPerBpn} rules, rule {@code i} requires the manufacturerPartId {@code MPN-i} and the customerPartId
+ * {@code CPN-i}. Shell {@code n} has the manufacturerPartId and customerPartId {@code n % (2 * rulesPerBpn)}, therefore half of the
+ * shells are visible to the {@link #READER} through exactly one rule while the other half is not matched by any rule. The remaining
+ * specificAssetIds of a shell are unique to the shell.
+ */
+final class SyntheticData {
+
+   static final String OWNER = "BPNL0000000OWNER";
+   static final String READER = "BPNL00000000000A";
+   static final String OTHER_TENANT = "BPNL00000000000B";
+   static final String PUBLIC_READABLE = "PUBLIC_READABLE";
+   static final String MANUFACTURER_PART_ID = "manufacturerPartId";
+   static final String CUSTOMER_PART_ID = "customerPartId";
+
+   private static final String ADDITIONAL_ID_PREFIX = "partInstanceId";
+   private static final String SEMANTIC_ID_PREFIX = "urn:samm:io.catenax.benchmark:1.0.0#Aspect";
+
+   private SyntheticData() {
+   }
+
+   static RegistryProperties registryProperties() {
+      final RegistryProperties registryProperties = new RegistryProperties();
+      registryProperties.getIdm().setOwningTenantId( OWNER );
+      registryProperties.setExternalSubjectIdWildcardPrefix( PUBLIC_READABLE );
+      registryProperties.setExternalSubjectIdWildcardAllowedTypes( List.of( MANUFACTURER_PART_ID, CUSTOMER_PART_ID ) );
+      return registryProperties;
+   }
+
+   /**
+    * @param rulesPerBpn the number of rules of the reader and of one further tenant
+    * @return the index of the rules, kept in memory like with the default configuration of the registry
+    */
+   static AccessRuleIndex accessRuleIndex( int rulesPerBpn ) {
+      final List<AccessRule> rules = IntStream.range( 0, 2 * rulesPerBpn )
+            .mapToObj( id -> accessRule( id, id < rulesPerBpn ? READER : OTHER_TENANT, id % rulesPerBpn ) )
+            .toList();
+      return new AccessRuleIndex( repositoryOf( rules ), PUBLIC_READABLE, List.of( MANUFACTURER_PART_ID, CUSTOMER_PART_ID ),
+            Duration.ofDays( 1 ) );
+   }
+
+   static ShellMapper shellMapper() {
+      return new ShellMapperImpl( new SubmodelMapperImpl() );
+   }
+
+   static List<Shell> shells( int count, int rulesPerBpn, int identifiersPerShell, int submodelsPerShell ) {
+      final ShellMapper shellMapper = shellMapper();
+      return IntStream.range( 0, count )
+            .mapToObj( index -> shellDescriptor( index, rulesPerBpn, identifiersPerShell, submodelsPerShell ) )
+            .map( shellMapper::fromApiDto )
+            .map( shell -> shell.withCreatedDate( Instant.EPOCH ) )
+            .toList();
+   }
+
+   static ShellVisibilityContext visibilityContext( Shell shell ) {
+      return new ShellVisibilityContext( shell.getIdExternal(), shell.getIdentifiers().stream()
+            .map( identifier -> new org.eclipse.tractusx.semantics.accesscontrol.api.model.SpecificAssetId( identifier.getKey(),
+                  identifier.getValue() ) )
+            .collect( Collectors.toSet() ) );
+   }
+
+   static String manufacturerPartIdOf( int shellIndex, int rulesPerBpn ) {
+      return "MPN-" + shellIndex % (2 * rulesPerBpn);
+   }
+
+   private static AccessRule accessRule( long id, String tenant, int index ) {
+      final AccessRulePolicy policy = new AccessRulePolicy();
+      policy.setAccessRules( Set.of(
+            new AccessRulePolicyValue( AccessRulePolicy.BPN_RULE_NAME, PolicyOperator.EQUALS, tenant, null ),
+            new AccessRulePolicyValue( AccessRulePolicy.MANDATORY_SPECIFIC_ASSET_IDS_RULE_NAME, PolicyOperator.INCLUDES, null, Set.of(
+                  new AccessRulePolicyValue( MANUFACTURER_PART_ID, PolicyOperator.EQUALS, "MPN-" + index, null ),
+                  new AccessRulePolicyValue( CUSTOMER_PART_ID, PolicyOperator.EQUALS, "CPN-" + index, null ) ) ),
+            new AccessRulePolicyValue( AccessRulePolicy.VISIBLE_SPECIFIC_ASSET_ID_NAMES_RULE_NAME, PolicyOperator.INCLUDES, null, Set.of(
+                  new AccessRulePolicyValue( "name", PolicyOperator.EQUALS, MANUFACTURER_PART_ID, null ),
+                  new AccessRulePolicyValue( "name", PolicyOperator.EQUALS, CUSTOMER_PART_ID, null ),
+                  new AccessRulePolicyValue( "name", PolicyOperator.EQUALS, ADDITIONAL_ID_PREFIX + 1, null ) ) ),
+            new AccessRulePolicyValue( AccessRulePolicy.VISIBLE_SEMANTIC_IDS_RULE_NAME, PolicyOperator.INCLUDES, null, Set.of(
+                  new AccessRulePolicyValue( "modelUrn", PolicyOperator.EQUALS, SEMANTIC_ID_PREFIX + 0, null ) ) ) ) );
+      final AccessRule accessRule = new AccessRule();
+      accessRule.setId( id );
+      accessRule.setTid( OWNER );
+      accessRule.setTargetTenant( tenant );
+      accessRule.setPolicyType( AccessRule.PolicyType.AAS );
+      accessRule.setPolicy( policy );
+      return accessRule;
+   }
+
+   /**
+    * The index only reads all rules at once, the other methods of the repository are not supported.
+    */
+   private static AccessControlRuleRepository repositoryOf( List<AccessRule> rules ) {
+      return (AccessControlRuleRepository) Proxy.newProxyInstance( AccessControlRuleRepository.class.getClassLoader(),
+            new Class<?>[] { AccessControlRuleRepository.class }, ( proxy, method, args ) -> {
+               if ( "findAll".equals( method.getName() ) && method.getParameterCount() == 0 ) {
+                  return rules;
+               }
+               throw new UnsupportedOperationException( method.getName() );
+            } );
+   }
+
+   private static AssetAdministrationShellDescriptor shellDescriptor( int index, int rulesPerBpn, int identifiersPerShell,
+         int submodelsPerShell ) {
+      final AssetAdministrationShellDescriptor descriptor = new AssetAdministrationShellDescriptor();
+      descriptor.setId( UUID.nameUUIDFromBytes( ("shell-" + index).getBytes( StandardCharsets.UTF_8 ) ).toString() );
+      descriptor.setIdShort( "shell" + index );
+      descriptor.setGlobalAssetId( "urn:uuid:global-asset-" + index );
+      descriptor.setAssetKind( AssetKind.INSTANCE );
+      descriptor.setAssetType( "AssetType" );
+
+      final List<SpecificAssetId> specificAssetIds = new ArrayList<>();
+      specificAssetIds.add( specificAssetId( MANUFACTURER_PART_ID, manufacturerPartIdOf( index, rulesPerBpn ), PUBLIC_READABLE ) );
+      specificAssetIds.add( specificAssetId( CUSTOMER_PART_ID, "CPN-" + index % (2 * rulesPerBpn), READER ) );
+      for ( int additional = 1; additional <= identifiersPerShell - 2; additional++ ) {
+         specificAssetIds.add( specificAssetId( ADDITIONAL_ID_PREFIX + additional, index + "-" + additional, READER ) );
+      }
+      descriptor.setSpecificAssetIds( specificAssetIds );
+
+      descriptor.setSubmodelDescriptors( IntStream.range( 0, submodelsPerShell )
+            .mapToObj( submodelIndex -> submodelDescriptor( index, submodelIndex ) )
+            .collect( Collectors.toCollection( ArrayList::new ) ) );
+      return descriptor;
+   }
+
+   private static SpecificAssetId specificAssetId( String name, String value, String externalSubjectId ) {
+      final SpecificAssetId specificAssetId = new SpecificAssetId();
+      specificAssetId.setName( name );
+      specificAssetId.setValue( value );
+      specificAssetId.setExternalSubjectId( reference( KeyTypes.GLOBALREFERENCE, externalSubjectId ) );
+      return specificAssetId;
+   }
+
+   private static SubmodelDescriptor submodelDescriptor( int shellIndex, int submodelIndex ) {
+      final ProtocolInformation protocolInformation = new ProtocolInformation();
+      protocolInformation.setHref( "https://edc.example.com/shells/" + shellIndex + "/submodels/" + submodelIndex );
+      protocolInformation.setEndpointProtocol( "HTTP" );
+      protocolInformation.setEndpointProtocolVersion( List.of( "1.1" ) );
+      protocolInformation.setSubprotocol( "DSP" );
+      protocolInformation.setSubprotocolBody( "id=" + shellIndex + "-" + submodelIndex + ";dspEndpoint=https://edc.example.com" );
+      protocolInformation.setSubprotocolBodyEncoding( "plain" );
+      final Endpoint endpoint = new Endpoint();
+      endpoint.setInterface( "SUBMODEL-3.0" );
+      endpoint.setProtocolInformation( protocolInformation );
+
+      final SubmodelDescriptor submodelDescriptor = new SubmodelDescriptor();
+      submodelDescriptor.setId( UUID.nameUUIDFromBytes( ("submodel-" + shellIndex + "-" + submodelIndex).getBytes( StandardCharsets.UTF_8 ) )
+            .toString() );
+      submodelDescriptor.setIdShort( "submodel" + submodelIndex );
+      submodelDescriptor.setSemanticId( reference( KeyTypes.SUBMODEL, SEMANTIC_ID_PREFIX + submodelIndex ) );
+      submodelDescriptor.setEndpoints( List.of( endpoint ) );
+      return submodelDescriptor;
+   }
+
+   private static Reference reference( KeyTypes keyType, String value ) {
+      final Key key = new Key();
+      key.setType( keyType );
+      key.setValue( value );
+      final Reference reference = new Reference();
+      reference.setType( ReferenceTypes.EXTERNALREFERENCE );
+      reference.setKeys( List.of( key ) );
+      return reference;
+   }
+}
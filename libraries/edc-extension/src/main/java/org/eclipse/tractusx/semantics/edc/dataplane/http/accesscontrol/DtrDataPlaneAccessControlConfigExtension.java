@@ -51,6 +51,20 @@ public class DtrDataPlaneAccessControlConfigExtension implements ServiceExtensio
     * Configuration property suffix for the URL where DTR can be reached.
     */
    public static final String DTR_ACCESS_VERIFICATION_URL = "dtr.access.verification.endpoint.url";
+   /**
+    * Configuration property suffix for the URL where the batch access verification of DTR can be reached. The checks are sent one by one
+    * if not set.
+    */
+   public static final String DTR_ACCESS_VERIFICATION_BATCH_URL = "dtr.access.verification.batch.endpoint.url";
+   /**
+    * Configuration property suffix for the number of milliseconds the concurrent checks of a BPN are collected before they are sent to
+    * the batch access verification together. The checks are sent one by one if set to 0.
+    */
+   public static final String DTR_ACCESS_VERIFICATION_BATCH_WINDOW_MILLIS = "dtr.access.verification.batch.window.millis";
+   /**
+    * Configuration property suffix for the maximum number of URLs sent to the batch access verification with one request.
+    */
+   public static final String DTR_ACCESS_VERIFICATION_BATCH_MAXIMUM_SIZE = "dtr.access.verification.batch.maximum.size";
    /**
     * Configuration property suffix for the URL where OAUTH2 tokens can be obtained for the DTR requests.
     */
@@ -33,6 +33,9 @@ public class HttpAccessControlCheckDtrClientConfig {
    private final String oauth2ClientId;
    private final String oauth2ClientSecretPath;
    private final int decisionCacheDurationMinutes;
+   private final String dtrAccessVerificationBatchUrl;
+   private final int batchWindowMillis;
+   private final int batchMaximumSize;
 
    public HttpAccessControlCheckDtrClientConfig( final Config context ) {
       aspectModelUrlPattern = context.getString( ASPECT_MODEL_URL_PATTERN, null );
@@ -42,6 +45,10 @@ public class HttpAccessControlCheckDtrClientConfig {
       oauth2ClientId = context.getString( OAUTH2_TOKEN_CLIENT_ID, null );
       oauth2ClientSecretPath = context.getString( OAUTH2_TOKEN_CLIENT_SECRET_PATH, null );
       decisionCacheDurationMinutes = context.getInteger( DTR_DECISION_CACHE_MINUTES, 0 );
+      dtrAccessVerificationBatchUrl = context.getString( DTR_ACCESS_VERIFICATION_BATCH_URL, null );
+      batchWindowMillis = context.getInteger( DTR_ACCESS_VERIFICATION_BATCH_WINDOW_MILLIS, 5 );
+      // the registry accepts at most 1000 URLs per batch
+      batchMaximumSize = Math.min( Math.max( context.getInteger( DTR_ACCESS_VERIFICATION_BATCH_MAXIMUM_SIZE, 100 ), 1 ), 1000 );
    }
 
    public String getAspectModelUrlPattern() {
@@ -71,4 +78,16 @@ public class HttpAccessControlCheckDtrClientConfig {
    public int getDecisionCacheDurationMinutes() {
       return decisionCacheDurationMinutes;
    }
+
+   public String getDtrAccessVerificationBatchUrl() {
+      return dtrAccessVerificationBatchUrl;
+   }
+
+   public int getBatchWindowMillis() {
+      return batchWindowMillis;
+   }
+
+   public int getBatchMaximumSize() {
+      return batchMaximumSize;
+   }
 }
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.edc.dataplane.http.accesscontrol.client;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.semantics.edc.dataplane.http.accesscontrol.AccessControlServiceException;
+
+/**
+ * Collects the concurrent access checks of a BPN and verifies them with a single request. The first check of a BPN opens a batch and
+ * waits for the configured window, the checks of the same BPN arriving meanwhile join the batch. The batch is sent by the first check
+ * once the window elapsed, or by the check filling it up to the maximum size. No thread is started, the checks wait for the response
+ * of their batch.
+ */
+class AccessVerificationCoalescer {
+
+   /**
+    * Verifies the access of a BPN to multiple URLs with a single request.
+    */
+   @FunctionalInterface
+   interface BatchVerification {
+
+      /**
+       * @param bpn           the BPN requesting the access
+       * @param requestedUrls the URLs requested by the BPN
+       * @return the URLs the BPN may access
+       */
+      Set<String> verify( String bpn, Set<String> requestedUrls );
+   }
+
+   private final Duration window;
+   private final int maximumBatchSize;
+   private final BatchVerification batchVerification;
+   private final ConcurrentMap<String, Batch> openBatches = new ConcurrentHashMap<>();
+
+   AccessVerificationCoalescer( final Duration window, final int maximumBatchSize, final BatchVerification batchVerification ) {
+      this.window = window;
+      this.maximumBatchSize = maximumBatchSize;
+      this.batchVerification = batchVerification;
+   }
+
+   boolean shouldAllowAccess( final RequestKey requestKey ) {
+      while ( true ) {
+         final Batch batch = openBatches.computeIfAbsent( requestKey.bpn(), Batch::new );
+         final Batch.Member member = batch.join( requestKey.requestedUrl() );
+         if ( member == null ) {
+            // the batch was closed right after it was looked up
+            continue;
+         }
+         if ( member.filledUp() ) {
+            send( batch );
+         } else if ( member.first() ) {
+            batch.awaitClose();
+            send( batch );
+         }
+         return await( member.decision() );
+      }
+   }
+
+   private void send( final Batch batch ) {
+      final Map<String, CompletableFuture<Boolean>> decisions = batch.close();
+      if ( decisions == null ) {
+         return;
+      }
+      openBatches.remove( batch.bpn, batch );
+      try {
+         final Set<String> allowedUrls = batchVerification.verify( batch.bpn, decisions.keySet() );
+         decisions.forEach( ( url, decision ) -> decision.complete( allowedUrls.contains( url ) ) );
+      } catch ( final RuntimeException exception ) {
+         decisions.values().forEach( decision -> decision.completeExceptionally( exception ) );
+      }
+   }
+
+   private boolean await( final CompletableFuture<Boolean> decision ) {
+      try {
+         return decision.join();
+      } catch ( final CompletionException exception ) {
+         if ( exception.getCause() instanceof AccessControlServiceException accessControlServiceException ) {
+            throw accessControlServiceException;
+         }
+         throw new AccessControlServiceException( exception.getCause() );
+      }
+   }
+
+   private final class Batch {
+      private final String bpn;
+      private final Map<String, CompletableFuture<Boolean>> decisions = new LinkedHashMap<>();
+      private boolean closed;
+
+      private Batch( final String bpn ) {
+         this.bpn = bpn;
+      }
+
+      /**
+       * @return the member of the batch waiting for the decision of the URL, null if the batch is already closed
+       */
+      private synchronized Member join( final String requestedUrl ) {
+         if ( closed ) {
+            return null;
+         }
+         final boolean first = decisions.isEmpty();
+         final CompletableFuture<Boolean> decision = decisions.computeIfAbsent( requestedUrl, url -> new CompletableFuture<>() );
+         return new Member( decision, first, decisions.size() >= maximumBatchSize );
+      }
+
+      /**
+       * Waits until the window of the batch elapsed or the batch was closed by the member filling it up.
+       */
+      private synchronized void awaitClose() {
+         final long deadline = System.nanoTime() + window.toNanos();
+         try {
+            long remaining = window.toNanos();
+            while ( !closed && remaining > 0 ) {
+               TimeUnit.NANOSECONDS.timedWait( this, remaining );
+               remaining = deadline - System.nanoTime();
+            }
+         } catch ( final InterruptedException exception ) {
+            // the batch is sent anyway, the other members of the batch are waiting for it
+            Thread.currentThread().interrupt();
+         }
+      }
+
+      /**
+       * @return the decisions to complete, null if the batch was already closed by another member
+       */
+      private synchronized Map<String, CompletableFuture<Boolean>> close() {
+         if ( closed ) {
+            return null;
+         }
+         closed = true;
+         notifyAll();
+         return decisions;
+      }
+
+      private record Member(CompletableFuture<Boolean> decision, boolean first, boolean filledUp) {
+      }
+   }
+}
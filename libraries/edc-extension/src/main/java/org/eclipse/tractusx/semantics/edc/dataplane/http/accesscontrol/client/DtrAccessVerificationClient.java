@@ -22,8 +22,10 @@ package org.eclipse.tractusx.semantics.edc.dataplane.http.accesscontrol.client;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -44,6 +46,7 @@ import okhttp3.MediaType;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
 
 public class DtrAccessVerificationClient implements HttpAccessVerificationClient {
    public static final String HEADER_EDC_BPN = "Edc-Bpn";
@@ -58,6 +61,7 @@ public class DtrAccessVerificationClient implements HttpAccessVerificationClient
    private final HttpAccessControlCheckDtrClientConfig dtrConfig;
    private final LoadingCache<String, String> tokenCache;
    private final Cache<RequestKey, Boolean> accessControlDecisionCache;
+   private final AccessVerificationCoalescer accessVerificationCoalescer;
 
    public DtrAccessVerificationClient(
          final Monitor monitor,
@@ -85,6 +89,12 @@ public class DtrAccessVerificationClient implements HttpAccessVerificationClient
                .expireAfterWrite( Duration.ofMinutes( cacheDurationMinutes ) )
                .build();
       }
+      if ( dtrConfig.getDtrAccessVerificationBatchUrl() == null || dtrConfig.getBatchWindowMillis() <= 0 ) {
+         this.accessVerificationCoalescer = null;
+      } else {
+         this.accessVerificationCoalescer = new AccessVerificationCoalescer(
+               Duration.ofMillis( dtrConfig.getBatchWindowMillis() ), dtrConfig.getBatchMaximumSize(), this::callDtrInBatch );
+      }
    }
 
    @Override
@@ -102,13 +112,20 @@ public class DtrAccessVerificationClient implements HttpAccessVerificationClient
             .orElseThrow( () -> new AccessControlServiceException( "Null BPN found." ) );
       final RequestKey key = new RequestKey( bpn, requestedUrl );
       if ( accessControlDecisionCache == null ) {
-         return this.callDtr( key );
+         return this.verifyAccess( key );
       } else {
          return accessControlDecisionCache.get(
-               key, this::callDtr );
+               key, this::verifyAccess );
       }
    }
 
+   private boolean verifyAccess( final RequestKey requestKey ) {
+      if ( accessVerificationCoalescer == null ) {
+         return callDtr( requestKey );
+      }
+      return accessVerificationCoalescer.shouldAllowAccess( requestKey );
+   }
+
    private boolean callDtr( final RequestKey requestKey ) {
       monitor.debug( "Check submodel-server access. DTR calling with requested URL: " + requestKey.requestedUrl() + " and BPN: " +requestKey.bpn() );
       final Request dtrRequest = getDtrRequest( requestKey );
@@ -121,6 +138,25 @@ public class DtrAccessVerificationClient implements HttpAccessVerificationClient
       }
    }
 
+   private Set<String> callDtrInBatch( final String bpn, final Set<String> requestedUrls ) {
+      monitor.debug( "Check submodel-server access. DTR calling in batch with " + requestedUrls.size() + " requested URLs and BPN: " + bpn );
+      final Request dtrRequest = getDtrRequest( dtrConfig.getDtrAccessVerificationBatchUrl(), bpn,
+            typeManager.writeValueAsString( new DtrAccessVerificationBatchRequest( List.copyOf( requestedUrls ) ) ) );
+      try ( Response response = httpClient.execute( dtrRequest ) ) {
+         final ResponseBody responseBody = response.body();
+         if ( !response.isSuccessful() || responseBody == null ) {
+            throw new AccessControlServiceException( "DTR batch access verification failed with status " + response.code() + "." );
+         }
+         final DtrAccessVerificationBatchResponse verification = typeManager.readValue( responseBody.string(),
+               DtrAccessVerificationBatchResponse.class );
+         return Set.copyOf( verification.authorizedSubmodelEndpointUrls() );
+      } catch ( final IOException exception ) {
+         monitor.debug( "Failed to execute DTR access in batch with " + requestedUrls.size() + " requested URLs and BPN: " + bpn );
+         monitor.severe( "Failed to execute DTR batch access verification request.", exception );
+         throw new AccessControlServiceException( exception );
+      }
+   }
+
    private boolean urlMatchesPattern( final String url, final String urlPattern ) {
       final Pattern pattern = Pattern.compile( urlPattern, Pattern.CASE_INSENSITIVE );
       final Matcher matcher = pattern.matcher( url );
@@ -141,16 +177,21 @@ public class DtrAccessVerificationClient implements HttpAccessVerificationClient
 
    @NotNull
    private Request getDtrRequest( final RequestKey requestKey ) {
+      return getDtrRequest( dtrConfig.getDtrAccessVerificationUrl(), requestKey.bpn(), createRequest( requestKey ) );
+   }
+
+   @NotNull
+   private Request getDtrRequest( final String url, final String bpn, final String requestBody ) {
       final String token = tokenCache.get( dtrConfig.getOauth2TokenScope() );
       if ( token == null ) {
          throw new AccessControlServiceException( "Token is null." );
       }
       final RequestBody body = RequestBody.create(
-            createRequest( requestKey ),
+            requestBody,
             MediaType.get( APPLICATION_JSON ) );
       return new Request.Builder()
-            .url( dtrConfig.getDtrAccessVerificationUrl() )
-            .addHeader( HEADER_EDC_BPN, requestKey.bpn() )
+            .url( url )
+            .addHeader( HEADER_EDC_BPN, bpn )
             .addHeader( AUTHORIZATION, "Bearer " + token )
             .addHeader( ACCEPT, APPLICATION_JSON )
             .addHeader( CONTENT_TYPE, APPLICATION_JSON )
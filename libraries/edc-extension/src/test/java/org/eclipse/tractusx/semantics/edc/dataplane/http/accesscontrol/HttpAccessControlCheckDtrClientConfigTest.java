@@ -61,6 +61,29 @@ class HttpAccessControlCheckDtrClientConfigTest {
       assertThat( actual ).isEqualTo( expected );
    }
 
+   @Test
+   void test_GetDtrAccessVerificationBatchUrl_ShouldReturnExpectedValue_WhenConfigurationWasSet() {
+      //given
+      final String expected = "http://dtr/submodel-descriptor/authorized/batch";
+      when( config.getString( eq( DTR_ACCESS_VERIFICATION_BATCH_URL ), isNull() ) ).thenReturn( expected );
+      underTest = new HttpAccessControlCheckDtrClientConfig( config );
+      //when
+      final String actual = underTest.getDtrAccessVerificationBatchUrl();
+      //then
+      assertThat( actual ).isEqualTo( expected );
+   }
+
+   @Test
+   void test_GetBatchMaximumSize_ShouldReturnLimitOfDtr_WhenConfigurationExceedsIt() {
+      //given
+      when( config.getInteger( eq( DTR_ACCESS_VERIFICATION_BATCH_MAXIMUM_SIZE ), anyInt() ) ).thenReturn( 5000 );
+      underTest = new HttpAccessControlCheckDtrClientConfig( config );
+      //when
+      final int actual = underTest.getBatchMaximumSize();
+      //then
+      assertThat( actual ).isEqualTo( 1000 );
+   }
+
    @Test
    void test_GetOauth2TokenEndpointUrl_ShouldReturnExpectedValue_WhenConfigurationWasSet() {
       //given
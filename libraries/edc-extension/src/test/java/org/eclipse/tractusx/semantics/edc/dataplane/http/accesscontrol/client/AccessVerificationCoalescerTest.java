@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Robert Bosch Manufacturing Solutions GmbH and others
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ******************************************************************************/
+
+package org.eclipse.tractusx.semantics.edc.dataplane.http.accesscontrol.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.tractusx.semantics.edc.dataplane.http.accesscontrol.AccessControlServiceException;
+import org.junit.jupiter.api.Test;
+
+class AccessVerificationCoalescerTest {
+   static final String BPN = "BPNL000000000001";
+   static final String OTHER_BPN = "BPNL000000000002";
+   static final String ALLOWED_URL = "http://localhost/edc-data/proxy/allowed";
+   static final String DENIED_URL = "http://localhost/edc-data/proxy/denied";
+
+   private final List<Set<String>> sentBatches = new CopyOnWriteArrayList<>();
+
+   @Test
+   void test_ShouldAllowAccess_ShouldSendOneBatch_WhenChecksOfSameBpnArriveWithinWindow() throws Exception {
+      //given
+      final var underTest = new AccessVerificationCoalescer( Duration.ofMillis( 200 ), 100, this::verify );
+      final List<String> urls = IntStream.range( 0, 10 ).mapToObj( index -> ALLOWED_URL + index ).toList();
+      //when
+      final List<Boolean> actual = checkConcurrently( underTest, BPN, urls );
+      //then
+      assertThat( actual ).containsOnly( true );
+      assertThat( sentBatches ).hasSize( 1 );
+      assertThat( sentBatches.get( 0 ) ).containsExactlyInAnyOrderElementsOf( urls );
+   }
+
+   @Test
+   void test_ShouldAllowAccess_ShouldReturnDecisionPerUrl_WhenBatchContainsAllowedAndDeniedUrls() throws Exception {
+      //given
+      final var underTest = new AccessVerificationCoalescer( Duration.ofMillis( 200 ), 100, this::verify );
+      //when
+      final List<Boolean> actual = checkConcurrently( underTest, BPN, List.of( ALLOWED_URL, DENIED_URL ) );
+      //then
+      assertThat( actual ).containsExactly( true, false );
+   }
+
+   @Test
+   void test_ShouldAllowAccess_ShouldSendBatchPerBpn_WhenChecksOfDifferentBpnsArrive() {
+      //given
+      final var underTest = new AccessVerificationCoalescer( Duration.ofMillis( 1 ), 100, this::verify );
+      //when
+      final boolean actual = underTest.shouldAllowAccess( new RequestKey( BPN, ALLOWED_URL ) );
+      final boolean actualOther = underTest.shouldAllowAccess( new RequestKey( OTHER_BPN, ALLOWED_URL ) );
+      //then
+      assertThat( actual ).isTrue();
+      assertThat( actualOther ).isTrue();
+      assertThat( sentBatches ).hasSize( 2 );
+   }
+
+   @Test
+   void test_ShouldAllowAccess_ShouldSendWithoutWaiting_WhenBatchIsFilledUp() {
+      //given
+      final var underTest = new AccessVerificationCoalescer( Duration.ofMinutes( 1 ), 1, this::verify );
+      //when
+      final boolean actual = underTest.shouldAllowAccess( new RequestKey( BPN, ALLOWED_URL ) );
+      //then
+      assertThat( actual ).isTrue();
+      assertThat( sentBatches ).hasSize( 1 );
+   }
+
+   @Test
+   void test_ShouldAllowAccess_ShouldThrowException_WhenBatchVerificationFails() {
+      //given
+      final var underTest = new AccessVerificationCoalescer( Duration.ofMillis( 1 ), 100, ( bpn, urls ) -> {
+         throw new AccessControlServiceException( "Token is null." );
+      } );
+      //when
+      assertThatExceptionOfType( AccessControlServiceException.class )
+            .isThrownBy( () -> underTest.shouldAllowAccess( new RequestKey( BPN, ALLOWED_URL ) ) )
+            .withMessage( "Token is null." );
+   }
+
+   private Set<String> verify( final String bpn, final Set<String> requestedUrls ) {
+      sentBatches.add( Set.copyOf( requestedUrls ) );
+      return requestedUrls.stream().filter( url -> url.startsWith( ALLOWED_URL ) ).collect( Collectors.toSet() );
+   }
+
+   private List<Boolean> checkConcurrently( final AccessVerificationCoalescer underTest, final String bpn, final List<String> urls )
+         throws Exception {
+      final ExecutorService executor = Executors.newFixedThreadPool( urls.size() );
+      try {
+         final List<Future<Boolean>> decisions = urls.stream()
+               .map( url -> executor.submit( () -> underTest.shouldAllowAccess( new RequestKey( bpn, url ) ) ) )
+               .toList();
+         final List<Boolean> actual = new ArrayList<>();
+         for ( final Future<Boolean> decision : decisions ) {
+            actual.add( decision.get() );
+         }
+         return actual;
+      } finally {
+         executor.shutdownNow();
+      }
+   }
+}
@@ -26,6 +26,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -50,6 +51,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
 import okio.Buffer;
 
 class DtrAccessVerificationClientTest {
@@ -61,6 +63,9 @@ class DtrAccessVerificationClientTest {
    static final String LOCALHOST_ACCESS_VERIFICATION = "https://localhost/access-verification";
    static final String LOCALHOST_EDC_DATA_PROXY = "http://localhost/edc-data/proxy";
    static final String REQUEST_FORMAT = "{\"submodelEndpointUrl\":\"%s\"}";
+   static final String LOCALHOST_ACCESS_VERIFICATION_BATCH = "https://localhost/access-verification/batch";
+   static final String BATCH_REQUEST_FORMAT = "{\"submodelEndpointUrls\":[\"%s\"]}";
+   static final String BATCH_RESPONSE_FORMAT = "{\"authorizedSubmodelEndpointUrls\":[\"%s\"]}";
    static final String REQUESTED_URI_PATH = "/request/path";
    static final String REQUESTED_QUERY_STRING = "queryParam=true";
 
@@ -245,6 +250,42 @@ class DtrAccessVerificationClientTest {
       verify( httpResponse, never() ).isSuccessful();
    }
 
+   @SuppressWarnings( "resource" )
+   @ParameterizedTest
+   @ValueSource( ints = { 0, 1 } )
+   void test_ShouldAllowAccess_ShouldCallBatchVerification_WhenBatchUrlIsConfigured(
+         final int cacheForMinutes ) throws IOException {
+      //given
+      final Map<String, String> additionalHeaders = Map.of( HEADER_EDC_BPN, BPN );
+      final String targetUrl = LOCALHOST_EDC_DATA_PROXY + REQUESTED_URI_PATH + "?" + REQUESTED_QUERY_STRING;
+      final String batchResponse = BATCH_RESPONSE_FORMAT.formatted( targetUrl );
+      when( dtrConfig.getDtrAccessVerificationBatchUrl() ).thenReturn( LOCALHOST_ACCESS_VERIFICATION_BATCH );
+      when( dtrConfig.getBatchWindowMillis() ).thenReturn( 1 );
+      when( dtrConfig.getBatchMaximumSize() ).thenReturn( 100 );
+      when( dtrConfig.getDecisionCacheDurationMinutes() ).thenReturn( cacheForMinutes );
+      when( config.getEdcDataPlaneBaseUrl() ).thenReturn( LOCALHOST_EDC_DATA_PROXY );
+      when( dtrConfig.getOauth2TokenScope() ).thenReturn( SCOPE );
+      when( tokenClient.getBearerToken( SCOPE ) ).thenReturn( DUMMY_TOKEN );
+      when( typeManager.writeValueAsString( any( DtrAccessVerificationBatchRequest.class ) ) )
+            .thenReturn( BATCH_REQUEST_FORMAT.formatted( targetUrl ) );
+      when( typeManager.readValue( batchResponse, DtrAccessVerificationBatchResponse.class ) )
+            .thenReturn( new DtrAccessVerificationBatchResponse( List.of( targetUrl ) ) );
+      final ResponseBody responseBody = mock();
+      when( responseBody.string() ).thenReturn( batchResponse );
+      when( httpClient.execute( argThat( request -> LOCALHOST_ACCESS_VERIFICATION_BATCH.equals( request.url().url().toString() ) ) ) )
+            .thenReturn( httpResponse );
+      when( httpResponse.isSuccessful() ).thenReturn( true );
+      when( httpResponse.body() ).thenReturn( responseBody );
+      final var underTest = new DtrAccessVerificationClient( monitor, httpClient, tokenClient, typeManager, config, dtrConfig );
+      //when
+      final boolean actual = underTest.shouldAllowAccess( REQUESTED_URI_PATH, REQUESTED_QUERY_STRING, additionalHeaders );
+      //then
+      assertThat( actual ).isTrue();
+      verify( typeManager ).writeValueAsString( new DtrAccessVerificationBatchRequest( List.of( targetUrl ) ) );
+      verify( typeManager, never() ).writeValueAsString( any( DtrAccessVerificationRequest.class ) );
+      verify( httpClient ).execute( any() );
+   }
+
    private record RequestMatcher(String url, String bpn, String authorization, String targetUrl) implements ArgumentMatcher<Request> {
       @SuppressWarnings( "DataFlowIssue" )
       @Override